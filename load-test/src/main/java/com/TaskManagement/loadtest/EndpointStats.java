@@ -0,0 +1,66 @@
+package com.TaskManagement.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and status codes of one operation. Every sample is kept so percentiles are exact.
+ */
+class EndpointStats {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> statuses = new TreeMap<>();
+
+    synchronized void record(long latencyMicros, int status) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        statuses.merge(Integer.toString(status), 1L, Long::sum);
+        if (status < 200 || status >= 300) {
+            errors++;
+        }
+    }
+
+    synchronized void recordFailure(long latencyMicros, Exception exception) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        statuses.merge(exception.getClass().getSimpleName(), 1L, Long::sum);
+        errors++;
+    }
+
+    synchronized Map<String, Object> summary(double seconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", count == 0 ? 0.0 : round((double) errors / count));
+        summary.put("throughputPerSecond", round(count / seconds));
+        summary.put("p50Ms", percentileMillis(sorted, 0.50));
+        summary.put("p95Ms", percentileMillis(sorted, 0.95));
+        summary.put("p99Ms", percentileMillis(sorted, 0.99));
+        summary.put("maxMs", count == 0 ? 0.0 : round(sorted[count - 1] / 1000.0));
+        summary.put("statuses", new TreeMap<>(statuses));
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return round(sorted[Math.max(index, 0)] / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
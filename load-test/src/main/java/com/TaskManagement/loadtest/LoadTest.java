@@ -0,0 +1,156 @@
+package com.TaskManagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-model load generator: seeds users and tasks, then {@code concurrency} workers replay the
+ * configured operation mix for warmup + duration and the measured window is written as JSON.
+ *
+ * <p>Start the API with rate limiting off, otherwise most of the run measures 429s:
+ * {@code ./mvnw spring-boot:run -Dspring-boot.run.arguments=--app.rate-limit.enabled=false}
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ApiClient client = new ApiClient(config.baseUrl(), objectMapper);
+        String adminAuthorization = ApiClient.basicAuth(config.adminUsername(), config.adminPassword());
+
+        System.out.printf("Seeding %d users and %d tasks against %s%n", config.users(), config.tasks(), config.baseUrl());
+        long seedStart = System.nanoTime();
+        SeededData data = new Seeder(client, config, adminAuthorization).seed();
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+        System.out.printf("Seeded in %.1f s%n", seedSeconds);
+
+        List<Map<String, Object>> reports = new ArrayList<>();
+        for (String readUrl : config.readUrls()) {
+            ApiClient readClient = readUrl.equals(config.baseUrl()) ? client : new ApiClient(readUrl, objectMapper);
+            System.out.printf("%nReads against %s%n", readUrl);
+            Map<Operation, EndpointStats> stats = run(config, new Workload(client, readClient, data, adminAuthorization));
+            reports.add(report(config, readUrl, stats, seedSeconds));
+            print(stats, config.duration().toSeconds());
+        }
+
+        Files.createDirectories(config.output().toAbsolutePath().getParent());
+        // One read URL keeps the single-report format that earlier reports were written in
+        objectMapper.writeValue(config.output().toFile(), reports.size() == 1 ? reports.get(0) : reports);
+        System.out.println("Report written to " + config.output().toAbsolutePath());
+    }
+
+    private static Map<Operation, EndpointStats> run(LoadTestConfig config, Workload workload)
+            throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        config.mix().keySet().forEach(operation -> stats.put(operation, new EndpointStats()));
+        Operation[] schedule = schedule(config.mix());
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        System.out.printf("Running %d workers for %d s (+%d s warmup)%n",
+                config.concurrency(), config.duration().toSeconds(), config.warmup().toSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            Random random = new Random(config.seed() * 31 + i);
+            workers.submit(() -> {
+                while (System.nanoTime() < end) {
+                    Operation operation = schedule[random.nextInt(schedule.length)];
+                    long before = System.nanoTime();
+                    try {
+                        int status = workload.execute(operation, random).status();
+                        if (before >= measureFrom) {
+                            stats.get(operation).record((System.nanoTime() - before) / 1000, status);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        if (before >= measureFrom) {
+                            stats.get(operation).recordFailure((System.nanoTime() - before) / 1000, e);
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(config.warmup().plus(config.duration()).toSeconds() + 60, TimeUnit.SECONDS);
+        return stats;
+    }
+
+    // One slot per weight unit, so picking a random slot follows the mix
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    private static Map<String, Object> report(LoadTestConfig config, String readUrl,
+                                              Map<Operation, EndpointStats> stats, double seedSeconds) {
+        double seconds = config.duration().toSeconds();
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", config.baseUrl());
+        settings.put("readUrl", readUrl);
+        settings.put("users", config.users());
+        settings.put("tasks", config.tasks());
+        settings.put("concurrency", config.concurrency());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((operation, weight) -> mix.put(operation.getReportName(), weight));
+        settings.put("mix", mix);
+        settings.put("seed", config.seed());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> summary = entry.getValue().summary(seconds);
+            endpoints.put(entry.getKey().getReportName(), summary);
+            requests += ((Number) summary.get("requests")).longValue();
+            errors += ((Number) summary.get("errors")).longValue();
+        }
+
+        Map<String, Object> total = new LinkedHashMap<>();
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("errorRate", requests == 0 ? 0.0 : Math.round(errors * 1000.0 / requests) / 1000.0);
+        total.put("throughputPerSecond", Math.round(requests * 1000.0 / seconds) / 1000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", settings);
+        report.put("seedSeconds", Math.round(seedSeconds * 10) / 10.0);
+        report.put("total", total);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static void print(Map<Operation, EndpointStats> stats, double seconds) {
+        System.out.printf("%n%-18s %9s %9s %10s %9s %9s%n", "endpoint", "requests", "req/s", "error rate", "p50 ms", "p99 ms");
+        stats.forEach((operation, endpointStats) -> {
+            Map<String, Object> summary = endpointStats.summary(seconds);
+            System.out.printf("%-18s %9s %9s %10s %9s %9s%n", operation.getReportName(),
+                    summary.get("requests"), summary.get("throughputPerSecond"), summary.get("errorRate"),
+                    summary.get("p50Ms"), summary.get("p99Ms"));
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.TaskManagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Run settings, given as key=value program arguments; every key has a default.
+ * Seeding and writes always go to baseUrl. Reads go to each of readUrls in turn, one measured run per URL
+ * on the same seeded data, so a second read tier (e.g. reactive-api) can be compared with the servlet API.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        List<String> readUrls,
+        String adminUsername,
+        String adminPassword,
+        int users,
+        int tasks,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        long seed,
+        Path output) {
+
+    static final String DEFAULT_MIX =
+            "findAll:40,search:15,findById:25,createTask:8,markAsCompleted:7,assignTaskToUser:5";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        String baseUrl = values.getOrDefault("baseUrl", "http://localhost:8080");
+        return new LoadTestConfig(
+                baseUrl,
+                List.of(values.getOrDefault("readUrls", baseUrl).split(",")),
+                values.getOrDefault("adminUsername", "admin"),
+                values.getOrDefault("adminPassword", "admin123"),
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Integer.parseInt(values.getOrDefault("tasks", "500")),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("output", "target/load-test-report.json")));
+    }
+
+    /**
+     * "findAll:40,search:15" -> weights per operation; operations left out are not called
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight cannot be negative: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must contain at least one positive weight");
+        }
+        return weights;
+    }
+}
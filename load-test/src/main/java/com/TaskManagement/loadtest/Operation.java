@@ -0,0 +1,34 @@
+package com.TaskManagement.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The API calls the driver replays, named after the TaskService methods they end up in
+ */
+public enum Operation {
+    FIND_ALL("findAll"),
+    SEARCH("search"),
+    FIND_BY_COMPLETED("findByCompleted"),
+    FIND_BY_PRIORITY("findByPriority"),
+    FIND_BY_ID("findById"),
+    CREATE_TASK("createTask"),
+    MARK_AS_COMPLETED("markAsCompleted"),
+    ASSIGN_TASK_TO_USER("assignTaskToUser");
+
+    private final String reportName;
+
+    Operation(String reportName) {
+        this.reportName = reportName;
+    }
+
+    public String getReportName() {
+        return reportName;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.reportName.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + name));
+    }
+}
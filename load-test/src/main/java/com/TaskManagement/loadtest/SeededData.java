@@ -0,0 +1,42 @@
+package com.TaskManagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Users and tasks created for this run. Task ids grow while the run creates tasks.
+ */
+class SeededData {
+
+    record SeededUser(long id, String username, String authorization) {
+    }
+
+    private final List<SeededUser> users;
+    private final List<Long> taskIds;
+
+    SeededData(List<SeededUser> users, List<Long> taskIds) {
+        this.users = List.copyOf(users);
+        this.taskIds = new ArrayList<>(taskIds);
+    }
+
+    List<SeededUser> users() {
+        return users;
+    }
+
+    SeededUser randomUser(Random random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    synchronized long randomTaskId(Random random) {
+        return taskIds.get(random.nextInt(taskIds.size()));
+    }
+
+    synchronized void addTask(long id) {
+        taskIds.add(id);
+    }
+
+    synchronized int taskCount() {
+        return taskIds.size();
+    }
+}
@@ -0,0 +1,88 @@
+package com.TaskManagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Creates the users and tasks of a run through the public API, the way DataInitializer seeds dev.
+ * Usernames carry a run tag so repeated runs against the same database do not collide.
+ */
+class Seeder {
+
+    static final String PASSWORD = "loadtest123";
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final String adminAuthorization;
+
+    Seeder(ApiClient client, LoadTestConfig config, String adminAuthorization) {
+        this.client = client;
+        this.config = config;
+        this.adminAuthorization = adminAuthorization;
+    }
+
+    SeededData seed() throws Exception {
+        String runTag = Long.toString(System.currentTimeMillis(), 36);
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+        try {
+            List<SeededData.SeededUser> users = registerUsers(executor, runTag);
+            SeededData data = new SeededData(users, List.of());
+            createTasks(executor, data);
+            return data;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<SeededData.SeededUser> registerUsers(ExecutorService executor, String runTag) throws Exception {
+        List<Future<SeededData.SeededUser>> futures = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            String username = "lt-" + runTag + "-" + i;
+            futures.add(executor.submit(() -> register(username)));
+        }
+
+        List<SeededData.SeededUser> users = new ArrayList<>(futures.size());
+        for (Future<SeededData.SeededUser> future : futures) {
+            users.add(future.get());
+        }
+        return users;
+    }
+
+    private SeededData.SeededUser register(String username) throws Exception {
+        Map<String, String> request = Map.of(
+                "username", username,
+                "password", PASSWORD,
+                "email", username + "@loadtest.local");
+        ApiClient.Response response = client.post("/api/auth/register", null, request);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Registering " + username + " failed with "
+                    + response.status() + ": " + response.body());
+        }
+        JsonNode body = client.json(response);
+        return new SeededData.SeededUser(body.get("id").asLong(), username, ApiClient.basicAuth(username, PASSWORD));
+    }
+
+    private void createTasks(ExecutorService executor, SeededData data) throws Exception {
+        Workload workload = new Workload(client, data, adminAuthorization);
+        List<Future<ApiClient.Response>> futures = new ArrayList<>(config.tasks());
+        for (int i = 0; i < config.tasks(); i++) {
+            Random random = new Random(config.seed() + i);
+            futures.add(executor.submit(() -> workload.createTask(random)));
+        }
+
+        for (Future<ApiClient.Response> future : futures) {
+            ApiClient.Response response = future.get();
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("Creating a task failed with "
+                        + response.status() + ": " + response.body());
+            }
+        }
+    }
+}
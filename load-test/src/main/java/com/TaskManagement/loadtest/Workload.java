@@ -0,0 +1,97 @@
+package com.TaskManagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds and sends one request per operation. Reads run as a random seeded user against the read client,
+ * writes as the team leader because every write endpoint requires ROLE_TEAM_LEADER.
+ */
+class Workload {
+
+    static final List<String> WORDS = List.of(
+            "report", "review", "deploy", "invoice", "migration", "backup", "release", "meeting",
+            "onboarding", "audit", "budget", "roadmap", "incident", "design", "refactor", "customer");
+
+    private static final List<String> PRIORITIES = List.of("LOW", "MEDIUM", "HIGH");
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    private static final int PAGE_SIZE = 20;
+
+    private final ApiClient client;
+    private final ApiClient readClient;
+    private final SeededData data;
+    private final String adminAuthorization;
+
+    Workload(ApiClient client, SeededData data, String adminAuthorization) {
+        this(client, client, data, adminAuthorization);
+    }
+
+    Workload(ApiClient client, ApiClient readClient, SeededData data, String adminAuthorization) {
+        this.client = client;
+        this.readClient = readClient;
+        this.data = data;
+        this.adminAuthorization = adminAuthorization;
+    }
+
+    ApiClient.Response execute(Operation operation, Random random) throws IOException, InterruptedException {
+        String reader = data.randomUser(random).authorization();
+
+        return switch (operation) {
+            case FIND_ALL -> readClient.get("/api/tasks?page=" + page(random) + "&size=" + PAGE_SIZE, reader);
+            case SEARCH -> readClient.get("/api/tasks/search?query=" + word(random) + "&size=" + PAGE_SIZE, reader);
+            case FIND_BY_COMPLETED -> readClient.get("/api/tasks/completed?completed=" + (random.nextInt(4) == 0)
+                    + "&size=" + PAGE_SIZE, reader);
+            case FIND_BY_PRIORITY -> readClient.get("/api/tasks/priority/"
+                    + PRIORITIES.get(random.nextInt(PRIORITIES.size())) + "?size=" + PAGE_SIZE, reader);
+            case FIND_BY_ID -> readClient.get("/api/tasks/" + data.randomTaskId(random), reader);
+            case CREATE_TASK -> createTask(random);
+            case MARK_AS_COMPLETED -> client.put("/api/tasks/" + data.randomTaskId(random)
+                    + "/complete?completed=" + (random.nextInt(4) != 0), adminAuthorization);
+            case ASSIGN_TASK_TO_USER -> client.put("/api/tasks/" + data.randomTaskId(random)
+                    + "/assign/" + data.randomUser(random).id(), adminAuthorization);
+        };
+    }
+
+    ApiClient.Response createTask(Random random) throws IOException, InterruptedException {
+        ApiClient.Response response = client.post("/api/tasks", adminAuthorization, randomTask(random));
+        if (response.isSuccess()) {
+            JsonNode body = client.json(response);
+            data.addTask(body.get("id").asLong());
+        }
+        return response;
+    }
+
+    Map<String, Object> randomTask(Random random) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", capitalize(word(random)) + " " + word(random) + " #" + random.nextInt(100_000));
+        task.put("description", "Follow up on the " + word(random) + " and the " + word(random));
+        task.put("priority", PRIORITIES.get(random.nextInt(PRIORITIES.size())));
+        task.put("dueDate", LocalDateTime.now().plusHours(1 + random.nextInt(24 * 60)).format(DUE_DATE_FORMAT));
+        // Roughly a third of the backlog is unassigned
+        if (random.nextInt(3) != 0) {
+            task.put("userId", data.randomUser(random).id());
+        }
+        return task;
+    }
+
+    // Most people only look at the first page
+    private int page(Random random) {
+        int pages = Math.max(1, data.taskCount() / PAGE_SIZE);
+        return random.nextInt(10) < 7 ? 0 : random.nextInt(pages);
+    }
+
+    private static String word(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.TaskManagement.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+/**
+ * Read-only WebFlux tier over the tables of the Task Management API. Writes stay on the servlet API;
+ * this application only streams task lists for dashboards that poll at high concurrency.
+ */
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class ReactiveApiApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApiApplication.class, args);
+    }
+}
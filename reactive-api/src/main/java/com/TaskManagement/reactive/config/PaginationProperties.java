@@ -0,0 +1,12 @@
+package com.TaskManagement.reactive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxSize largest page a client may stream. Higher than the servlet API's 100 because rows are
+ *                written as they arrive instead of being collected into one JSON document.
+ */
+@ConfigurationProperties(prefix = "app.pagination")
+public record PaginationProperties(@DefaultValue("1000") int maxSize) {
+}
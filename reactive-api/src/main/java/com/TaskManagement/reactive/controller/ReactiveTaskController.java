@@ -0,0 +1,64 @@
+package com.TaskManagement.reactive.controller;
+
+import com.TaskManagement.reactive.dto.TaskResponse;
+import com.TaskManagement.reactive.entity.Priority;
+import com.TaskManagement.reactive.service.TaskStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming counterparts of TaskController's list endpoints. Each task is written as one NDJSON line
+ * as soon as the driver produces it; there is no page envelope and no total count.
+ */
+@RestController
+@RequestMapping(value = "/api/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+public class ReactiveTaskController {
+
+    private final TaskStreamService taskStreamService;
+
+    public ReactiveTaskController(TaskStreamService taskStreamService) {
+        this.taskStreamService = taskStreamService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public Flux<TaskResponse> findAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return taskStreamService.findAll(page, size);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public Flux<TaskResponse> search(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return taskStreamService.search(query, page, size);
+    }
+
+    @GetMapping("/completed")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public Flux<TaskResponse> findByCompleted(
+            @RequestParam boolean completed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return taskStreamService.findByCompleted(completed, page, size);
+    }
+
+    @GetMapping("/priority/{priority}")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public Flux<TaskResponse> findByPriority(
+            @PathVariable Priority priority,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return taskStreamService.findByPriority(priority, completed, page, size);
+    }
+}
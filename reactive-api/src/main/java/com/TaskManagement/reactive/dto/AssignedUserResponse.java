@@ -0,0 +1,4 @@
+package com.TaskManagement.reactive.dto;
+
+public record AssignedUserResponse(Long id, String username, String role) {
+}
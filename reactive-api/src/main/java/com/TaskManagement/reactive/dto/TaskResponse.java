@@ -0,0 +1,21 @@
+package com.TaskManagement.reactive.dto;
+
+import com.TaskManagement.reactive.entity.Priority;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Same JSON shape as the servlet API's TaskResponse, one per NDJSON line
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskResponse(
+        Long id,
+        String title,
+        String description,
+        Boolean completed,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime dueDate,
+        Priority priority,
+        AssignedUserResponse assignedUser) {
+}
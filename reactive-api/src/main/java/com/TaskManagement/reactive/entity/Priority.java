@@ -0,0 +1,7 @@
+package com.TaskManagement.reactive.entity;
+
+public enum Priority {
+    LOW,
+    MEDIUM,
+    HIGH
+}
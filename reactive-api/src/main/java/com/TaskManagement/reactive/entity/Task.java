@@ -0,0 +1,22 @@
+package com.TaskManagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the tasks table owned by the servlet API. Only the columns the read endpoints need are mapped;
+ * this application never writes it.
+ */
+@Table("tasks")
+public record Task(
+        @Id Long id,
+        String title,
+        String description,
+        boolean completed,
+        LocalDateTime dueDate,
+        Priority priority,
+        Long userId,
+        LocalDateTime deletedAt) {
+}
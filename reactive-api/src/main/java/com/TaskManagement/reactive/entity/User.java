@@ -0,0 +1,15 @@
+package com.TaskManagement.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Credentials and role from the users table, read for HTTP Basic authentication
+ */
+@Table("users")
+public record User(
+        @Id Long id,
+        String username,
+        String password,
+        String role) {
+}
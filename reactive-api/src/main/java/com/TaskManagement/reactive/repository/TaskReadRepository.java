@@ -0,0 +1,48 @@
+package com.TaskManagement.reactive.repository;
+
+import com.TaskManagement.reactive.entity.Task;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+
+/**
+ * Read queries of the streaming endpoints. Soft-deleted rows are skipped like the servlet API's
+ * SQLRestriction does, and pages are ordered by (due_date, id) so offsets are stable.
+ */
+public interface TaskReadRepository extends Repository<Task, Long> {
+
+    String SELECT_ROWS = """
+            SELECT t.id, t.title, t.description, t.completed, t.due_date, t.priority,
+                   u.id AS assignee_id, u.username AS assignee_username, u.role AS assignee_role
+            FROM tasks t LEFT JOIN users u ON u.id = t.user_id
+            WHERE t.deleted_at IS NULL
+            """;
+
+    String PAGE = " ORDER BY t.due_date, t.id LIMIT :limit OFFSET :offset";
+
+    // Drivers bind strings as text/CLOB, which H2 will not compare with its native ENUM column
+    String PRIORITY = " AND t.priority = CAST(:priority AS VARCHAR(10))";
+
+    @Query(SELECT_ROWS + PAGE)
+    Flux<TaskRow> findPage(@Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * @param pattern lower-cased LIKE pattern with the wildcards of the query escaped by a backslash, e.g. %report%
+     */
+    @Query(SELECT_ROWS + " AND (LOWER(t.title) LIKE :pattern ESCAPE '\\' OR LOWER(t.description) LIKE :pattern ESCAPE '\\')"
+            + PAGE)
+    Flux<TaskRow> search(@Param("pattern") String pattern, @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(SELECT_ROWS + " AND t.completed = :completed" + PAGE)
+    Flux<TaskRow> findByCompleted(@Param("completed") boolean completed,
+                                  @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(SELECT_ROWS + PRIORITY + PAGE)
+    Flux<TaskRow> findByPriority(@Param("priority") String priority,
+                                 @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(SELECT_ROWS + PRIORITY + " AND t.completed = :completed" + PAGE)
+    Flux<TaskRow> findByPriorityAndCompleted(@Param("priority") String priority, @Param("completed") boolean completed,
+                                             @Param("limit") int limit, @Param("offset") long offset);
+}
@@ -0,0 +1,20 @@
+package com.TaskManagement.reactive.repository;
+
+import com.TaskManagement.reactive.entity.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task joined with its assignee in one row, so a streamed page needs no second query per task
+ */
+public record TaskRow(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        LocalDateTime dueDate,
+        Priority priority,
+        Long assigneeId,
+        String assigneeUsername,
+        String assigneeRole) {
+}
@@ -0,0 +1,10 @@
+package com.TaskManagement.reactive.repository;
+
+import com.TaskManagement.reactive.entity.User;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Mono;
+
+public interface UserRepository extends Repository<User, Long> {
+
+    Mono<User> findByUsername(String username);
+}
@@ -0,0 +1,105 @@
+package com.TaskManagement.reactive.service;
+
+import com.TaskManagement.reactive.config.PaginationProperties;
+import com.TaskManagement.reactive.dto.AssignedUserResponse;
+import com.TaskManagement.reactive.dto.TaskResponse;
+import com.TaskManagement.reactive.entity.Priority;
+import com.TaskManagement.reactive.repository.TaskReadRepository;
+import com.TaskManagement.reactive.repository.TaskRow;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Locale;
+
+/**
+ * Streams pages of tasks straight from the driver. Rows are mapped one at a time as the subscriber
+ * requests them, so a slow client holds back the database cursor instead of filling the heap.
+ */
+@Service
+public class TaskStreamService {
+
+    private final TaskReadRepository taskReadRepository;
+    private final PaginationProperties pagination;
+
+    public TaskStreamService(TaskReadRepository taskReadRepository, PaginationProperties pagination) {
+        this.taskReadRepository = taskReadRepository;
+        this.pagination = pagination;
+    }
+
+    /**
+     * Streams one page of all tasks
+     * @param page zero-based page index
+     * @param size page size, at most app.pagination.max-size
+     * @return the tasks of the page, ordered by due date
+     * @throws IllegalArgumentException if page or size is out of range
+     */
+    public Flux<TaskResponse> findAll(int page, int size) {
+        validate(page, size);
+        return taskReadRepository.findPage(size, offset(page, size)).map(this::toResponse);
+    }
+
+    /**
+     * Streams one page of tasks whose title or description contains the query, ignoring case
+     * @throws IllegalArgumentException if the query is blank or page or size is out of range
+     */
+    public Flux<TaskResponse> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        validate(page, size);
+        String pattern = "%" + escapeLike(query.toLowerCase(Locale.ROOT)) + "%";
+        return taskReadRepository.search(pattern, size, offset(page, size)).map(this::toResponse);
+    }
+
+    /**
+     * Streams one page of tasks with the given completion status
+     * @throws IllegalArgumentException if page or size is out of range
+     */
+    public Flux<TaskResponse> findByCompleted(boolean completed, int page, int size) {
+        validate(page, size);
+        return taskReadRepository.findByCompleted(completed, size, offset(page, size)).map(this::toResponse);
+    }
+
+    /**
+     * Streams one page of tasks with the given priority
+     * @param completed optional completion status to narrow the page to
+     * @throws IllegalArgumentException if page or size is out of range
+     */
+    public Flux<TaskResponse> findByPriority(Priority priority, Boolean completed, int page, int size) {
+        validate(page, size);
+        long offset = offset(page, size);
+        Flux<TaskRow> rows = completed == null
+                ? taskReadRepository.findByPriority(priority.name(), size, offset)
+                : taskReadRepository.findByPriorityAndCompleted(priority.name(), completed, size, offset);
+        return rows.map(this::toResponse);
+    }
+
+    private void validate(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must be zero or positive");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least one");
+        }
+        if (size > pagination.maxSize()) {
+            throw new IllegalArgumentException("Page size must not be greater than " + pagination.maxSize());
+        }
+    }
+
+    // Same escaping as the servlet API's TaskSpecifications, so %, _ and \ in a query match literally
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static long offset(int page, int size) {
+        return (long) page * size;
+    }
+
+    private TaskResponse toResponse(TaskRow row) {
+        AssignedUserResponse assignee = row.assigneeId() == null
+                ? null
+                : new AssignedUserResponse(row.assigneeId(), row.assigneeUsername(), row.assigneeRole());
+        return new TaskResponse(row.id(), row.title(), row.description(), row.completed(), row.dueDate(),
+                row.priority(), assignee);
+    }
+}
@@ -0,0 +1,15 @@
+-- Same demo accounts as the servlet API's DataInitializer: admin/admin123, john_doe/user123, jane_smith/user123
+INSERT INTO users (username, password, email, role, created_at) VALUES
+    ('admin', '$2a$10$GvbAxPdb74buHS8YRQxuNuBts2puFe/i1JdzjFT1BsuoWpsR9DSye', 'admin@example.com', 'TEAM_LEADER', CURRENT_TIMESTAMP),
+    ('john_doe', '$2a$10$vuj.jb6diCnwG40sk0Gv7eLAcLt8JDlQfIEGFh4iEAomDDoI8GBIS', 'john@example.com', 'USER', CURRENT_TIMESTAMP),
+    ('jane_smith', '$2a$10$vuj.jb6diCnwG40sk0Gv7eLAcLt8JDlQfIEGFh4iEAomDDoI8GBIS', 'jane@example.com', 'USER', CURRENT_TIMESTAMP);
+
+INSERT INTO tasks (title, description, completed, due_date, priority, user_id, created_at) VALUES
+    ('Review project proposal', 'Review and provide feedback on the new project proposal', FALSE,
+     DATEADD('DAY', 2, CURRENT_TIMESTAMP), 'HIGH', 1, CURRENT_TIMESTAMP),
+    ('Implement authentication', 'Implement JWT authentication for the API', FALSE,
+     DATEADD('DAY', 3, CURRENT_TIMESTAMP), 'HIGH', 2, CURRENT_TIMESTAMP),
+    ('Write unit tests', 'Write unit tests for user service', FALSE,
+     DATEADD('DAY', 2, CURRENT_TIMESTAMP), 'MEDIUM', 2, CURRENT_TIMESTAMP),
+    ('Backlog Item', 'Needs triage and assignment.', FALSE,
+     DATEADD('DAY', 7, CURRENT_TIMESTAMP), 'LOW', NULL, CURRENT_TIMESTAMP);
@@ -0,0 +1,26 @@
+-- Dev only: the users and tasks tables as Hibernate creates them on H2 (enums become native ENUM columns)
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    role ENUM('USER', 'TEAM_LEADER') NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    completed BOOLEAN NOT NULL,
+    due_date TIMESTAMP,
+    priority ENUM('LOW', 'MEDIUM', 'HIGH') NOT NULL,
+    user_id BIGINT REFERENCES users (id),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    deleted_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_completed_priority_due ON tasks (completed, priority, due_date);
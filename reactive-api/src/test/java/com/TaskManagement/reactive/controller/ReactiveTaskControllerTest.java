@@ -0,0 +1,124 @@
+package com.TaskManagement.reactive.controller;
+
+import com.TaskManagement.reactive.dto.TaskResponse;
+import com.TaskManagement.reactive.entity.Priority;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against the dev H2 database with the demo rows of data.sql
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void findAll_ShouldReturn401_WhenUnauthenticated() {
+        webTestClient.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void findAll_ShouldStreamNdjsonOrderedByDueDate_AndSkipDeletedTasks() {
+        // Arrange
+        databaseClient.sql("INSERT INTO tasks (title, completed, priority, created_at, deleted_at) "
+                        + "VALUES ('Deleted', FALSE, 'LOW', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                .then()
+                .block();
+
+        // Act
+        List<TaskResponse> tasks = get("/api/tasks?size=20");
+
+        // Assert
+        assertEquals(4, tasks.size());
+        assertTrue(tasks.stream().noneMatch(task -> task.title().equals("Deleted")));
+        for (int i = 1; i < tasks.size(); i++) {
+            assertFalse(tasks.get(i).dueDate().isBefore(tasks.get(i - 1).dueDate()));
+        }
+        TaskResponse backlog = tasks.get(tasks.size() - 1);
+        assertEquals("Backlog Item", backlog.title());
+        assertNull(backlog.assignedUser());
+        assertEquals("john_doe", tasks.stream().filter(task -> task.title().equals("Write unit tests"))
+                .findFirst().orElseThrow().assignedUser().username());
+    }
+
+    @Test
+    void search_ShouldMatchTitleOrDescription_IgnoringCase() {
+        // Act
+        List<TaskResponse> tasks = get("/api/tasks/search?query=JWT");
+
+        // Assert
+        assertEquals(List.of("Implement authentication"), tasks.stream().map(TaskResponse::title).toList());
+    }
+
+    @Test
+    void search_ShouldMatchWildcardCharactersLiterally() {
+        // Arrange
+        databaseClient.sql("INSERT INTO tasks (title, completed, priority, created_at) "
+                        + "VALUES ('Reach 100% coverage', FALSE, 'LOW', CURRENT_TIMESTAMP), "
+                        + "('Rename user_id', FALSE, 'LOW', CURRENT_TIMESTAMP)")
+                .then()
+                .block();
+
+        try {
+            // Act
+            List<TaskResponse> percent = get("/api/tasks/search?query={query}", "%");
+            List<TaskResponse> underscore = get("/api/tasks/search?query={query}", "r_i");
+
+            // Assert: unescaped, % would match every task and r_i also "rvi" in the demo task "Write unit tests"
+            assertEquals(List.of("Reach 100% coverage"), percent.stream().map(TaskResponse::title).toList());
+            assertEquals(List.of("Rename user_id"), underscore.stream().map(TaskResponse::title).toList());
+        } finally {
+            databaseClient.sql("DELETE FROM tasks WHERE title IN ('Reach 100% coverage', 'Rename user_id')")
+                    .then()
+                    .block();
+        }
+    }
+
+    @Test
+    void findByPriority_ShouldNarrowByCompleted_WhenGiven() {
+        // Act
+        List<TaskResponse> tasks = get("/api/tasks/priority/HIGH?completed=false&size=1&page=1");
+
+        // Assert
+        assertEquals(1, tasks.size());
+        assertEquals(Priority.HIGH, tasks.get(0).priority());
+        assertFalse(tasks.get(0).completed());
+    }
+
+    @Test
+    void findByCompleted_ShouldReturn400_WhenPageIsTooLarge() {
+        webTestClient.get().uri("/api/tasks/completed?completed=true&size=5000")
+                .headers(headers -> headers.setBasicAuth("john_doe", "user123"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Page size must not be greater than 1000");
+    }
+
+    private List<TaskResponse> get(String uri, Object... variables) {
+        return webTestClient.get().uri(uri, variables)
+                .headers(headers -> headers.setBasicAuth("john_doe", "user123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+    }
+}
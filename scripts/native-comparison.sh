@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Startup time, RSS and a curl smoke check for the JVM jar versus the native executable.
+#
+#   ./mvnw package -DskipTests && cp target/task-management-api.jar target/jvm.jar
+#   ./mvnw -Pnative native:compile -DskipTests
+#   scripts/native-comparison.sh
+#
+# Both builds run the dev profile (in-memory H2, seeded demo users).
+set -euo pipefail
+
+PORT=${PORT:-8080}
+JVM_JAR=${JVM_JAR:-target/jvm.jar}
+NATIVE_BIN=${NATIVE_BIN:-target/task-management-api}
+WARMUP_REQUESTS=${WARMUP_REQUESTS:-200}
+BASE="http://localhost:$PORT"
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_mb() {
+  echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+code() {
+  curl -s -o /dev/null -w '%{http_code}' "$@"
+}
+
+smoke() {
+  local failures=0
+  check() {
+    local expected=$1 actual
+    shift
+    actual=$(code "$@")
+    if [[ "$actual" != "$expected" ]]; then
+      echo "    FAIL $* -> $actual (expected $expected)"
+      failures=$((failures + 1))
+    fi
+  }
+  check 200 -u john_doe:user123 "$BASE/api/tasks"
+  check 200 -u john_doe:user123 "$BASE/api/tasks?fields=title,priority"
+  check 200 -u john_doe:user123 "$BASE/api/tasks/query?priority=HIGH&completed=false"
+  check 400 -u john_doe:user123 "$BASE/api/tasks?size=5000"
+  check 401 "$BASE/api/tasks"
+  check 403 -u john_doe:user123 -H 'Content-Type: application/json' \
+    -d '{"title":"t","priority":"LOW","dueDate":"2030-01-01T10:00:00.000Z"}' "$BASE/api/tasks"
+  check 201 -u admin:admin123 -H 'Content-Type: application/json' \
+    -d '{"title":"t","priority":"LOW","dueDate":"2030-01-01T10:00:00.000Z","userId":2}' "$BASE/api/tasks"
+  echo "$failures"
+}
+
+run() {
+  local name=$1 start pid elapsed idle_rss loaded_rss smoke_output
+  shift
+  start=$(now_ms)
+  "$@" --server.port="$PORT" > "target/$name.log" 2>&1 &
+  pid=$!
+
+  until [[ "$(code -u admin:admin123 "$BASE/api/tasks")" == "200" ]]; do
+    kill -0 "$pid" 2> /dev/null || { echo "$name exited during startup, see target/$name.log" >&2; return 1; }
+    sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - start ))
+  idle_rss=$(rss_mb "$pid")
+
+  for ((i = 0; i < WARMUP_REQUESTS; i++)); do
+    code -u john_doe:user123 "$BASE/api/tasks?page=$((i % 3))" > /dev/null
+  done
+  loaded_rss=$(rss_mb "$pid")
+  smoke_output=$(smoke)
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  printf '%-8s first 200 after %6d ms   RSS %4d MB idle / %4d MB after %d requests   smoke failures: %s\n' \
+    "$name" "$elapsed" "$idle_rss" "$loaded_rss" "$WARMUP_REQUESTS" "$(tail -n 1 <<< "$smoke_output")"
+  sed '$d' <<< "$smoke_output"
+}
+
+[[ -f "$JVM_JAR" ]] || { echo "Missing $JVM_JAR" >&2; exit 1; }
+[[ -x "$NATIVE_BIN" ]] || { echo "Missing $NATIVE_BIN, run ./mvnw -Pnative native:compile -DskipTests" >&2; exit 1; }
+
+run jvm java -jar "$JVM_JAR" --spring.profiles.active=dev
+run native "$NATIVE_BIN" --spring.profiles.active=dev
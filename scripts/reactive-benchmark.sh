@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Read throughput and latency of the servlet/JPA API against reactive-api (WebFlux + R2DBC) at high
+# concurrency. Both must read the same database, e.g. Postgres via docker compose:
+#
+#   ./mvnw spring-boot:run -Dspring-boot.run.profiles=prod -Dspring-boot.run.arguments=--app.rate-limit.enabled=false
+#   mvn -f reactive-api/pom.xml spring-boot:run -Dspring-boot.run.profiles=prod
+#   scripts/reactive-benchmark.sh [concurrency]
+#
+# The load test seeds once through the servlet API, then replays the same read-only mix against each
+# URL in turn, so both runs see identical data. Every request authenticates with HTTP Basic (BCrypt)
+# on both sides. Report: target/reactive-benchmark.json
+set -euo pipefail
+
+CONCURRENCY=${1:-256}
+SERVLET_URL=${SERVLET_URL:-http://localhost:8080}
+REACTIVE_URL=${REACTIVE_URL:-http://localhost:8081}
+TASKS=${TASKS:-5000}
+DURATION=${DURATION:-60}
+MIX=${MIX:-findAll:40,search:20,findByCompleted:20,findByPriority:20}
+
+mvn -q -f "$(dirname "$0")/../load-test/pom.xml" compile exec:java -Dexec.args="\
+baseUrl=$SERVLET_URL readUrls=$SERVLET_URL,$REACTIVE_URL \
+users=50 tasks=$TASKS concurrency=$CONCURRENCY warmup=15 duration=$DURATION \
+mix=$MIX output=target/reactive-benchmark.json"
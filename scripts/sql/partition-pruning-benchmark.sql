@@ -0,0 +1,45 @@
+-- EXPLAIN ANALYZE of the task list queries the API issues, against the table named by :tbl.
+-- Run through scripts/partition-benchmark.sh, which executes it once for tasks and once for
+-- tasks_unpartitioned. Look for the partitions listed under each plan: queries filtering on
+-- completed touch one partition only; "Subplans Removed: 1" shows runtime pruning of prepared
+-- statements (the JDBC driver switches to server-side prepared statements after prepareThreshold).
+
+\echo '=== table' :tbl
+SELECT COUNT(*) FILTER (WHERE completed) AS done, COUNT(*) FILTER (WHERE NOT completed) AS open FROM :tbl;
+
+\echo '--- GET /api/tasks/completed?completed=false, deep page'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM :tbl t
+WHERE t.completed = FALSE AND t.deleted_at IS NULL
+ORDER BY t.due_date, t.id
+OFFSET 5000 LIMIT 20;
+
+\echo '--- count for the same page'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT COUNT(t.id) FROM :tbl t
+WHERE t.completed = FALSE AND t.deleted_at IS NULL;
+
+\echo '--- GET /api/tasks/priority/HIGH?completed=false'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM :tbl t
+WHERE t.priority = 'HIGH' AND t.completed = FALSE AND t.deleted_at IS NULL
+ORDER BY t.due_date, t.id
+LIMIT 20;
+
+\echo '--- GET /api/tasks/priority/HIGH (no completed filter, every partition is read)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM :tbl t
+WHERE t.priority = 'HIGH' AND t.deleted_at IS NULL
+ORDER BY t.due_date, t.id
+LIMIT 20;
+
+\echo '--- prepared findByCompleted with a generic plan (runtime pruning)'
+SET plan_cache_mode = force_generic_plan;
+PREPARE by_completed(boolean) AS
+SELECT * FROM :tbl t
+WHERE t.completed = $1 AND t.deleted_at IS NULL
+ORDER BY t.due_date, t.id
+LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF) EXECUTE by_completed(FALSE);
+DEALLOCATE by_completed;
+RESET plan_cache_mode;
@@ -0,0 +1,78 @@
+-- Converts the tasks table into a table partitioned by LIST (completed):
+--   tasks_open  completed = FALSE  (small, hot, nearly every write)
+--   tasks_done  completed = TRUE   (large, cold, read by history views and TaskArchiveService)
+--
+-- Postgres only (11+). Stop the application, then
+--   docker compose exec -T task-postgres psql -U "$POSTGRES_USER" -d "$POSTGRES_DB" -v ON_ERROR_STOP=1 \
+--       < scripts/sql/partition-tasks.sql
+-- The old table is kept as tasks_unpartitioned for comparison and rollback; drop it once satisfied:
+--   DROP TABLE tasks_unpartitioned;
+--
+-- Rollback (before dropping tasks_unpartitioned):
+--   BEGIN;
+--   DROP TABLE tasks;
+--   ALTER TABLE tasks_unpartitioned RENAME TO tasks;
+--   SELECT setval(pg_get_serial_sequence('tasks', 'id'), (SELECT COALESCE(MAX(id), 1) FROM tasks));
+--   COMMIT;
+
+BEGIN;
+
+LOCK TABLE tasks IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE tasks RENAME TO tasks_unpartitioned;
+ALTER INDEX IF EXISTS tasks_pkey RENAME TO tasks_unpartitioned_pkey;
+ALTER INDEX IF EXISTS idx_tasks_completed_priority_due RENAME TO idx_tasks_unpartitioned_completed_priority_due;
+ALTER INDEX IF EXISTS idx_tasks_user_completed_priority_due RENAME TO idx_tasks_unpartitioned_user_completed_priority_due;
+ALTER INDEX IF EXISTS idx_tasks_created_at RENAME TO idx_tasks_unpartitioned_created_at;
+ALTER INDEX IF EXISTS idx_tasks_completed_completed_at RENAME TO idx_tasks_unpartitioned_completed_completed_at;
+ALTER INDEX IF EXISTS idx_tasks_deleted_at RENAME TO idx_tasks_unpartitioned_deleted_at;
+ALTER INDEX IF EXISTS idx_tasks_template_due RENAME TO idx_tasks_unpartitioned_template_due;
+
+-- Identity columns are not allowed on partitioned tables before Postgres 17; a plain sequence
+-- default behaves the same for Hibernate's IDENTITY generation
+CREATE SEQUENCE tasks_id_seq_partitioned;
+
+CREATE TABLE tasks (
+    id           BIGINT       NOT NULL DEFAULT nextval('tasks_id_seq_partitioned'),
+    title        VARCHAR(255),
+    description  VARCHAR(255),
+    completed    BOOLEAN      NOT NULL,
+    due_date     TIMESTAMP(6),
+    priority     VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    user_id      BIGINT       REFERENCES users (id),
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    template_id  BIGINT,
+    -- The partition key must be part of every unique constraint; ids stay unique through the sequence
+    PRIMARY KEY (id, completed)
+) PARTITION BY LIST (completed);
+
+ALTER SEQUENCE tasks_id_seq_partitioned OWNED BY tasks.id;
+
+CREATE TABLE tasks_open PARTITION OF tasks FOR VALUES IN (FALSE);
+CREATE TABLE tasks_done PARTITION OF tasks FOR VALUES IN (TRUE);
+
+-- Same names as the @Index declarations on Task, so ddl-auto=update finds them. Created on the
+-- parent, each one is cascaded to both partitions; within a partition the leading completed
+-- column is constant, but keeping it lets the same definition serve both layouts.
+CREATE INDEX idx_tasks_completed_priority_due ON tasks (completed, priority, due_date);
+CREATE INDEX idx_tasks_user_completed_priority_due ON tasks (user_id, completed, priority, due_date);
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+CREATE INDEX idx_tasks_completed_completed_at ON tasks (completed, completed_at);
+CREATE INDEX idx_tasks_deleted_at ON tasks (deleted_at);
+CREATE INDEX idx_tasks_template_due ON tasks (template_id, due_date);
+
+-- Rows are routed to their partition on insert
+INSERT INTO tasks (id, title, description, completed, due_date, priority, user_id,
+                   created_at, updated_at, completed_at, deleted_at, template_id)
+SELECT id, title, description, completed, due_date, priority, user_id,
+       created_at, updated_at, completed_at, deleted_at, template_id
+FROM tasks_unpartitioned;
+
+SELECT setval('tasks_id_seq_partitioned', (SELECT COALESCE(MAX(id), 0) + 1 FROM tasks), FALSE);
+
+COMMIT;
+
+ANALYZE tasks;
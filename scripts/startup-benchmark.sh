@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Time from JVM launch to the first successful GET /api/tasks.
+#
+#   ./mvnw -Pcds package -DskipTests
+#   scripts/startup-benchmark.sh [runs]
+#
+# Runs against the in-memory H2 dev database by default. The fast-boot modes
+# normally expect an existing schema (prod,fast-boot), so on H2 they create it
+# and seed with precomputed hashes. Point PROFILES/EXTRA_ARGS at Postgres to
+# measure the real thing, e.g.
+#   PROFILES=prod,fast-boot EXTRA_ARGS="" scripts/startup-benchmark.sh
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+CREDENTIALS=${CREDENTIALS:-admin:admin123}
+JAR=${JAR:-target/task-management-api.jar}
+CDS_DIR=${CDS_DIR:-target/cds}
+PROFILES=${PROFILES:-dev,fast-boot}
+EXTRA_ARGS=${EXTRA_ARGS:---spring.jpa.hibernate.ddl-auto=create --app.seed.mode=precomputed}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+now_ms() {
+  date +%s%3N
+}
+
+# Prints milliseconds until GET /api/tasks answered 200
+measure() {
+  local start pid status elapsed
+  start=$(now_ms)
+  "$@" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+
+  while true; do
+    status=$(curl -s -o /dev/null -w '%{http_code}' -u "$CREDENTIALS" "http://localhost:$PORT/api/tasks" || true)
+    elapsed=$(( $(now_ms) - start ))
+    if [[ "$status" == "200" ]]; then
+      break
+    fi
+    if (( elapsed > TIMEOUT_SECONDS * 1000 )) || ! kill -0 "$pid" 2> /dev/null; then
+      elapsed=-1
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+  echo "$elapsed"
+}
+
+run_mode() {
+  local name=$1
+  shift
+  local total=0 best=0 result
+  for ((i = 1; i <= RUNS; i++)); do
+    result=$(measure "$@")
+    if (( result < 0 )); then
+      printf '%-20s failed (no 200 within %ss)\n' "$name" "$TIMEOUT_SECONDS"
+      return
+    fi
+    total=$((total + result))
+    if (( best == 0 || result < best )); then
+      best=$result
+    fi
+  done
+  printf '%-20s avg %6d ms   best %6d ms   (%d runs)\n' "$name" $((total / RUNS)) "$best" "$RUNS"
+}
+
+[[ -f "$JAR" ]] || { echo "Missing $JAR, run ./mvnw package -DskipTests first" >&2; exit 1; }
+
+# shellcheck disable=SC2086
+run_mode "baseline" java -jar "$JAR" --spring.profiles.active=dev
+# shellcheck disable=SC2086
+run_mode "fast-boot" java -jar "$JAR" --spring.profiles.active="$PROFILES" $EXTRA_ARGS
+
+if [[ -f "$CDS_DIR/application.jsa" ]]; then
+  # shellcheck disable=SC2086
+  run_mode "fast-boot + AppCDS" java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" -Xlog:cds=off \
+    -jar "$CDS_DIR/$(basename "$JAR")" --spring.profiles.active="$PROFILES" $EXTRA_ARGS
+else
+  echo "No CDS archive in $CDS_DIR, run ./mvnw -Pcds package -DskipTests to include AppCDS"
+fi
@@ -0,0 +1,28 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    /** Whether the scheduled archive/purge job runs at all */
+    private boolean enabled = true;
+
+    /** Completed tasks older than this move from tasks to tasks_archive */
+    private Duration archiveAfter = Duration.ofDays(30);
+
+    /** Soft-deleted tasks are physically removed after this grace period */
+    private Duration purgeAfter = Duration.ofHours(24);
+
+    /** Rows moved or purged per transaction */
+    private int batchSize = 1_000;
+
+    /** Upper bound of batches per run so one run never monopolises the database */
+    private int maxBatchesPerRun = 100;
+}
@@ -0,0 +1,25 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /** Record field changes of tasks and users */
+    private boolean enabled = true;
+
+    /** Changes held in memory before new ones are dropped */
+    private int bufferSize = 10_000;
+
+    /** Rows per INSERT batch */
+    private int batchSize = 500;
+
+    /** How long the writer waits for the first change of a batch */
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,37 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.service.Bulkhead;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+    /** Pool settings per operation class; classes left out use the Pool defaults */
+    private Map<Bulkhead, Pool> pools = new EnumMap<>(Bulkhead.class);
+
+    public Pool pool(Bulkhead bulkhead) {
+        return pools.getOrDefault(bulkhead, new Pool());
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /** Worker threads, i.e. the most database work this class runs at once */
+        private int threads = 4;
+
+        /** Calls waiting for a thread before new ones are rejected with 503 */
+        private int queueCapacity = 50;
+
+        /** Time from submission until the caller gets a 504; not applied to WRITE */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
@@ -8,23 +8,36 @@ import com.TaskManagement.TaskManagement.repository.TaskRepository;
 import com.TaskManagement.TaskManagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Component
+@Order(0)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final PasswordEncoder passwordEncoder; // Injected to hash passwords
+    private final SeedProperties seedProperties;
+
+    // BCrypt (strength 10) of the demo passwords; encoding them costs ~100 ms each at boot
+    static final Map<String, String> PRECOMPUTED_HASHES = Map.of(
+            "admin123", "$2a$10$GvbAxPdb74buHS8YRQxuNuBts2puFe/i1JdzjFT1BsuoWpsR9DSye",
+            "user123", "$2a$10$vuj.jb6diCnwG40sk0Gv7eLAcLt8JDlQfIEGFh4iEAomDDoI8GBIS");
 
     @Override
     public void run(String... args) {
+        if (seedProperties.getMode() == SeedProperties.Mode.SKIP) {
+            return;
+        }
+
         if (userRepository.count() == 0) {
 
             User admin = createUser("admin", "admin@example.com", "admin123", Role.TEAM_LEADER);
@@ -44,12 +57,19 @@ public class DataInitializer implements CommandLineRunner {
         User user = new User();
         user.setUsername(username);
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(rawPassword));
+        user.setPassword(hash(rawPassword));
         user.setRole(role);
 
         return user;
     }
 
+    private String hash(String rawPassword) {
+        if (seedProperties.getMode() == SeedProperties.Mode.PRECOMPUTED) {
+            return PRECOMPUTED_HASHES.get(rawPassword);
+        }
+        return passwordEncoder.encode(rawPassword);
+    }
+
     private void createSampleTasks(List<User> users) {
         LocalDateTime now = LocalDateTime.now();
 
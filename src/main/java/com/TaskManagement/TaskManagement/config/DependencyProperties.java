@@ -0,0 +1,22 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.dependencies")
+public class DependencyProperties {
+
+    /**
+     * Full rebuild interval of the in-memory graph. Local changes are applied right away; the rebuild
+     * picks up edges and completions from other instances.
+     */
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    /** Largest limit a client may ask for on /api/tasks/ready */
+    private int maxReadyLimit = 100;
+}
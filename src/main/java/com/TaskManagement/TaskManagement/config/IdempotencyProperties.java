@@ -0,0 +1,28 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    /** How long a stored response is replayed for the same key */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** Maximum number of responses kept in the in-memory LRU front */
+    private int cacheSize = 10_000;
+
+    /**
+     * How long a claimed key counts as being processed; afterwards a retry may run the request again.
+     * Has to exceed the longest time a request can take.
+     */
+    private Duration pendingLease = Duration.ofMinutes(5);
+
+    /** How long a retry waits for an in-flight request with the same key on this node */
+    private Duration inFlightWait = Duration.ofSeconds(30);
+}
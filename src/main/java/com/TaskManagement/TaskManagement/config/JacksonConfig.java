@@ -0,0 +1,25 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.core.NativeDetector;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter calls with generated lambdas when (de)serializing DTOs.
+     * Spring Boot registers every Module bean with the auto-configured ObjectMapper.
+     * Skipped in a native image, which cannot define the lambda classes at runtime.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+}
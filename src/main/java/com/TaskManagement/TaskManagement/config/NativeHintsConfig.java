@@ -0,0 +1,76 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.dto.request.*;
+import com.TaskManagement.TaskManagement.dto.response.AssignedUserResponseDTO;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskProjectionResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.UserResponse;
+import com.TaskManagement.TaskManagement.entity.ArchivedTask;
+import com.TaskManagement.TaskManagement.entity.AuditEntry;
+import com.TaskManagement.TaskManagement.entity.IdempotencyRecord;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskDependency;
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+import com.TaskManagement.TaskManagement.entity.TaskView;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.validation.MaxPageSizeValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection the native image (./mvnw -Pnative native:compile) cannot discover on its own.
+ * Request/response bodies of controller methods are registered by Spring AOT already; this adds
+ * the query-parameter DTOs bound through the DataBinder, bodies replayed from the idempotency
+ * store, Hibernate Validator's custom validator, the entities and the method security SpEL root.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        PaginationRequest.class,
+        TaskQueryRequest.class,
+        TaskListOptions.class,
+        TaskRequest.class,
+        UserRequest.class,
+        RoleUpdateRequest.class,
+        PageResponse.class,
+        TaskResponse.class,
+        TaskProjectionResponse.class,
+        UserResponse.class,
+        AssignedUserResponseDTO.class
+})
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Lombok-generated accessors and no-arg constructors used by Hibernate
+            for (Class<?> entity : new Class<?>[] {Task.class, User.class, IdempotencyRecord.class, ArchivedTask.class,
+                    TaskView.class, TaskView.AssignedUser.class, AuditEntry.class, TaskDependency.class,
+                    TaskTemplate.class}) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            // Constraint annotations on DTO fields are read reflectively by Hibernate Validator
+            for (Class<?> dto : new Class<?>[] {PaginationRequest.class, TaskQueryRequest.class, TaskRequest.class,
+                    UserRequest.class, RoleUpdateRequest.class, TaskTemplateRequest.class}) {
+                hints.reflection().registerType(dto, MemberCategory.DECLARED_FIELDS);
+            }
+            hints.reflection().registerType(MaxPageSizeValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // hasAnyRole(...) in @PreAuthorize is resolved against this root object
+            hints.reflection().registerType(
+                    TypeReference.of("org.springframework.security.access.expression.method.MethodSecurityExpressionRoot"),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.next-tasks")
+public class NextTasksProperties {
+
+    /**
+     * How much earlier than its due date a task of each priority ranks in /api/tasks/next. With the defaults
+     * a HIGH task due in four days ranks next to a LOW task due tomorrow.
+     */
+    private Map<Priority, Duration> priorityLead = new EnumMap<>(Map.of(
+            Priority.LOW, Duration.ZERO,
+            Priority.MEDIUM, Duration.ofDays(1),
+            Priority.HIGH, Duration.ofDays(3)));
+
+    /** Largest limit a client may ask for */
+    private int maxLimit = 50;
+}
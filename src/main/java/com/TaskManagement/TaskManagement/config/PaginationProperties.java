@@ -0,0 +1,25 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.pagination")
+public class PaginationProperties {
+
+    /** Largest page size a request may ask for; checked by MaxPageSizeValidator */
+    private int maxSize = 100;
+
+    /** Age after which a cached estimated count is recounted in the background; the old value is served meanwhile */
+    private Duration countRefreshAfter = Duration.ofMinutes(1);
+
+    /** Age after which a cached estimated count is no longer served; the request counts again */
+    private Duration countTtl = Duration.ofMinutes(10);
+
+    /** Distinct filters whose estimated counts are kept, least recently used are evicted first */
+    private int countCacheSize = 1000;
+}
@@ -0,0 +1,41 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Burst size of every bucket, in tokens */
+    private int capacity = 100;
+
+    /** Tokens added back to a bucket per second */
+    private int refillPerSecond = 20;
+
+    /** Cost of a request that matches none of the configured routes */
+    private int defaultCost = 1;
+
+    /** Buckets untouched for this long are dropped */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** Route classes, matched in order; the first match decides the bucket and the cost */
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        private int cost = 1;
+    }
+}
@@ -0,0 +1,55 @@
+package com.TaskManagement.TaskManagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica pool and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only bound
+ * after the transaction manager asked for a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Counter primaryLookups;
+    private final Counter replicaLookups;
+
+    public ReadWriteRoutingDataSource(MeterRegistry meterRegistry) {
+        this.primaryLookups = routeCounter(meterRegistry, Route.PRIMARY);
+        this.replicaLookups = routeCounter(meterRegistry, Route.REPLICA);
+
+        Gauge.builder("datasource.routing.read.ratio", this, ReadWriteRoutingDataSource::readRatio)
+                .description("Share of connections served by the replica pool")
+                .register(meterRegistry);
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, Route route) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", route.name().toLowerCase())
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            replicaLookups.increment();
+            return Route.REPLICA;
+        }
+        primaryLookups.increment();
+        return Route.PRIMARY;
+    }
+
+    private double readRatio() {
+        double reads = replicaLookups.count();
+        double total = reads + primaryLookups.count();
+        return total == 0 ? 0 : reads / total;
+    }
+}
@@ -0,0 +1,31 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.recurring")
+public class RecurringProperties {
+
+    /** Whether the scheduled materializer runs at all */
+    private boolean enabled = true;
+
+    /** Occurrences due within this time from now become tasks */
+    private Duration horizon = Duration.ofDays(7);
+
+    /** Templates materialized per transaction */
+    private int batchSize = 500;
+
+    /** Upper bound of batches per run so one run never monopolises the database */
+    private int maxBatchesPerRun = 100;
+
+    /** Occurrences created per template and batch; a template with more stays due for the next batch */
+    private int maxOccurrencesPerBatch = 50;
+
+    /** Largest number of upcoming occurrences a client may ask for on GET /api/task-templates/{id} */
+    private int maxUpcoming = 50;
+}
@@ -0,0 +1,25 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.search-cache")
+public class SearchCacheProperties {
+
+    /** Whether /api/tasks/search pages are served from the in-memory result cache */
+    private boolean enabled = true;
+
+    /** Maximum number of cached result pages, least recently used are evicted first */
+    private int maxEntries = 10_000;
+
+    /**
+     * Upper bound on how stale a page may be. Local task mutations invalidate the cache right away;
+     * changes made by another instance or not yet visible on a read replica are only picked up after this.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,34 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    public enum Mode {
+        /** Seed an empty database, BCrypt-encoding the demo passwords at boot */
+        ENCODE,
+        /** Seed an empty database with hashes computed at build time */
+        PRECOMPUTED,
+        /** Never touch the database at boot */
+        SKIP
+    }
+
+    private Mode mode = Mode.PRECOMPUTED;
+
+    /** Synthetic users to top the database up to, 0 disables (see SyntheticDataGenerator) */
+    private int users = 0;
+
+    /** Synthetic tasks to top the database up to, 0 disables */
+    private long tasks = 0;
+
+    /** Rows per JDBC batch and transaction */
+    private int batchSize = 5_000;
+
+    /** Batches inserted concurrently, each on its own connection */
+    private int parallelism = 4;
+}
@@ -0,0 +1,22 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.filter.RateLimitFilter;
+import com.TaskManagement.TaskManagement.service.IdempotencyService;
+import com.TaskManagement.TaskManagement.service.TaskArchiveService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans that stay eager when spring.main.lazy-initialization is on (fast-boot profile).
+ * Their @Scheduled jobs are only registered once the bean exists.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(IdempotencyService.class, RateLimitFilter.class,
+                TaskArchiveService.class);
+    }
+}
@@ -0,0 +1,25 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.suggest")
+public class SuggestProperties {
+
+    /** Whether /api/tasks/suggest is served from the in-memory title index; if not, it queries the database */
+    private boolean enabled = true;
+
+    /**
+     * Full rebuild interval. Local changes are applied right away; the rebuild picks up archived tasks
+     * and changes made by other instances.
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /** Largest limit a client may ask for */
+    private int maxLimit = 50;
+}
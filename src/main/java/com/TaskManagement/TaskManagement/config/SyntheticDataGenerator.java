@@ -0,0 +1,255 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Tops the database up to app.seed.users / app.seed.tasks rows, e.g.
+ * {@code ./mvnw spring-boot:run -Dspring-boot.run.arguments="--app.seed.users=50000 --app.seed.tasks=5000000"}.
+ * Rows bypass JPA entirely. On Postgres every batch is streamed into COPY ... FROM STDIN as CSV while it is
+ * generated, so no batch is ever held in memory; other databases get plain JDBC batch INSERTs.
+ * Batches use a fixed random seed each, so the same settings give the same data.
+ */
+@Slf4j
+@Component
+@Order(1)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    static final String USERNAME_PREFIX = "gen_user_";
+
+    private static final Table USERS = new Table("users",
+            List.of("username", "password", "email", "role", "created_at", "updated_at"),
+            new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP});
+    private static final Table TASKS = new Table("tasks",
+            List.of("title", "description", "completed", "due_date", "priority", "user_id", "created_at", "updated_at",
+                    "completed_at"),
+            new int[] {Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT,
+                    Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP});
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] VERBS = {
+            "Review", "Update", "Fix", "Prepare", "Deploy", "Test", "Document", "Plan", "Migrate", "Refactor"};
+    private static final String[] SUBJECTS = {
+            "quarterly report", "login page", "invoice export", "database backup", "release notes",
+            "onboarding guide", "payment service", "search index", "customer survey", "API gateway",
+            "budget forecast", "incident postmortem", "design mockups", "CI pipeline", "audit log"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SeedProperties seedProperties;
+    private volatile boolean copy;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  SeedProperties seedProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seedProperties = seedProperties;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (seedProperties.getUsers() <= 0 && seedProperties.getTasks() <= 0) {
+            return;
+        }
+        copy = isPostgres();
+        if (seedProperties.getUsers() > 0) {
+            generateUsers(seedProperties.getUsers());
+        }
+        if (seedProperties.getTasks() > 0) {
+            generateTasks(seedProperties.getTasks());
+        }
+    }
+
+    void generateUsers(int target) throws Exception {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username LIKE ?", Integer.class, USERNAME_PREFIX + "%");
+        int missing = target - existing;
+        if (missing <= 0) {
+            return;
+        }
+
+        // All synthetic users share one precomputed hash; password is user123
+        String password = DataInitializer.PRECOMPUTED_HASHES.get("user123");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long start = System.nanoTime();
+        insertInBatches(missing, (batch, offset, size) -> write(USERS, size, i -> {
+            long n = existing + offset + i;
+            return new Object[] {USERNAME_PREFIX + n, password, USERNAME_PREFIX + n + "@example.com",
+                    (n % 50 == 0 ? Role.TEAM_LEADER : Role.USER).name(), now, now};
+        }));
+        log.info("Generated {} users in {} ms", missing, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    void generateTasks(long target) throws Exception {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        long missing = target - existing;
+        if (missing <= 0) {
+            return;
+        }
+
+        long[] userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        LocalDateTime now = LocalDateTime.now();
+
+        long start = System.nanoTime();
+        insertInBatches(missing, (batch, offset, size) -> {
+            SplittableRandom random = new SplittableRandom(existing + batch);
+            write(TASKS, size, i -> randomTask(random, userIds, now));
+        });
+        log.info("Generated {} tasks in {} ms", missing, (System.nanoTime() - start) / 1_000_000);
+
+        if (copy) {
+            jdbcTemplate.execute("ANALYZE tasks");
+            jdbcTemplate.execute("ANALYZE users");
+        }
+    }
+
+    /**
+     * Skews roughly follow a real backlog: mostly low priority, most overdue work is done,
+     * a few busy people own most of the tasks and some tasks are never assigned.
+     */
+    static Object[] randomTask(SplittableRandom random, long[] userIds, LocalDateTime now) {
+        LocalDateTime createdAt = now.minusMinutes(random.nextLong(365L * 24 * 60));
+        LocalDateTime dueDate = createdAt.plusHours(1 + (long) (24 * 60 * Math.pow(random.nextDouble(), 2)));
+
+        boolean overdue = dueDate.isBefore(now);
+        boolean completed = random.nextInt(100) < (overdue ? 85 : 15);
+
+        int roll = random.nextInt(100);
+        Priority priority = roll < 50 ? Priority.LOW : roll < 85 ? Priority.MEDIUM : Priority.HIGH;
+
+        // Cubing a uniform value piles assignments onto the first users
+        Long userId = userIds.length == 0 || random.nextInt(100) < 15
+                ? null
+                : userIds[(int) (userIds.length * Math.pow(random.nextDouble(), 3))];
+
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        String title = VERBS[random.nextInt(VERBS.length)] + " " + subject;
+        String description = random.nextInt(100) < 30 ? null : "Details about the " + subject + " work item";
+
+        LocalDateTime doneAt = dueDate.minusHours(1).isAfter(now) ? now : dueDate.minusHours(1);
+        Timestamp completedAt = completed ? Timestamp.valueOf(doneAt) : null;
+        return new Object[] {title, description, completed, Timestamp.valueOf(dueDate), priority.name(), userId,
+                Timestamp.valueOf(createdAt), completedAt != null ? completedAt : Timestamp.valueOf(createdAt),
+                completedAt};
+    }
+
+    private record Table(String name, List<String> columns, int[] argTypes) {
+
+        String copySql() {
+            return "COPY " + name + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        }
+
+        String insertSql() {
+            return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchWriter {
+        void write(long batch, long offset, int size);
+    }
+
+    // Called inside the batch transaction; rows are generated in index order
+    private void write(Table table, int size, IntFunction<Object[]> row) {
+        if (!copy) {
+            List<Object[]> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(row.apply(i));
+            }
+            jdbcTemplate.batchUpdate(table.insertSql(), rows, table.argTypes());
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, table.copySql(), COPY_BUFFER_SIZE), StandardCharsets.UTF_8),
+                    COPY_BUFFER_SIZE)) {
+                for (int i = 0; i < size; i++) {
+                    writeCsvRow(out, row.apply(i));
+                }
+            } catch (IOException e) {
+                throw new SQLException("COPY into " + table.name() + " failed", e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes one row in the CSV format of COPY: null is an empty field, text is always quoted
+     * so an empty string stays distinct from null
+     */
+    static void writeCsvRow(Writer out, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = row[i];
+            if (value instanceof String text) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else if (value != null) {
+                out.write(value.toString());
+            }
+        }
+        out.write('\n');
+    }
+
+    private void insertInBatches(long rows, BatchWriter writer) throws Exception {
+        int batchSize = seedProperties.getBatchSize();
+        long batches = (rows + batchSize - 1) / batchSize;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, seedProperties.getParallelism()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long batch = 0; batch < batches; batch++) {
+                long offset = batch * batchSize;
+                int size = (int) Math.min(batchSize, rows - offset);
+                long current = batch;
+                futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(
+                        status -> writer.write(current, offset, size))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")));
+    }
+}
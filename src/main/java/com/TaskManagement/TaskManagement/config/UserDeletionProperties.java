@@ -0,0 +1,14 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.user-deletion")
+public class UserDeletionProperties {
+
+    /** Tasks of a deleted user reassigned or unassigned per transaction */
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,29 @@
+package com.TaskManagement.TaskManagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.user-index")
+public class UserIndexProperties {
+
+    /** Whether usernames and emails are looked up in the in-memory UserKeyIndex */
+    private boolean enabled = true;
+
+    /** Full rebuild interval; it drops deleted keys from the Bloom filters and picks up other instances' users */
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /** Target false positive rate of the Bloom filters, at twice the user count of the last build */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Answer logins and username lookups of unknown usernames without querying the database.
+     * Only safe when this is the only instance creating users; otherwise a user registered elsewhere
+     * cannot log in here until the next rebuild.
+     */
+    private boolean rejectUnknownUsernames = false;
+}
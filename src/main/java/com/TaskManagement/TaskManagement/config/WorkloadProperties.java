@@ -0,0 +1,45 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.workload")
+public class WorkloadProperties {
+
+    /** Whether auto-assignment is available; if not, tasks are only assigned by hand */
+    private boolean enabled = true;
+
+    /**
+     * Full rebuild interval. Local changes are applied right away; the rebuild re-weighs tasks that came
+     * within due-soon since they were counted and picks up changes made by other instances.
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(15);
+
+    /** Load of one open task by priority */
+    private Map<Priority, Integer> priorityWeights = new EnumMap<>(Map.of(
+            Priority.LOW, 1,
+            Priority.MEDIUM, 2,
+            Priority.HIGH, 4));
+
+    /** Open tasks due within this window, or overdue, weigh due-soon-multiplier times as much */
+    private Duration dueSoon = Duration.ofDays(2);
+
+    private int dueSoonMultiplier = 2;
+
+    /** Roles whose users receive auto-assigned tasks */
+    private Set<Role> eligibleRoles = EnumSet.of(Role.USER);
+
+    /** Most tasks one backlog auto-assignment call assigns, all in one transaction */
+    private int maxBacklogBatch = 500;
+}
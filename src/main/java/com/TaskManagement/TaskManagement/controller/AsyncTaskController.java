@@ -0,0 +1,281 @@
+package com.TaskManagement.TaskManagement.controller;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskQueryRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.dto.response.BacklogAssignmentResponse;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+
+import com.TaskManagement.TaskManagement.service.Bulkhead;
+import com.TaskManagement.TaskManagement.service.BulkheadExecutor;
+import com.TaskManagement.TaskManagement.service.IdempotencyService;
+import com.TaskManagement.TaskManagement.service.TaskDependencyService;
+import com.TaskManagement.TaskManagement.service.TaskService;
+
+import jakarta.validation.Valid;
+
+/**
+ * Asynchronous variants of every TaskController endpoint. The Tomcat thread only authorizes, validates and
+ * hands the call to the matching {@link Bulkhead} pool, so slow searches wait in their own pool and
+ * cannot occupy the request threads that point reads need. Both APIs call the same services and share
+ * the idempotency scopes, so they behave the same; AsyncTaskControllerTest fails when an endpoint exists
+ * on only one of them.
+ */
+@RestController
+@RequestMapping("/api/async/tasks")
+@RequiredArgsConstructor
+public class AsyncTaskController {
+
+    private final TaskService taskService;
+    private final IdempotencyService idempotencyService;
+    private final TaskDependencyService taskDependencyService;
+    private final BulkheadExecutor bulkheads;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final Logger log = LoggerFactory.getLogger(AsyncTaskController.class);
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<TaskResponse>>> findAll(
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
+        log.info("Fetching tasks with pagination: page={}, size={}", paginationRequest.getPage(), paginationRequest.getSize());
+        return bulkheads.supply(Bulkhead.LIST, () -> ResponseEntity.ok(
+                PageResponse.from(taskService.findAll(paginationRequest, options), options.getCountStrategy())));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<TaskResponse>> findById(@PathVariable Long id) {
+        log.info("Fetching task with id: {}", id);
+        return bulkheads.supply(Bulkhead.POINT_READ, () -> ResponseEntity.ok(taskService.findById(id)));
+    }
+
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<AuditEntryResponse>>> findHistory(
+            @PathVariable Long id,
+            @Valid PaginationRequest paginationRequest) {
+        log.info("Fetching history of task {}", id);
+        return bulkheads.supply(Bulkhead.LIST,
+                () -> ResponseEntity.ok(PageResponse.from(taskService.findHistory(id, paginationRequest))));
+    }
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<TaskResponse>> createTask(
+            @RequestBody @Valid TaskRequest taskRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
+        log.info("Creating task: {}", taskRequest);
+        // Same idempotency scope as the blocking endpoint, so a retry may go to either one
+        return write(() -> {
+            TaskResponse response = idempotencyKey == null
+                    ? taskService.save(taskRequest)
+                    : idempotencyService.execute(idempotencyKey, TaskController.CREATE_SCOPE, principal.getName(),
+                            taskRequest, TaskResponse.class, () -> taskService.save(taskRequest));
+            return ResponseEntity.created(URI.create("/api/tasks/" + response.getId())).body(response);
+        });
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<TaskResponse>> update(
+            @PathVariable Long id,
+            @RequestBody @Valid TaskRequest taskRequest) {
+        log.info("Updating task with id: {}", id);
+        return write(() -> ResponseEntity.ok(taskService.update(id, taskRequest)));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<Void>> deleteById(@PathVariable Long id) {
+        log.info("Deleting task with id: {}", id);
+        return write(() -> {
+            taskService.deleteById(id);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<TaskResponse>>> search(
+            @RequestParam String query,
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
+        log.info("Searching tasks with query: {}", query);
+        return bulkheads.supply(Bulkhead.SEARCH, () -> ResponseEntity.ok(
+                PageResponse.from(taskService.search(query, paginationRequest, options), options.getCountStrategy())));
+    }
+
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<List<TaskSuggestionResponse>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return bulkheads.supply(Bulkhead.POINT_READ, () -> ResponseEntity.ok(taskService.suggest(prefix, limit)));
+    }
+
+    @GetMapping("/next")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<List<TaskResponse>>> findNext(
+            @RequestParam(defaultValue = "10") int limit,
+            Principal principal) {
+        return bulkheads.supply(Bulkhead.LIST,
+                () -> ResponseEntity.ok(taskService.findNext(principal.getName(), limit)));
+    }
+
+    @GetMapping("/query")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<TaskResponse>>> query(
+            @Valid TaskQueryRequest query,
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
+        log.info("Querying tasks with filters: {}", query);
+        return bulkheads.supply(Bulkhead.SEARCH, () -> ResponseEntity.ok(
+                PageResponse.from(taskService.query(query, paginationRequest, options), options.getCountStrategy())));
+    }
+
+    @GetMapping("/completed")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<TaskResponse>>> findByCompleted(
+            @RequestParam boolean completed,
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
+        log.info("Finding tasks with completed status: {}", completed);
+        return bulkheads.supply(Bulkhead.LIST, () -> ResponseEntity.ok(PageResponse.from(
+                taskService.findByCompleted(completed, paginationRequest, options), options.getCountStrategy())));
+    }
+
+    @GetMapping("/priority/{priority}")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<TaskResponse>>> findByPriority(
+            @PathVariable Priority priority,
+            @Valid PaginationRequest paginationRequest,
+            @RequestParam(required = false) Boolean completed,
+            TaskListOptions options) {
+        log.info("Finding tasks with priority: {}", priority);
+        return bulkheads.supply(Bulkhead.LIST, () -> ResponseEntity.ok(PageResponse.from(
+                taskService.findByPriority(priority, completed, paginationRequest, options),
+                options.getCountStrategy())));
+    }
+
+    @PutMapping("/{id}/complete")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<TaskResponse>> markAsCompleted(
+            @PathVariable Long id,
+            @RequestParam boolean completed) {
+        log.info("Marking task {} as completed: {}", id, completed);
+        return write(() -> ResponseEntity.ok(taskService.markAsCompleted(id, completed)));
+    }
+
+    @PutMapping("/{taskId}/assign/{userId}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<TaskResponse>> assignTaskToUser(
+            @PathVariable Long taskId,
+            @PathVariable Long userId,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
+        log.info("Assign task {} to user {}", taskId, userId);
+        return write(() -> ResponseEntity.ok(idempotencyKey == null
+                ? taskService.assignTaskToUser(taskId, userId)
+                : idempotencyService.execute(idempotencyKey, TaskController.ASSIGN_SCOPE + taskId, principal.getName(),
+                        userId, TaskResponse.class, () -> taskService.assignTaskToUser(taskId, userId))));
+    }
+
+    @PutMapping("/{taskId}/auto-assign")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<TaskResponse>> autoAssign(@PathVariable Long taskId) {
+        log.info("Auto-assigning task {}", taskId);
+        return write(() -> ResponseEntity.ok(taskService.autoAssign(taskId)));
+    }
+
+    @PostMapping("/auto-assign")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<BacklogAssignmentResponse>> autoAssignBacklog(
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Auto-assigning up to {} backlog tasks", limit);
+        return write(() -> ResponseEntity.ok(taskService.autoAssignBacklog(limit)));
+    }
+
+    @PostMapping("/{taskId}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<Void>> addBlocker(@PathVariable Long taskId, @PathVariable Long blockerId) {
+        log.info("Task {} now waits for task {}", taskId, blockerId);
+        return write(() -> {
+            taskDependencyService.addBlocker(taskId, blockerId);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @DeleteMapping("/{taskId}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<Void>> removeBlocker(@PathVariable Long taskId, @PathVariable Long blockerId) {
+        log.info("Task {} no longer waits for task {}", taskId, blockerId);
+        return write(() -> {
+            taskDependencyService.removeBlocker(taskId, blockerId);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @GetMapping("/{taskId}/blockers")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<List<Long>>> findBlockers(
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "false") boolean transitive) {
+        return bulkheads.supply(Bulkhead.POINT_READ,
+                () -> ResponseEntity.ok(taskDependencyService.findBlockers(taskId, transitive)));
+    }
+
+    @GetMapping("/ready")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<List<TaskResponse>>> findReady(
+            @RequestParam(defaultValue = "20") int limit) {
+        return bulkheads.supply(Bulkhead.LIST, () -> ResponseEntity.ok(taskDependencyService.findReady(limit)));
+    }
+
+    @PutMapping("/{taskId}/unassign")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public DeferredResult<ResponseEntity<Void>> unassignTaskFromUser(@PathVariable Long taskId) {
+        log.info("Unassigning task {}", taskId);
+        return write(() -> {
+            taskService.unassignTaskFromUser(taskId);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    /**
+     * Runs a write on the WRITE bulkhead without the spring.mvc.async.request-timeout: a write that has
+     * started commits whether or not anyone still waits for it, so the caller always gets its outcome
+     */
+    private <T> DeferredResult<T> write(Supplier<T> call) {
+        DeferredResult<T> result = new DeferredResult<>(0L);
+        bulkheads.supply(Bulkhead.WRITE, call).whenComplete((value, ex) -> {
+            if (ex != null) {
+                result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                result.setResult(value);
+            }
+        });
+        return result;
+    }
+}
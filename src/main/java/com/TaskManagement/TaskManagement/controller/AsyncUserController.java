@@ -0,0 +1,47 @@
+package com.TaskManagement.TaskManagement.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
+import com.TaskManagement.TaskManagement.dto.response.UserResponse;
+
+import com.TaskManagement.TaskManagement.service.Bulkhead;
+import com.TaskManagement.TaskManagement.service.BulkheadExecutor;
+import com.TaskManagement.TaskManagement.service.UserService;
+import jakarta.validation.Valid;
+
+/**
+ * Asynchronous variants of the UserController reads, run on the same bulkheads as the task endpoints.
+ */
+@RestController
+@RequestMapping("/api/async/users")
+@RequiredArgsConstructor
+public class AsyncUserController {
+
+    private final UserService userService;
+    private final BulkheadExecutor bulkheads;
+    private static final Logger log = LoggerFactory.getLogger(AsyncUserController.class);
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<PageResponse<UserResponse>>> getAllUsers(
+            @Valid PaginationRequest paginationRequest) {
+        log.info("fetching users asynchronously: page={}, size={}", paginationRequest.getPage(), paginationRequest.getSize());
+        return bulkheads.supply(Bulkhead.LIST,
+                () -> ResponseEntity.ok(PageResponse.from(userService.getAllUsers(paginationRequest))));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public CompletableFuture<ResponseEntity<UserResponse>> findUserById(@PathVariable Long id) {
+        return bulkheads.supply(Bulkhead.POINT_READ, () -> ResponseEntity.ok(userService.findUserById(id)));
+    }
+}
@@ -2,13 +2,16 @@ package com.TaskManagement.TaskManagement.controller;
 
 
 import com.TaskManagement.TaskManagement.dto.request.UserRequest;
+import com.TaskManagement.TaskManagement.dto.response.AvailabilityResponse;
 import com.TaskManagement.TaskManagement.dto.response.UserResponse;
 import com.TaskManagement.TaskManagement.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,4 +25,11 @@ public class AuthController {
     public UserResponse registerUser(@RequestBody @Valid UserRequest request) {
         return userService.registerUser(request);
     }
+
+    @GetMapping("/available")
+    public AvailabilityResponse available(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        return userService.checkAvailability(username, email);
+    }
 }
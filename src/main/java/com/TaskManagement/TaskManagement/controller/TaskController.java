@@ -1,18 +1,28 @@
 package com.TaskManagement.TaskManagement.controller;
 
 import java.net.URI;
+import java.security.Principal;
+import java.util.List;
 
 
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskQueryRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.dto.response.BacklogAssignmentResponse;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
 import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
 import com.TaskManagement.TaskManagement.entity.Priority;
 
+import com.TaskManagement.TaskManagement.service.IdempotencyService;
+import com.TaskManagement.TaskManagement.service.TaskDependencyService;
 import com.TaskManagement.TaskManagement.service.TaskService;
 
 import org.springframework.data.domain.*;
@@ -26,16 +36,23 @@ import jakarta.validation.Valid;
 public class TaskController {
 
     private final TaskService taskService;
+    private final IdempotencyService idempotencyService;
+    private final TaskDependencyService taskDependencyService;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // Idempotency scopes, shared with AsyncTaskController so a retry may go to either API
+    static final String CREATE_SCOPE = "tasks:create";
+    static final String ASSIGN_SCOPE = "tasks:assign:";
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
-    public ResponseEntity<Page<TaskResponse>> findAll(
-            @Valid PaginationRequest paginationRequest) {
+    public ResponseEntity<PageResponse<TaskResponse>> findAll(
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
         log.info("Fetching tasks with pagination: page={}, size={}", paginationRequest.getPage(), paginationRequest.getSize());
 
-        Page<TaskResponse> response = taskService.findAll(paginationRequest);
-        return ResponseEntity.ok(response);
+        Page<TaskResponse> response = taskService.findAll(paginationRequest, options);
+        return ResponseEntity.ok(PageResponse.from(response, options.getCountStrategy()));
     }
 
     @GetMapping("/{id}")
@@ -46,11 +63,27 @@ public class TaskController {
         return ResponseEntity.ok(taskService.findById(id));
     }
 
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<PageResponse<AuditEntryResponse>> findHistory(
+            @PathVariable Long id,
+            @Valid PaginationRequest paginationRequest) {
+        log.info("Fetching history of task {}", id);
+
+        return ResponseEntity.ok(PageResponse.from(taskService.findHistory(id, paginationRequest)));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
-    public ResponseEntity<TaskResponse> createTask(@RequestBody @Valid TaskRequest taskRequest) {
+    public ResponseEntity<TaskResponse> createTask(
+            @RequestBody @Valid TaskRequest taskRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
         log.info("Creating task: {}", taskRequest);
-        TaskResponse response = taskService.save(taskRequest);
+        TaskResponse response = idempotencyKey == null
+                ? taskService.save(taskRequest)
+                : idempotencyService.execute(idempotencyKey, CREATE_SCOPE, principal.getName(),
+                        taskRequest, TaskResponse.class, () -> taskService.save(taskRequest));
 
         URI location = URI.create("/api/tasks/" + response.getId());
 
@@ -78,33 +111,64 @@ public class TaskController {
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
-    public ResponseEntity<Page<TaskResponse>> search(
+    public ResponseEntity<PageResponse<TaskResponse>> search(
             @RequestParam String query,
-            @Valid PaginationRequest paginationRequest) {
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
         log.info("Searching tasks with query: {}", query);
-        Page<TaskResponse> response = taskService.search(query, paginationRequest);
+        Page<TaskResponse> response = taskService.search(query, paginationRequest, options);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response, options.getCountStrategy()));
+    }
+
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<List<TaskSuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(taskService.suggest(prefix, limit));
+    }
+
+    @GetMapping("/next")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<List<TaskResponse>> findNext(
+            @RequestParam(defaultValue = "10") int limit,
+            Principal principal) {
+        return ResponseEntity.ok(taskService.findNext(principal.getName(), limit));
+    }
+
+    @GetMapping("/query")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<PageResponse<TaskResponse>> query(
+            @Valid TaskQueryRequest query,
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
+        log.info("Querying tasks with filters: {}", query);
+        Page<TaskResponse> response = taskService.query(query, paginationRequest, options);
+        return ResponseEntity.ok(PageResponse.from(response, options.getCountStrategy()));
     }
 
     @GetMapping("/completed")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
-    public ResponseEntity<Page<TaskResponse>> findByCompleted(
+    public ResponseEntity<PageResponse<TaskResponse>> findByCompleted(
             @RequestParam boolean completed,
-            @Valid PaginationRequest paginationRequest) {
+            @Valid PaginationRequest paginationRequest,
+            TaskListOptions options) {
         log.info("Finding tasks with completed status: {}", completed);
-        Page<TaskResponse> response = taskService.findByCompleted(completed, paginationRequest);
-        return ResponseEntity.ok(response);
+        Page<TaskResponse> response = taskService.findByCompleted(completed, paginationRequest, options);
+        return ResponseEntity.ok(PageResponse.from(response, options.getCountStrategy()));
     }
 
     @GetMapping("/priority/{priority}")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
-    public ResponseEntity<Page<TaskResponse>> findByPriority(
+    public ResponseEntity<PageResponse<TaskResponse>> findByPriority(
             @PathVariable Priority priority,
-            @Valid PaginationRequest paginationRequest) {
+            @Valid PaginationRequest paginationRequest,
+            @RequestParam(required = false) Boolean completed,
+            TaskListOptions options) {
         log.info("Finding tasks with priority: {}", priority);
-        Page<TaskResponse> response = taskService.findByPriority(priority, paginationRequest);
-        return ResponseEntity.ok(response);
+        Page<TaskResponse> response = taskService.findByPriority(priority, completed, paginationRequest, options);
+        return ResponseEntity.ok(PageResponse.from(response, options.getCountStrategy()));
     }
 
     @PutMapping("/{id}/complete")
@@ -121,14 +185,68 @@ public class TaskController {
     @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
     public ResponseEntity<TaskResponse> assignTaskToUser(
             @PathVariable Long taskId,
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
         log.info("Assign task {} to user {}", taskId, userId);
 
-        TaskResponse response = taskService.assignTaskToUser(taskId, userId);
+        TaskResponse response = idempotencyKey == null
+                ? taskService.assignTaskToUser(taskId, userId)
+                : idempotencyService.execute(idempotencyKey, ASSIGN_SCOPE + taskId, principal.getName(),
+                        userId, TaskResponse.class, () -> taskService.assignTaskToUser(taskId, userId));
 
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{taskId}/auto-assign")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<TaskResponse> autoAssign(@PathVariable Long taskId) {
+        log.info("Auto-assigning task {}", taskId);
+
+        return ResponseEntity.ok(taskService.autoAssign(taskId));
+    }
+
+    @PostMapping("/auto-assign")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<BacklogAssignmentResponse> autoAssignBacklog(
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Auto-assigning up to {} backlog tasks", limit);
+
+        return ResponseEntity.ok(taskService.autoAssignBacklog(limit));
+    }
+
+    @PostMapping("/{taskId}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<Void> addBlocker(@PathVariable Long taskId, @PathVariable Long blockerId) {
+        log.info("Task {} now waits for task {}", taskId, blockerId);
+
+        taskDependencyService.addBlocker(taskId, blockerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{taskId}/blockers/{blockerId}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<Void> removeBlocker(@PathVariable Long taskId, @PathVariable Long blockerId) {
+        log.info("Task {} no longer waits for task {}", taskId, blockerId);
+
+        taskDependencyService.removeBlocker(taskId, blockerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{taskId}/blockers")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<List<Long>> findBlockers(
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "false") boolean transitive) {
+        return ResponseEntity.ok(taskDependencyService.findBlockers(taskId, transitive));
+    }
+
+    @GetMapping("/ready")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<List<TaskResponse>> findReady(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskDependencyService.findReady(limit));
+    }
+
     @PutMapping("/{taskId}/unassign")
     @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
     public ResponseEntity<Void> unassignTaskFromUser(@PathVariable Long taskId) {
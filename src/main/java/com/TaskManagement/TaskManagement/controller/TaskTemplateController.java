@@ -0,0 +1,52 @@
+package com.TaskManagement.TaskManagement.controller;
+
+import java.net.URI;
+
+import com.TaskManagement.TaskManagement.dto.request.TaskTemplateRequest;
+import com.TaskManagement.TaskManagement.dto.response.TaskTemplateResponse;
+import com.TaskManagement.TaskManagement.service.TaskTemplateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/task-templates")
+@RequiredArgsConstructor
+public class TaskTemplateController {
+
+    private final TaskTemplateService taskTemplateService;
+    private static final Logger log = LoggerFactory.getLogger(TaskTemplateController.class);
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<TaskTemplateResponse> create(@RequestBody @Valid TaskTemplateRequest request) {
+        log.info("Creating task template: {}", request);
+        TaskTemplateResponse response = taskTemplateService.create(request);
+
+        URI location = URI.create("/api/task-templates/" + response.getId());
+
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_TEAM_LEADER')")
+    public ResponseEntity<TaskTemplateResponse> findById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int upcoming) {
+        log.info("Fetching task template with id: {}", id);
+
+        return ResponseEntity.ok(taskTemplateService.findById(id, upcoming));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
+    public ResponseEntity<Void> deleteById(@PathVariable Long id) {
+        log.info("Deleting task template with id: {}", id);
+        taskTemplateService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import com.TaskManagement.TaskManagement.dto.request.UserRequest;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
 import com.TaskManagement.TaskManagement.dto.response.UserResponse;
 
 import com.TaskManagement.TaskManagement.service.UserService;
@@ -27,13 +28,13 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
-    public ResponseEntity<Page<UserResponse>> getAllUsers(
+    public ResponseEntity<PageResponse<UserResponse>> getAllUsers(
             @Valid PaginationRequest paginationRequest) {
         log.info("fetching users with pagination: page={}, size={}", paginationRequest.getPage(), paginationRequest.getSize());
 
         Page<UserResponse> response = userService.getAllUsers(paginationRequest);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 
     @GetMapping("/{id}")
@@ -77,9 +78,12 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ROLE_TEAM_LEADER')")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        log.info("Deleting user with id: {}", id);
-        userService.deleteUser(id);
+    public ResponseEntity<Void> deleteUser(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long reassignTo) {
+        log.info("Deleting user with id: {}, reassigning tasks to: {}", id, reassignTo);
+        int moved = userService.deleteUser(id, reassignTo);
+        log.info("Deleted user {} and moved {} tasks", id, moved);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,14 @@
+package com.TaskManagement.TaskManagement.dto.request;
+
+/**
+ * How a task list page gets its total, chosen with the {@code countStrategy} query parameter.
+ * The page content and the {@code last} flag are exact with every strategy.
+ */
+public enum CountStrategy {
+    /** SELECT COUNT(*) with the page's filter on every request */
+    EXACT,
+    /** Planner statistics for unfiltered lists on PostgreSQL, otherwise a cached count refreshed in the background */
+    ESTIMATED,
+    /** No total at all; totalElements and totalPages are left out of the response */
+    NONE
+}
@@ -1,5 +1,6 @@
 package com.TaskManagement.TaskManagement.dto.request;
 
+import com.TaskManagement.TaskManagement.validation.MaxPageSize;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +19,7 @@ public class PaginationRequest {
     private int page = 0;
 
     @Min(value = 1, message = "Page size must be at least one")
+    @MaxPageSize
     private int size = 10;
 
     private String sortBy = "dueDate";
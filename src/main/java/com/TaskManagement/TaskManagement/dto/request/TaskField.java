@@ -0,0 +1,60 @@
+package com.TaskManagement.TaskManagement.dto.request;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fields of a TaskResponse that can be requested through the {@code fields} query parameter.
+ * The id is always returned.
+ */
+public enum TaskField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    COMPLETED("completed"),
+    DUE_DATE("dueDate"),
+    UPDATED_AT("updatedAt"),
+    PRIORITY("priority"),
+    ASSIGNED_USER("assignedUser");
+
+    private final String jsonName;
+
+    TaskField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma separated list such as "title,priority,dueDate"
+     * @param fields the raw parameter value
+     * @return the requested fields including the id, or null when every field is wanted
+     * @throws IllegalArgumentException if a name does not match a TaskResponse field
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<TaskField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(fromJsonName(trimmed));
+        }
+        return result;
+    }
+
+    private static TaskField fromJsonName(String name) {
+        for (TaskField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task field: " + name);
+    }
+}
@@ -0,0 +1,40 @@
+package com.TaskManagement.TaskManagement.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Options shared by every task list endpoint: ?fields=, ?includeArchived= and ?countStrategy=
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskListOptions {
+
+    // Comma separated TaskField names such as "title,priority"; every field when empty
+    private String fields;
+
+    // Also read tasks moved to tasks_archive
+    private boolean includeArchived;
+
+    private CountStrategy countStrategy = CountStrategy.EXACT;
+
+    public void setCountStrategy(CountStrategy countStrategy) {
+        this.countStrategy = countStrategy == null ? CountStrategy.EXACT : countStrategy;
+    }
+
+    /**
+     * @return the requested fields including the id, or null when every field is wanted
+     * @throws IllegalArgumentException if a name does not match a TaskResponse field
+     */
+    public Set<TaskField> fieldSet() {
+        return TaskField.parse(fields);
+    }
+}
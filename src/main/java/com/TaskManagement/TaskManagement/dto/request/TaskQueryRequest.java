@@ -0,0 +1,43 @@
+package com.TaskManagement.TaskManagement.dto.request;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Optional filters of GET /api/tasks/query; every filter that is set narrows the result (AND)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskQueryRequest {
+    private Boolean completed;
+
+    // Repeated parameter or comma separated list: ?priority=HIGH&priority=MEDIUM
+    private Set<Priority> priority;
+
+    private Long userId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @Size(max = 100, message = "Text filter cannot be longer than 100 characters")
+    private String text;
+}
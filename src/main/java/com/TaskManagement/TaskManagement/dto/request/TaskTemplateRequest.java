@@ -0,0 +1,42 @@
+package com.TaskManagement.TaskManagement.dto.request;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A recurring task: every occurrence of cron becomes a task with this title, priority and assignee,
+ * due at the occurrence.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskTemplateRequest {
+    @NotBlank(message = "Title cannot be blank")
+    @Size(max = 100, message = "Title cannot be longer than 100 characters")
+    private String title;
+
+    private String description;
+
+    @NotNull(message = "Priority cannot be null")
+    private Priority priority;
+
+    private Long userId;
+
+    // Spring cron syntax, e.g. "0 0 9 * * MON" for every Monday at 9:00
+    @NotBlank(message = "Cron expression cannot be blank")
+    private String cron;
+
+    // First occurrence is the first one after this; now if not given
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    private LocalDateTime startAfter;
+}
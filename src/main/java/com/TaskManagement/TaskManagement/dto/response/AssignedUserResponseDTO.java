@@ -2,17 +2,9 @@ package com.TaskManagement.TaskManagement.dto.response;
 
 
 import com.TaskManagement.TaskManagement.entity.Role;
-import lombok.*;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@ToString
-public class AssignedUserResponseDTO {
-
-    private Long id;
-    private String username;
-    private Role role;
 
+/**
+ * Immutable, so TaskMapper can hand the same instance to every task of a user within one page.
+ */
+public record AssignedUserResponseDTO(Long id, String username, Role role) {
 }
@@ -0,0 +1,21 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class AuditEntryResponse {
+    private Long id;
+    private AuditAction action;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private String changedBy;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,18 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Whether a username and/or email can still be registered; only the checked ones are present
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponse {
+    private Boolean username;
+    private Boolean email;
+}
@@ -0,0 +1,19 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Outcome of one backlog auto-assignment call; call again while remaining is above zero
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BacklogAssignmentResponse {
+    private int assigned;
+    private long remaining;
+    private Map<Long, Integer> assignedPerUser;
+}
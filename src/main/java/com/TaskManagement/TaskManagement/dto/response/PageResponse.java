@@ -0,0 +1,51 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import com.TaskManagement.TaskManagement.dto.request.CountStrategy;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Compact page envelope returned by list endpoints instead of Spring's PageImpl,
+ * which drags its pageable/sort metadata into every response.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PageResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+
+    // Left out with CountStrategy.NONE; an estimate with ESTIMATED
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+
+    private boolean last;
+    private CountStrategy countStrategy;
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return from(page, CountStrategy.EXACT);
+    }
+
+    /**
+     * @param countStrategy the strategy the total of the page was produced with
+     */
+    public static <T> PageResponse<T> from(Page<T> page, CountStrategy countStrategy) {
+        boolean counted = countStrategy != CountStrategy.NONE;
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                counted ? page.getTotalElements() : null,
+                counted ? page.getTotalPages() : null,
+                page.isLast(),
+                countStrategy);
+    }
+}
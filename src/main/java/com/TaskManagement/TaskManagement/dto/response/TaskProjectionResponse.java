@@ -0,0 +1,45 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * A TaskResponse that carries only the fields asked for with {@code ?fields=}; the others are omitted.
+ */
+@Getter
+@ToString(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskProjectionResponse extends TaskResponse {
+
+    // completed is a primitive in TaskResponse, so whether it was selected is tracked here
+    @JsonIgnore
+    private final boolean completedSelected;
+
+    /**
+     * @param completed null when the field was not selected
+     */
+    public TaskProjectionResponse(Long id, String title, String description, Boolean completed,
+                                  LocalDateTime dueDate, LocalDateTime updatedAt, Priority priority,
+                                  AssignedUserResponseDTO assignedUser, Boolean archived) {
+        super(id, title, description, Boolean.TRUE.equals(completed), dueDate, updatedAt, priority, assignedUser,
+                archived);
+        this.completedSelected = completed != null;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isCompleted() {
+        return super.isCompleted();
+    }
+
+    @JsonProperty("completed")
+    public Boolean getSelectedCompleted() {
+        return completedSelected ? super.isCompleted() : null;
+    }
+}
@@ -2,25 +2,58 @@ package com.TaskManagement.TaskManagement.dto.response;
 
 import com.TaskManagement.TaskManagement.entity.Priority;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * Immutable once TaskMapper has built it. A class rather than a record because TaskProjectionResponse
+ * extends it to leave out the fields that were not selected.
+ */
 @Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
 @ToString
 public class TaskResponse {
-    private Long id;
-    private String title;
-    private String description;
-    private boolean completed;
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final boolean completed;
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime dueDate;
+    private final LocalDateTime dueDate;
 
-    private Priority priority;
-    private AssignedUserResponseDTO assignedUser;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime updatedAt;
+
+    private final Priority priority;
+    private final AssignedUserResponseDTO assignedUser;
+
+    // Only set when the request asked for includeArchived=true
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Boolean archived;
+
+    // Also read back when IdempotencyService replays a stored response
+    @JsonCreator
+    public TaskResponse(@JsonProperty("id") Long id,
+                        @JsonProperty("title") String title,
+                        @JsonProperty("description") String description,
+                        @JsonProperty("completed") boolean completed,
+                        @JsonProperty("dueDate") LocalDateTime dueDate,
+                        @JsonProperty("updatedAt") LocalDateTime updatedAt,
+                        @JsonProperty("priority") Priority priority,
+                        @JsonProperty("assignedUser") AssignedUserResponseDTO assignedUser,
+                        @JsonProperty("archived") Boolean archived) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.completed = completed;
+        this.dueDate = dueDate;
+        this.updatedAt = updatedAt;
+        this.priority = priority;
+        this.assignedUser = assignedUser;
+        this.archived = archived;
+    }
 }
@@ -0,0 +1,13 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskSuggestionResponse {
+    private Long id;
+    private String title;
+}
@@ -0,0 +1,30 @@
+package com.TaskManagement.TaskManagement.dto.response;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A recurring task template with the due dates of its next occurrences that are not tasks yet
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TaskTemplateResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private Priority priority;
+    private Long userId;
+    private String cron;
+    private boolean active;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private List<LocalDateTime> upcoming;
+}
@@ -0,0 +1,53 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Cold copy of a task that was completed long ago, moved here by TaskArchiveService.
+ * Keeps the id it had in tasks. user_id is a plain column without a foreign key so archived
+ * rows never block deleting a user.
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_user", columnList = "user_id"),
+        @Index(name = "idx_tasks_archive_archived_at", columnList = "archived_at")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(length = 100)
+    private String title;
+
+    private String description;
+
+    private boolean completed;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
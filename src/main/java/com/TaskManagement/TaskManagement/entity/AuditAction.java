@@ -0,0 +1,7 @@
+package com.TaskManagement.TaskManagement.entity;
+
+public enum AuditAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
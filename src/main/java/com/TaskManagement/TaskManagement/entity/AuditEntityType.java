@@ -0,0 +1,6 @@
+package com.TaskManagement.TaskManagement.entity;
+
+public enum AuditEntityType {
+    TASK,
+    USER
+}
@@ -0,0 +1,52 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * One changed field of a Task or User, written in batches by AuditService.
+ * The table is append-only: rows are inserted with plain JDBC and never updated.
+ * A deleted entity gets a single row with a null field.
+ */
+@Entity
+@Immutable
+@Table(name = "audit_log",
+        indexes = @Index(name = "idx_audit_log_entity", columnList = "entity_type, entity_id, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@ToString
+public class AuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private AuditEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuditAction action;
+
+    @Column(length = 50)
+    private String field;
+
+    @Column(name = "old_value", length = 1000)
+    private String oldValue;
+
+    @Column(name = "new_value", length = 1000)
+    private String newValue;
+
+    @Column(name = "changed_by", length = 100)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,92 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Stored outcome of a request that carried an Idempotency-Key header.
+ * The key column is the primary key, so concurrent claims from different nodes collide on insert.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class IdempotencyRecord implements Persistable<String> {
+
+    /** Length of the key column, which holds scope:principal:Idempotency-Key */
+    public static final int MAX_ID_LENGTH = 255;
+
+    public enum Status {
+        PENDING,
+        COMPLETED
+    }
+
+    @Id
+    @Column(name = "idempotency_key", length = MAX_ID_LENGTH)
+    private String id;
+
+    // SHA-256 of the request, so the key cannot be replayed for a different one
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "response_body", length = 1048576)
+    @ToString.Exclude
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // A PENDING claim whose lease ended belongs to a request that never finished
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // Always INSERT on first save so a duplicate key fails instead of being merged
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newRecord = true;
+
+    public IdempotencyRecord(String id, String requestHash, LocalDateTime expiresAt, LocalDateTime leaseExpiresAt) {
+        this.id = id;
+        this.requestHash = requestHash;
+        this.status = Status.PENDING;
+        this.expiresAt = expiresAt;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public boolean isLeaseExpired(LocalDateTime now) {
+        return leaseExpiresAt == null || leaseExpiresAt.isBefore(now);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.newRecord = false;
+    }
+}
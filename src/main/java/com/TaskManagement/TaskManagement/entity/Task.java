@@ -6,11 +6,26 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Serves the completed/priority/due date filters of /api/tasks/query and their common combinations
+        @Index(name = "idx_tasks_completed_priority_due", columnList = "completed, priority, due_date"),
+        @Index(name = "idx_tasks_user_completed_priority_due", columnList = "user_id, completed, priority, due_date"),
+        @Index(name = "idx_tasks_created_at", columnList = "created_at"),
+        // Archive and purge jobs of TaskArchiveService
+        @Index(name = "idx_tasks_completed_completed_at", columnList = "completed, completed_at"),
+        @Index(name = "idx_tasks_deleted_at", columnList = "deleted_at"),
+        // Occurrences already created from a recurring template (RecurringTaskMaterializer)
+        @Index(name = "idx_tasks_template_due", columnList = "template_id, due_date")
+})
+// Deletes only mark the row; TaskArchiveService purges it later. Marked rows are invisible to every query.
+@SQLDelete(sql = "UPDATE tasks SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -49,6 +64,26 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // When the task was last marked completed; tasks completed long enough ago are archived
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // Recurring template this task was created from, if any; no foreign key, templates can be deleted
+    @Column(name = "template_id")
+    private Long templateId;
+
+    public void setCompleted(boolean completed) {
+        if (completed && !this.completed) {
+            this.completedAt = LocalDateTime.now();
+        } else if (!completed) {
+            this.completedAt = null;
+        }
+        this.completed = completed;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
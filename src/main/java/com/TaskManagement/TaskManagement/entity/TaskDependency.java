@@ -0,0 +1,40 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One edge of the task dependency graph: blocker_id has to be completed before blocked_id can start.
+ * The ids are plain columns without foreign keys, so edges never hold up archiving or purging a task;
+ * a blocker that is no longer in tasks counts as done.
+ */
+@Entity
+@Table(name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge", columnNames = {"blocker_id", "blocked_id"}),
+        indexes = @Index(name = "idx_task_dependencies_blocked", columnList = "blocked_id, blocker_id"))
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Column(name = "blocked_id", nullable = false)
+    private Long blockedId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public TaskDependency(Long blockerId, Long blockedId) {
+        this.blockerId = blockerId;
+        this.blockedId = blockedId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,60 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * A task that recurs on a cron schedule. Only the next occurrence is stored; RecurringTaskMaterializer
+ * turns occurrences into tasks once they come within app.recurring.horizon and moves next_due_at on.
+ * user_id has no foreign key, so templates never hold up deleting a user; occurrences of a template
+ * whose user is gone are created unassigned.
+ */
+@Entity
+@Table(name = "task_templates",
+        // The materializer reads due templates in next_due_at order
+        indexes = @Index(name = "idx_task_templates_active_next_due", columnList = "active, next_due_at"))
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class TaskTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Title cannot be blank")
+    @Size(max = 100, message = "Title cannot be longer than 100 characters")
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull(message = "Priority cannot be null")
+    private Priority priority;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Spring cron syntax: second minute hour day-of-month month day-of-week
+    @Column(nullable = false)
+    private String cron;
+
+    // Due date of the next occurrence that is not a task yet; null once the schedule has no more occurrences
+    @Column(name = "next_due_at")
+    private LocalDateTime nextDueAt;
+
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,74 @@
+package com.TaskManagement.TaskManagement.entity;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Read-only union of live tasks and tasks_archive, queried only when a list endpoint is called
+ * with includeArchived=true. Attribute names match Task so TaskSpecifications work on both;
+ * the assignee is embedded and read through a LEFT JOIN, so archived rows whose user is gone show none.
+ */
+@Entity
+@Immutable
+@Subselect("""
+        SELECT t.id, t.title, t.description, t.completed, t.due_date, t.priority, t.created_at, t.updated_at,
+               u.id AS user_id, u.username AS user_username, u.role AS user_role, FALSE AS archived
+        FROM tasks t LEFT JOIN users u ON u.id = t.user_id
+        WHERE t.deleted_at IS NULL
+        UNION ALL
+        SELECT a.id, a.title, a.description, a.completed, a.due_date, a.priority, a.created_at, a.updated_at,
+               u.id AS user_id, u.username AS user_username, u.role AS user_role, TRUE AS archived
+        FROM tasks_archive a LEFT JOIN users u ON u.id = a.user_id
+        """)
+@Synchronize({"tasks", "tasks_archive", "users"})
+@NoArgsConstructor
+@Getter
+@ToString
+public class TaskView {
+
+    @Embeddable
+    @NoArgsConstructor
+    @Getter
+    @ToString
+    public static class AssignedUser {
+        @Column(name = "user_id")
+        private Long id;
+
+        @Column(name = "user_username")
+        private String username;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "user_role")
+        private Role role;
+    }
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private boolean completed;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Enumerated(EnumType.STRING)
+    private Priority priority;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Embedded
+    private AssignedUser user;
+
+    private boolean archived;
+}
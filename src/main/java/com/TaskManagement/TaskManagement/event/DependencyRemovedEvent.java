@@ -0,0 +1,24 @@
+package com.TaskManagement.TaskManagement.event;
+
+/**
+ * A task no longer waits for another. Published by TaskDependencyService inside the transaction;
+ * the dependency graph drops the edge once it commits.
+ */
+public class DependencyRemovedEvent {
+
+    private final Long blockerId;
+    private final Long blockedId;
+
+    public DependencyRemovedEvent(Long blockerId, Long blockedId) {
+        this.blockerId = blockerId;
+        this.blockedId = blockedId;
+    }
+
+    public Long getBlockerId() {
+        return blockerId;
+    }
+
+    public Long getBlockedId() {
+        return blockedId;
+    }
+}
@@ -0,0 +1,149 @@
+package com.TaskManagement.TaskManagement.event;
+
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field-level diff of a Task or User mutation, carried to AuditService by TaskChangedEvent and
+ * UserChangedEvent and buffered once the transaction commits. Values are compared and stored as strings.
+ */
+public class EntityChangedEvent {
+
+    private final AuditEntityType entityType;
+    private final Long entityId;
+    private final AuditAction action;
+    private final List<FieldChange> changes;
+    private final String actor;
+    private final LocalDateTime changedAt;
+
+    public EntityChangedEvent(AuditEntityType entityType, Long entityId, AuditAction action,
+                              List<FieldChange> changes, String actor, LocalDateTime changedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.changes = changes;
+        this.actor = actor;
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * Diffs two snapshots taken with {@link #snapshot(Task)} or {@link #snapshot(User)}
+     * @param before state before the change, empty for a created entity
+     * @param after state after the change, ignored for a deleted entity
+     * @return the event, with no changes if nothing differs
+     */
+    public static EntityChangedEvent of(AuditEntityType entityType, Long entityId, AuditAction action,
+                                        Map<String, String> before, Map<String, String> after) {
+        List<FieldChange> changes = new ArrayList<>();
+        if (action == AuditAction.DELETED) {
+            changes.add(new FieldChange(null, null, null));
+        } else {
+            for (Map.Entry<String, String> entry : after.entrySet()) {
+                String oldValue = before.get(entry.getKey());
+                if (!Objects.equals(oldValue, entry.getValue())) {
+                    changes.add(new FieldChange(entry.getKey(), oldValue, entry.getValue()));
+                }
+            }
+        }
+        return new EntityChangedEvent(entityType, entityId, action, changes, currentActor(), LocalDateTime.now());
+    }
+
+    /**
+     * A task that was moved to tasks_archive; recorded as a deletion whose only field is the time of the move
+     */
+    public static EntityChangedEvent archived(Long taskId, LocalDateTime archivedAt) {
+        return new EntityChangedEvent(AuditEntityType.TASK, taskId, AuditAction.DELETED,
+                List.of(new FieldChange("archivedAt", null, archivedAt.toString())), currentActor(), LocalDateTime.now());
+    }
+
+    /** Audited fields of a task */
+    public static Map<String, String> snapshot(Task task) {
+        Map<String, String> state = new LinkedHashMap<>();
+        state.put("title", task.getTitle());
+        state.put("description", task.getDescription());
+        state.put("completed", String.valueOf(task.isCompleted()));
+        state.put("dueDate", Objects.toString(task.getDueDate(), null));
+        state.put("priority", Objects.toString(task.getPriority(), null));
+        state.put("userId", task.getUser() == null ? null : String.valueOf(task.getUser().getId()));
+        return state;
+    }
+
+    /** Audited fields of a user; the password hash is left out on purpose */
+    public static Map<String, String> snapshot(User user) {
+        Map<String, String> state = new LinkedHashMap<>();
+        state.put("username", user.getUsername());
+        state.put("email", user.getEmail());
+        state.put("role", Objects.toString(user.getRole(), null));
+        return state;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "system" : authentication.getName();
+    }
+
+    public AuditEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public List<FieldChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public static class FieldChange {
+
+        private final String field;
+        private final String oldValue;
+        private final String newValue;
+
+        public FieldChange(String field, String oldValue, String newValue) {
+            this.field = field;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public String getOldValue() {
+            return oldValue;
+        }
+
+        public String getNewValue() {
+            return newValue;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.TaskManagement.TaskManagement.event;
+
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A task was created, changed or deleted. Published by TaskService inside the transaction; the audit log,
+ * the search cache and the in-memory indices listen for it once the transaction commits.
+ * Carries the task as it is after the change, its previous title and the audit diff, which is taken
+ * on the request thread so it knows who made the change.
+ */
+public class TaskChangedEvent {
+
+    private final Long taskId;
+    private final AuditAction action;
+    private final String oldTitle;
+    private final String title;
+    private final boolean completed;
+    private final Long userId;
+    private final Priority priority;
+    private final LocalDateTime dueDate;
+    private final boolean archived;
+    private final EntityChangedEvent audit;
+
+    public TaskChangedEvent(Long taskId, AuditAction action, String oldTitle, String title, boolean completed,
+                            Long userId, Priority priority, LocalDateTime dueDate, boolean archived,
+                            EntityChangedEvent audit) {
+        this.taskId = taskId;
+        this.action = action;
+        this.oldTitle = oldTitle;
+        this.title = title;
+        this.completed = completed;
+        this.userId = userId;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.archived = archived;
+        this.audit = audit;
+    }
+
+    /**
+     * @param task the task after the change
+     * @param before {@link EntityChangedEvent#snapshot(Task)} taken before the change, empty for a created task
+     */
+    public static TaskChangedEvent of(Task task, AuditAction action, Map<String, String> before) {
+        boolean deleted = action == AuditAction.DELETED;
+        Map<String, String> after = deleted ? Map.of() : EntityChangedEvent.snapshot(task);
+        return new TaskChangedEvent(task.getId(), action,
+                action == AuditAction.CREATED ? null : deleted ? task.getTitle() : before.get("title"),
+                deleted ? null : task.getTitle(),
+                task.isCompleted(),
+                task.getUser() == null ? null : task.getUser().getId(),
+                task.getPriority(),
+                task.getDueDate(),
+                false,
+                EntityChangedEvent.of(AuditEntityType.TASK, task.getId(), action, before, after));
+    }
+
+    /**
+     * A completed task that TaskArchiveService moved to tasks_archive; it counts as deleted
+     * @param title the title it had, so the indices can drop it
+     */
+    public static TaskChangedEvent archived(Long taskId, String title, Long userId, LocalDateTime archivedAt) {
+        return new TaskChangedEvent(taskId, AuditAction.DELETED, title, null, true, userId, null, null, true,
+                EntityChangedEvent.archived(taskId, archivedAt));
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public boolean isDeleted() {
+        return action == AuditAction.DELETED;
+    }
+
+    /** Whether the task was deleted by moving it to tasks_archive */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    /** Title before the change, null for a created task */
+    public String getOldTitle() {
+        return oldTitle;
+    }
+
+    /** Title after the change, null for a deleted task */
+    public String getTitle() {
+        return title;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public EntityChangedEvent getAudit() {
+        return audit;
+    }
+}
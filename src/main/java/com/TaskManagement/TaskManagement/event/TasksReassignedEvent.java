@@ -0,0 +1,49 @@
+package com.TaskManagement.TaskManagement.event;
+
+/**
+ * Published once after all tasks of a deleted user were handed over, instead of one TaskAssignedEvent per task.
+ * The new assignee fields are null when the tasks were unassigned.
+ */
+public class TasksReassignedEvent {
+
+    private final Long fromUserId;
+    private final String fromUsername;
+    private final Long toUserId;
+    private final String toUsername;
+    private final String toEmail;
+    private final int taskCount;
+
+    public TasksReassignedEvent(Long fromUserId, String fromUsername, Long toUserId, String toUsername,
+                                String toEmail, int taskCount) {
+        this.fromUserId = fromUserId;
+        this.fromUsername = fromUsername;
+        this.toUserId = toUserId;
+        this.toUsername = toUsername;
+        this.toEmail = toEmail;
+        this.taskCount = taskCount;
+    }
+
+    public Long getFromUserId() {
+        return fromUserId;
+    }
+
+    public String getFromUsername() {
+        return fromUsername;
+    }
+
+    public Long getToUserId() {
+        return toUserId;
+    }
+
+    public String getToUsername() {
+        return toUsername;
+    }
+
+    public String getToEmail() {
+        return toEmail;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+}
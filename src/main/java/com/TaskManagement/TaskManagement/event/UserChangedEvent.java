@@ -0,0 +1,104 @@
+package com.TaskManagement.TaskManagement.event;
+
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.User;
+
+import java.util.Map;
+
+/**
+ * A user was registered, changed or deleted. Published by UserService inside the transaction; the audit
+ * log, the user key index and the workload tracker listen for it once the transaction commits.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final AuditAction action;
+    private final String oldUsername;
+    private final String oldEmail;
+    private final String username;
+    private final String email;
+    private final Role role;
+    private final Long tasksMovedTo;
+    private final EntityChangedEvent audit;
+
+    public UserChangedEvent(Long userId, AuditAction action, String oldUsername, String oldEmail,
+                            String username, String email, Role role, Long tasksMovedTo,
+                            EntityChangedEvent audit) {
+        this.userId = userId;
+        this.action = action;
+        this.oldUsername = oldUsername;
+        this.oldEmail = oldEmail;
+        this.username = username;
+        this.email = email;
+        this.role = role;
+        this.tasksMovedTo = tasksMovedTo;
+        this.audit = audit;
+    }
+
+    /**
+     * @param user the user after the change
+     * @param before {@link EntityChangedEvent#snapshot(User)} taken before the change, empty for a new user
+     */
+    public static UserChangedEvent of(User user, AuditAction action, Map<String, String> before) {
+        Map<String, String> after = EntityChangedEvent.snapshot(user);
+        return new UserChangedEvent(user.getId(), action, before.get("username"), before.get("email"),
+                user.getUsername(), user.getEmail(), user.getRole(), null,
+                EntityChangedEvent.of(AuditEntityType.USER, user.getId(), action, before, after));
+    }
+
+    /**
+     * @param tasksMovedTo user who took over the open tasks, or null if they were unassigned
+     */
+    public static UserChangedEvent deleted(User user, Long tasksMovedTo) {
+        return new UserChangedEvent(user.getId(), AuditAction.DELETED, user.getUsername(), user.getEmail(),
+                null, null, user.getRole(), tasksMovedTo,
+                EntityChangedEvent.of(AuditEntityType.USER, user.getId(), AuditAction.DELETED, Map.of(), Map.of()));
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public boolean isDeleted() {
+        return action == AuditAction.DELETED;
+    }
+
+    /** Username before the change, null for a new user */
+    public String getOldUsername() {
+        return oldUsername;
+    }
+
+    /** Email before the change, null for a new user */
+    public String getOldEmail() {
+        return oldEmail;
+    }
+
+    /** Username after the change, null for a deleted user */
+    public String getUsername() {
+        return username;
+    }
+
+    /** Email after the change, null for a deleted user */
+    public String getEmail() {
+        return email;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /** For a deleted user, who took over their open tasks; null if they were unassigned */
+    public Long getTasksMovedTo() {
+        return tasksMovedTo;
+    }
+
+    public EntityChangedEvent getAudit() {
+        return audit;
+    }
+}
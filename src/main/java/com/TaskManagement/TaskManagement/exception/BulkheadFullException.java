@@ -0,0 +1,10 @@
+package com.TaskManagement.TaskManagement.exception;
+
+import com.TaskManagement.TaskManagement.service.Bulkhead;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(Bulkhead bulkhead) {
+        super("Too many concurrent " + bulkhead.name().toLowerCase().replace('_', ' ') + " requests, retry shortly");
+    }
+}
@@ -0,0 +1,9 @@
+package com.TaskManagement.TaskManagement.exception;
+
+public class DependencyCycleException extends RuntimeException {
+
+    public DependencyCycleException(Long blockerId, Long blockedId) {
+        super("Task " + blockerId + " cannot block task " + blockedId + ": task " + blockedId
+                + " already blocks it, directly or through other tasks");
+    }
+}
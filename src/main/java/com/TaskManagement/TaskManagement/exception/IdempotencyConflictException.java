@@ -0,0 +1,8 @@
+package com.TaskManagement.TaskManagement.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String key) {
+        super("A request with Idempotency-Key '" + key + "' is still being processed");
+    }
+}
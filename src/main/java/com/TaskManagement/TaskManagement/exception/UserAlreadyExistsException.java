@@ -0,0 +1,8 @@
+package com.TaskManagement.TaskManagement.exception;
+
+public class UserAlreadyExistsException extends RuntimeException {
+
+    public UserAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,161 @@
+package com.TaskManagement.TaskManagement.filter;
+
+import com.TaskManagement.TaskManagement.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throttles /api requests with one token bucket per (principal, route class).
+ * Runs inside the security chain after authentication, so buckets follow the user rather than the IP;
+ * anonymous calls fall back to the remote address.
+ * As a MeterBinder the bucket gauge is bound once by the actuator, not every time a filter is built.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final RateLimitProperties properties;
+    private final List<CompiledRoute> routes;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.routes = compile(properties.getRoutes());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("Active rate limiter buckets")
+                .register(registry);
+    }
+
+    private static List<CompiledRoute> compile(List<RateLimitProperties.Route> routes) {
+        List<CompiledRoute> compiled = new ArrayList<>(routes.size());
+        for (RateLimitProperties.Route route : routes) {
+            Set<String> methods = route.getMethods().stream()
+                    .map(String::toUpperCase)
+                    .collect(Collectors.toSet());
+            List<PathPattern> patterns = route.getPatterns().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            compiled.add(new CompiledRoute(route.getName(), methods, patterns, route.getCost()));
+        }
+        return compiled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        CompiledRoute route = resolve(request);
+        String routeName = route == null ? DEFAULT_ROUTE : route.name();
+        int cost = route == null ? properties.getDefaultCost() : route.cost();
+
+        String bucketKey = principalOf(request) + "|" + routeName;
+        TokenBucket bucket = buckets.computeIfAbsent(bucketKey,
+                key -> new TokenBucket(properties.getCapacity(), properties.getRefillPerSecond(), now));
+
+        long waitNanos = bucket.tryConsume(cost, now);
+        if (waitNanos == 0) {
+            counter(routeName, "allowed").increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        counter(routeName, "rejected").increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.warn("Rate limit exceeded for {} on route {}", bucketKey, routeName);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfterSeconds + " seconds\"}");
+    }
+
+    private CompiledRoute resolve(HttpServletRequest request) {
+        String method = request.getMethod();
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRoute route : routes) {
+            if (!route.methods().isEmpty() && !route.methods().contains(method)) {
+                continue;
+            }
+            for (PathPattern pattern : route.patterns()) {
+                if (pattern.matches(path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String principalOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private Counter counter(String route, String outcome) {
+        return counters.computeIfAbsent(route + ":" + outcome, key -> Counter.builder("ratelimit.requests")
+                .description("Requests seen by the rate limiter")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Drops buckets that have not been used for a while; they would be full again anyway
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        buckets.entrySet().removeIf(entry -> entry.getValue().getLastAccess() - cutoff < 0);
+    }
+
+    private record CompiledRoute(String name, Set<String> methods, List<PathPattern> patterns, int cost) {
+    }
+}
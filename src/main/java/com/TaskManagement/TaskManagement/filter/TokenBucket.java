@@ -0,0 +1,65 @@
+package com.TaskManagement.TaskManagement.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm: the whole bucket state is a
+ * single "theoretical arrival time" that is advanced with compare-and-set, so no thread ever blocks.
+ */
+public class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+    private volatile long lastAccess;
+
+    /**
+     * @param capacity maximum burst, in tokens
+     * @param refillPerSecond tokens restored per second
+     * @param now current {@link System#nanoTime()}; the bucket starts full
+     */
+    public TokenBucket(int capacity, int refillPerSecond, long now) {
+        if (capacity < 1 || refillPerSecond < 1) {
+            throw new IllegalArgumentException("Bucket capacity and refill rate must be positive");
+        }
+        this.nanosPerToken = 1_000_000_000L / refillPerSecond;
+        this.burstNanos = nanosPerToken * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+        this.lastAccess = now;
+    }
+
+    /**
+     * Takes tokens from the bucket if enough are available
+     * @param cost tokens the request costs; capped at the bucket capacity
+     * @param now current {@link System#nanoTime()}
+     * @return 0 if the tokens were taken, otherwise the nanoseconds until they will be available
+     */
+    public long tryConsume(int cost, long now) {
+        lastAccess = now;
+        long increment = Math.min((long) cost * nanosPerToken, burstNanos);
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + increment;
+            long allowedAt = next - burstNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param now current {@link System#nanoTime()}
+     * @return whole tokens currently left in the bucket
+     */
+    public long availableTokens(long now) {
+        long used = Math.max(theoreticalArrival.get() - now, 0);
+        return (burstNanos - used) / nanosPerToken;
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+}
@@ -1,16 +1,28 @@
 package com.TaskManagement.TaskManagement.mapper;
 
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
 import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
 import com.TaskManagement.TaskManagement.dto.response.AssignedUserResponseDTO;
+import com.TaskManagement.TaskManagement.dto.response.TaskProjectionResponse;
 import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
 import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskView;
+import com.TaskManagement.TaskManagement.entity.User;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -35,32 +47,127 @@ public class TaskMapper {
      * @return TaskResponse
      */
     public TaskResponse toResponseDTO(Task task) {
-        TaskResponse response = new TaskResponse();
-        response.setId(task.getId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setPriority(task.getPriority());
-        response.setDueDate(task.getDueDate());
-        response.setCompleted(task.isCompleted());
+        return toResponseDTO(task, null);
+    }
 
+    // users, when given, caches one AssignedUserResponseDTO per user id for the rows of a page
+    private TaskResponse toResponseDTO(Task task, Map<Long, AssignedUserResponseDTO> users) {
         // Only set assigned user if task has a user
-        if (task.getUser() != null) {
-            AssignedUserResponseDTO assignedUser = new AssignedUserResponseDTO();
-            assignedUser.setId(task.getUser().getId());
-            assignedUser.setRole(task.getUser().getRole());
-            assignedUser.setUsername(task.getUser().getUsername());
-            response.setAssignedUser(assignedUser);
+        AssignedUserResponseDTO assignedUser = null;
+        User user = task.getUser();
+        if (user != null) {
+            assignedUser = users == null ? null : users.get(user.getId());
+            if (assignedUser == null) {
+                assignedUser = new AssignedUserResponseDTO(user.getId(), user.getUsername(), user.getRole());
+                if (users != null) {
+                    users.put(user.getId(), assignedUser);
+                }
+            }
+        }
+
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                task.getDueDate(), task.getUpdatedAt(), task.getPriority(), assignedUser, null);
+    }
+
+    /**
+     * Convert a row of the live + archive view -> Response
+     * @param task live or archived task
+     * @return TaskResponse with the archived flag set
+     */
+    public TaskResponse toResponseDTO(TaskView task) {
+        AssignedUserResponseDTO assignedUser = null;
+        if (task.getUser() != null && task.getUser().getId() != null) {
+            assignedUser = new AssignedUserResponseDTO(
+                    task.getUser().getId(), task.getUser().getUsername(), task.getUser().getRole());
         }
-        
-        return response;
+
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                task.getDueDate(), task.getUpdatedAt(), task.getPriority(), assignedUser, task.isArchived());
     }
 
     /**
-     * Convert List<Task> -> List<Response>
+     * Convert a projected row -> Response, leaving out fields that were not selected
+     * @param tuple row produced by TaskRepository#findProjected
+     * @param fields the fields that were selected
+     * @return TaskProjectionResponse
+     */
+    public TaskResponse toResponseDTO(Tuple tuple, Set<TaskField> fields) {
+        return toResponseDTO(tuple, fields, hasArchivedAlias(tuple), null);
+    }
+
+    private TaskResponse toResponseDTO(Tuple tuple, Set<TaskField> fields, boolean archived,
+                                       Map<Long, AssignedUserResponseDTO> users) {
+        AssignedUserResponseDTO assignedUser = null;
+        if (fields.contains(TaskField.ASSIGNED_USER)) {
+            Long userId = tuple.get("userId", Long.class);
+            if (userId != null) {
+                assignedUser = users == null ? null : users.get(userId);
+                if (assignedUser == null) {
+                    assignedUser = new AssignedUserResponseDTO(
+                            userId, tuple.get("username", String.class), tuple.get("userRole", Role.class));
+                    if (users != null) {
+                        users.put(userId, assignedUser);
+                    }
+                }
+            }
+        }
+
+        return new TaskProjectionResponse(
+                tuple.get("id", Long.class),
+                fields.contains(TaskField.TITLE) ? tuple.get("title", String.class) : null,
+                fields.contains(TaskField.DESCRIPTION) ? tuple.get("description", String.class) : null,
+                fields.contains(TaskField.COMPLETED) ? tuple.get("completed", Boolean.class) : null,
+                fields.contains(TaskField.DUE_DATE) ? tuple.get("dueDate", LocalDateTime.class) : null,
+                fields.contains(TaskField.UPDATED_AT) ? tuple.get("updatedAt", LocalDateTime.class) : null,
+                fields.contains(TaskField.PRIORITY) ? tuple.get("priority", Priority.class) : null,
+                assignedUser,
+                archived ? tuple.get("archived", Boolean.class) : null);
+    }
+
+    /**
+     * Convert List<Task> -> List<Response> in a presized list; tasks of the same user share one assignedUser
      */
     public List<TaskResponse> toResponseList(List<Task> tasks) {
-        return tasks.stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        Map<Long, AssignedUserResponseDTO> users = new HashMap<>();
+        for (Task task : tasks) {
+            responses.add(toResponseDTO(task, users));
+        }
+        return responses;
+    }
+
+    /**
+     * Convert Page<Task> -> Page<Response>; same result as page.map(this::toResponseDTO)
+     * without the stream pipeline, and with one assignedUser instance per user
+     */
+    public Page<TaskResponse> toResponsePage(Page<Task> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Convert a page of projected rows -> Page<Response>; the tuple shape is inspected once per page
+     * @param page rows produced by TaskRepository#findProjected
+     * @param fields the fields that were selected
+     * @return page of TaskResponse
+     */
+    public Page<TaskResponse> toResponsePage(Page<Tuple> page, Set<TaskField> fields) {
+        List<Tuple> rows = page.getContent();
+        List<TaskResponse> responses = new ArrayList<>(rows.size());
+        boolean archived = !rows.isEmpty() && hasArchivedAlias(rows.get(0));
+        Map<Long, AssignedUserResponseDTO> users = fields.contains(TaskField.ASSIGNED_USER) ? new HashMap<>() : null;
+        for (Tuple row : rows) {
+            responses.add(toResponseDTO(row, fields, archived, users));
+        }
+        return new PageImpl<>(responses, page.getPageable(), page.getTotalElements());
+    }
+
+    // Present only when the tuple was projected from TaskView
+    private static boolean hasArchivedAlias(Tuple tuple) {
+        for (TupleElement<?> element : tuple.getElements()) {
+            if ("archived".equals(element.getAlias())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
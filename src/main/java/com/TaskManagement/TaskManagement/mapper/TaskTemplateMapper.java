@@ -0,0 +1,42 @@
+package com.TaskManagement.TaskManagement.mapper;
+
+import com.TaskManagement.TaskManagement.dto.request.TaskTemplateRequest;
+import com.TaskManagement.TaskManagement.dto.response.TaskTemplateResponse;
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class TaskTemplateMapper {
+
+    public TaskTemplate toEntity(TaskTemplateRequest request) {
+        if (request == null) return null;
+
+        TaskTemplate template = new TaskTemplate();
+        template.setTitle(request.getTitle());
+        template.setDescription(request.getDescription());
+        template.setPriority(request.getPriority());
+        template.setUserId(request.getUserId());
+        template.setCron(request.getCron().trim());
+        return template;
+    }
+
+    public TaskTemplateResponse toResponseDTO(TaskTemplate template, List<LocalDateTime> upcoming) {
+        if (template == null) {
+            return null;
+        }
+
+        TaskTemplateResponse response = new TaskTemplateResponse();
+        response.setId(template.getId());
+        response.setTitle(template.getTitle());
+        response.setDescription(template.getDescription());
+        response.setPriority(template.getPriority());
+        response.setUserId(template.getUserId());
+        response.setCron(template.getCron());
+        response.setActive(template.isActive());
+        response.setUpcoming(upcoming);
+        return response;
+    }
+}
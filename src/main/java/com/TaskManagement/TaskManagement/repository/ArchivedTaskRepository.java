@@ -0,0 +1,11 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.TaskManagement.TaskManagement.entity.ArchivedTask;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+}
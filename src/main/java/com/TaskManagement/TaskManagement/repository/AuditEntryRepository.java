@@ -0,0 +1,23 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.AuditEntry;
+
+@Repository
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+
+    /**
+     * Finds the audit rows of one entity with pagination and sorting
+     * @param entityType the kind of entity
+     * @param entityId the entity id
+     * @param pageable pagination and sorting parameters
+     * @return page of audit rows
+     */
+    Page<AuditEntry> findByEntityTypeAndEntityId(AuditEntityType entityType, Long entityId, Pageable pageable);
+}
@@ -0,0 +1,70 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.TaskManagement.TaskManagement.entity.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Removes every stored key whose TTL has elapsed
+     * @param cutoff records expiring before this instant are deleted
+     * @return number of deleted records
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Renews the lease of a PENDING claim whose lease has ended; only one caller can win it
+     * @return 1 if the claim was taken over, 0 if it completed or someone else took it first
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r SET r.leaseExpiresAt = :lease
+            WHERE r.id = :id AND r.status = com.TaskManagement.TaskManagement.entity.IdempotencyRecord.Status.PENDING
+              AND (r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)
+            """)
+    int takeOverPending(@Param("id") String id, @Param("now") LocalDateTime now, @Param("lease") LocalDateTime lease);
+
+    /**
+     * Stores the response of a PENDING claim, provided the lease is still the caller's
+     * @param lease the lease the caller claimed or took over with
+     * @return 1 if the claim was completed, 0 if another request took it over meanwhile
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.status = com.TaskManagement.TaskManagement.entity.IdempotencyRecord.Status.COMPLETED,
+                r.responseBody = :body
+            WHERE r.id = :id AND r.status = com.TaskManagement.TaskManagement.entity.IdempotencyRecord.Status.PENDING
+              AND r.leaseExpiresAt = :lease
+            """)
+    int completePending(@Param("id") String id, @Param("lease") LocalDateTime lease, @Param("body") String body);
+
+    /**
+     * Deletes a PENDING claim so the request can be retried, unless another request took it over meanwhile
+     * @param lease the lease the caller claimed or took over with
+     * @return number of deleted records, 0 or 1
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM IdempotencyRecord r
+            WHERE r.id = :id AND r.status = com.TaskManagement.TaskManagement.entity.IdempotencyRecord.Status.PENDING
+              AND r.leaseExpiresAt = :lease
+            """)
+    int releasePending(@Param("id") String id, @Param("lease") LocalDateTime lease);
+}
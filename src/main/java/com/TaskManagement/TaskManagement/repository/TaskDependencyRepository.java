@@ -0,0 +1,32 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.TaskManagement.TaskManagement.entity.TaskDependency;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    boolean existsByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    /**
+     * Removes one edge
+     * @return number of deleted edges, 0 or 1
+     */
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerId = :blockerId AND d.blockedId = :blockedId")
+    int deleteEdge(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+
+    /**
+     * Removes every edge into or out of a task
+     * @return number of deleted edges
+     */
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerId = :taskId OR d.blockedId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+}
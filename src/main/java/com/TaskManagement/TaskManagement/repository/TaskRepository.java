@@ -1,20 +1,23 @@
 package com.TaskManagement.TaskManagement.repository;
 
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
 import com.TaskManagement.TaskManagement.entity.Priority;
 import com.TaskManagement.TaskManagement.entity.Task;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>  {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
     /**
      * Finds all tasks with pagination and sorting
@@ -29,6 +32,16 @@ public interface TaskRepository extends JpaRepository<Task, Long>  {
      */
     Page<Task> findByPriority(Priority priority, Pageable pageable);
 
+    /**
+     * Finds tasks by priority and completion status. On the partitioned prod schema
+     * (scripts/sql/partition-tasks.sql) the completed filter limits the scan to one partition.
+     * @param completed the completion status to filter by
+     * @param priority the priority to filter by
+     * @param pageable pagination and sorting parameters
+     * @return page of matching tasks
+     */
+    Page<Task> findByCompletedAndPriority(boolean completed, Priority priority, Pageable pageable);
+
     /**
      * Finds tasks by completion status with pagination and sorting
      * @param completed the completion status to filter by
@@ -41,13 +54,33 @@ public interface TaskRepository extends JpaRepository<Task, Long>  {
     /**
      * Searches tasks by title or description containing the given query (case-insensitive)
      * with pagination and sorting
-     * @param query the search query
+     * @param query the search query, escaped with TaskSpecifications#escapeLike
      * @param pageable pagination and sorting parameters
      * @return page of tasks matching the search query
      */
-    @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%'))")
+    @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) ESCAPE '\\' "
+            + "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%')) ESCAPE '\\'")
     Page<Task> searchByTitleOrDescriptionContainingIgnoreCase(@Param("query") String query, Pageable pageable);
 
+    /**
+     * Loads tasks by id with their assignee in one query; the order of the result is unspecified
+     * @param ids the task ids
+     * @return the tasks that still exist
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.user WHERE t.id IN :ids")
+    List<Task> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Tasks whose lower-cased title starts with the prefix, in title order; used by /api/tasks/suggest
+     * until the in-memory TitlePrefixIndex is built. Only the case is normalized here, on both sides; whitespace
+     * is compared as stored, so a title with a double space matches only a prefix typed with one.
+     * @param prefix lower-cased prefix with LIKE wildcards escaped by a backslash
+     * @param pageable the number of results
+     */
+    @Query("SELECT new com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse(t.id, t.title) FROM Task t "
+            + "WHERE LOWER(t.title) LIKE CONCAT(:prefix, '%') ESCAPE '\\' ORDER BY LOWER(t.title), t.id")
+    List<TaskSuggestionResponse> suggestByTitlePrefix(@Param("prefix") String prefix, Pageable pageable);
+
     /**
      * Finds all tasks by user id with pagination and sorting
      * @param id the user id
@@ -56,6 +89,34 @@ public interface TaskRepository extends JpaRepository<Task, Long>  {
      */
     Page<Task> findByUserId(Long id, Pageable pageable);
 
+    /**
+     * Open unassigned tasks, earliest due date first
+     * @param pageable how many to read
+     * @return the backlog of auto-assignment
+     */
+    @Query("SELECT t FROM Task t WHERE t.user IS NULL AND t.completed = false ORDER BY t.dueDate, t.id")
+    List<Task> findUnassignedOpen(Pageable pageable);
+
+    long countByUserIsNullAndCompletedFalse();
+
+    /**
+     * Open tasks of one user and priority, earliest due first. Served by idx_tasks_user_completed_priority_due,
+     * so it reads only the rows it returns however many tasks the user has.
+     */
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.completed = false AND t.priority = :priority "
+            + "AND t.dueDate IS NOT NULL ORDER BY t.dueDate, t.id")
+    List<Task> findOpenByUserAndPriority(@Param("userId") Long userId, @Param("priority") Priority priority,
+                                         Pageable pageable);
+
+    /**
+     * Open tasks of one user and priority without a due date, which only tasks created before it was
+     * required have. Served by the same index as findOpenByUserAndPriority.
+     */
+    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.completed = false AND t.priority = :priority "
+            + "AND t.dueDate IS NULL ORDER BY t.id")
+    List<Task> findOpenUndatedByUserAndPriority(@Param("userId") Long userId, @Param("priority") Priority priority,
+                                                Pageable pageable);
+
     // Keep the non-paginated version for backward compatibility
     List<Task> findByUserId(Long id);
 }
\ No newline at end of file
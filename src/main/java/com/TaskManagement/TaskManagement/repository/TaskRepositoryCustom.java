@@ -0,0 +1,54 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
+import com.TaskManagement.TaskManagement.entity.Task;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Selects only the requested columns; the users table is joined only when the assigned user is requested.
+     * Tuple aliases are the TaskField json names, plus userId/username/userRole for the assigned user.
+     * @param spec optional filter, may be null
+     * @param fields columns to select
+     * @param pageable pagination and sorting parameters
+     * @return page of tuples
+     */
+    Page<Tuple> findProjected(Specification<Task> spec, Set<TaskField> fields, Pageable pageable);
+
+    /**
+     * Same projection over another task-shaped entity, i.e. Task or TaskView.
+     * For TaskView the embedded assignee is read without a join and the "archived" flag is always selected.
+     */
+    <T> Page<Tuple> findProjected(Class<T> domainClass, Specification<T> spec, Set<TaskField> fields,
+                                  Pageable pageable);
+
+    /**
+     * Page of entities without a COUNT(*) query. One row more than the page size is read, so whether a
+     * next page exists is always known; the total only comes from {@code total} when there is one.
+     * @param total estimated total, or null to report no more rows than the ones seen
+     * @return the page; with a null total its totals only reach one row past this page
+     */
+    <T> Page<T> findPage(Class<T> domainClass, Specification<T> spec, Pageable pageable, LongSupplier total);
+
+    /**
+     * Projection of {@link #findProjected(Class, Specification, Set, Pageable)} counted like
+     * {@link #findPage(Class, Specification, Pageable, LongSupplier)}
+     */
+    <T> Page<Tuple> findProjected(Class<T> domainClass, Specification<T> spec, Set<TaskField> fields,
+                                  Pageable pageable, LongSupplier total);
+
+    /**
+     * Exact number of rows matching the specification
+     * @param spec the filter, or null to count every row
+     */
+    <T> long countMatching(Class<T> domainClass, Specification<T> spec);
+}
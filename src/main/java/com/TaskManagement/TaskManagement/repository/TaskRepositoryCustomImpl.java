@@ -0,0 +1,155 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskView;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findProjected(Specification<Task> spec, Set<TaskField> fields, Pageable pageable) {
+        return findProjected(Task.class, spec, fields, pageable);
+    }
+
+    @Override
+    public <T> Page<Tuple> findProjected(Class<T> domainClass, Specification<T> spec, Set<TaskField> fields,
+                                         Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+        query.multiselect(selections(root, fields));
+        applySpecification(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(domainClass, spec));
+    }
+
+    @Override
+    public <T> Page<T> findPage(Class<T> domainClass, Specification<T> spec, Pageable pageable, LongSupplier total) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<T> query = cb.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        query.select(root);
+        applySpecification(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        return pageWithLookahead(entityManager.createQuery(query), pageable, total);
+    }
+
+    @Override
+    public <T> Page<Tuple> findProjected(Class<T> domainClass, Specification<T> spec, Set<TaskField> fields,
+                                         Pageable pageable, LongSupplier total) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+        query.multiselect(selections(root, fields));
+        applySpecification(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        return pageWithLookahead(entityManager.createQuery(query), pageable, total);
+    }
+
+    @Override
+    public <T> long countMatching(Class<T> domainClass, Specification<T> spec) {
+        return count(domainClass, spec);
+    }
+
+    // Reads pageSize + 1 rows: the extra row only tells that a next page exists
+    private static <R> Page<R> pageWithLookahead(TypedQuery<R> query, Pageable pageable, LongSupplier total) {
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<R> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<R> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        long seen = pageable.getOffset() + content.size();
+        if (!hasNext) {
+            // The end is reached, so the total is known without counting
+            return new PageImpl<>(content, pageable, seen);
+        }
+        // Never report fewer rows than exist, or a stale estimate would mark this page as the last one
+        long atLeast = seen + 1;
+        return new PageImpl<>(content, pageable, total == null ? atLeast : Math.max(total.getAsLong(), atLeast));
+    }
+
+    private static <T> List<Selection<?>> selections(Root<T> root, Set<TaskField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size() + 3);
+        selections.add(root.get("id").alias(TaskField.ID.getJsonName()));
+        boolean view = root.getJavaType() == TaskView.class;
+        if (view) {
+            selections.add(root.get("archived").alias("archived"));
+        }
+
+        for (TaskField field : fields) {
+            switch (field) {
+                case TITLE -> selections.add(root.get("title").alias(field.getJsonName()));
+                case DESCRIPTION -> selections.add(root.get("description").alias(field.getJsonName()));
+                case COMPLETED -> selections.add(root.get("completed").alias(field.getJsonName()));
+                case DUE_DATE -> selections.add(root.get("dueDate").alias(field.getJsonName()));
+                case UPDATED_AT -> selections.add(root.get("updatedAt").alias(field.getJsonName()));
+                case PRIORITY -> selections.add(root.get("priority").alias(field.getJsonName()));
+                case ASSIGNED_USER -> {
+                    Path<?> user = view ? root.get("user") : root.join("user", JoinType.LEFT);
+                    selections.add(user.get("id").alias("userId"));
+                    selections.add(user.get("username").alias("username"));
+                    selections.add(user.get("role").alias("userRole"));
+                }
+                default -> {
+                    // ID is always selected
+                }
+            }
+        }
+        return selections;
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void applySpecification(Specification<T> spec, Root<T> root, CriteriaQuery<?> query,
+                                               CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
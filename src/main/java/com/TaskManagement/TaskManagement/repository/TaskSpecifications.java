@@ -0,0 +1,83 @@
+package com.TaskManagement.TaskManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+
+/**
+ * Reusable where-clauses for Task queries, mirroring the derived queries in TaskRepository.
+ * Generic so they also apply to TaskView, which uses the same attribute names.
+ */
+public final class TaskSpecifications {
+
+    /** Escape character for LIKE patterns built from user input */
+    public static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static <T> Specification<T> isCompleted(boolean completed) {
+        return (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    public static <T> Specification<T> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static <T> Specification<T> hasPriorityIn(Set<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    /**
+     * Inclusive due date range; either bound may be null
+     */
+    public static <T> Specification<T> dueBetween(LocalDateTime from, LocalDateTime to) {
+        return between("dueDate", from, to);
+    }
+
+    /**
+     * Inclusive creation date range; either bound may be null
+     */
+    public static <T> Specification<T> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    private static <T> Specification<T> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.<LocalDateTime>get(attribute), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.<LocalDateTime>get(attribute), from);
+            }
+            return cb.lessThanOrEqualTo(root.<LocalDateTime>get(attribute), to);
+        };
+    }
+
+    public static <T> Specification<T> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    /**
+     * Same semantics as {@link TaskRepository#searchByTitleOrDescriptionContainingIgnoreCase}:
+     * %, _ and \ in the text are matched literally
+     */
+    public static <T> Specification<T> titleOrDescriptionContains(String text) {
+        return (root, query, cb) -> {
+            String pattern = "%" + escapeLike(text.toLowerCase()) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE));
+        };
+    }
+
+    /**
+     * Escapes the LIKE wildcards in user input with {@link #LIKE_ESCAPE}
+     */
+    public static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,11 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+
+@Repository
+public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Long> {
+}
@@ -0,0 +1,15 @@
+package com.TaskManagement.TaskManagement.repository;
+
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import com.TaskManagement.TaskManagement.entity.TaskView;
+
+/**
+ * Read-only access to live and archived tasks together; filter with TaskSpecifications
+ */
+@Repository
+public interface TaskViewRepository extends JpaRepository<TaskView, Long>, JpaSpecificationExecutor<TaskView> {
+}
@@ -0,0 +1,198 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.AuditProperties;
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.AuditEntry;
+import com.TaskManagement.TaskManagement.event.EntityChangedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import com.TaskManagement.TaskManagement.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records field changes of tasks and users without slowing down the request that made them.
+ * Committed changes go into a bounded FIFO queue (a non-blocking offer on the request thread);
+ * a single writer thread drains it and appends the rows to audit_log in JDBC batches.
+ * The queue does not overwrite: when it is full the incoming changes are dropped, the ones already
+ * queued are kept, and the loss is counted in audit.dropped rather than blocking the request.
+ */
+@Service
+public class AuditService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO audit_log (entity_type, entity_id, action, field, old_value, new_value, changed_by, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditEntryRepository auditEntryRepository;
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditEntry> buffer;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditService(JdbcTemplate jdbcTemplate, AuditEntryRepository auditEntryRepository,
+                        AuditProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditEntryRepository = auditEntryRepository;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.written = Counter.builder("audit.written")
+                .description("Audit rows appended to audit_log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.dropped")
+                .description("Audit rows lost because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit rows waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        record(event.getAudit());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        record(event.getAudit());
+    }
+
+    /**
+     * Buffers the changes of a committed mutation
+     * @param event the field-level diff
+     */
+    public void record(EntityChangedEvent event) {
+        if (!properties.isEnabled() || event.isEmpty()) {
+            return;
+        }
+        for (EntityChangedEvent.FieldChange change : event.getChanges()) {
+            AuditEntry entry = new AuditEntry(null, event.getEntityType(), event.getEntityId(), event.getAction(),
+                    change.getField(), change.getOldValue(), change.getNewValue(), event.getActor(),
+                    event.getChangedAt());
+            if (!buffer.offer(entry)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the change history of one entity, newest first
+     * @param entityType the kind of entity
+     * @param entityId the entity id
+     * @param request page and size; the sort is always newest first
+     * @return a page of audit rows
+     * @throws IllegalArgumentException if the pagination request is null
+     */
+    @Transactional(readOnly = true)
+    public Page<AuditEntryResponse> findHistory(AuditEntityType entityType, Long entityId, PaginationRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Pagination request cannot be null");
+        }
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "id"));
+        return auditEntryRepository.findByEntityTypeAndEntityId(entityType, entityId, pageable)
+                .map(entry -> new AuditEntryResponse(entry.getId(), entry.getAction(), entry.getField(),
+                        entry.getOldValue(), entry.getNewValue(), entry.getChangedBy(), entry.getChangedAt()));
+    }
+
+    /**
+     * Waits up to flush-interval for a buffered change, then writes it with whatever else is buffered,
+     * up to batch-size rows. Only the writer thread calls this outside of tests.
+     * @return number of rows written
+     */
+    int drainAndWrite() throws InterruptedException {
+        AuditEntry first = buffer.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<AuditEntry> batch = new ArrayList<>(properties.getBatchSize());
+        batch.add(first);
+        buffer.drainTo(batch, properties.getBatchSize() - 1);
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AuditEntry entry : batch) {
+            rows.add(new Object[] {entry.getEntityType().name(), entry.getEntityId(), entry.getAction().name(),
+                    entry.getField(), entry.getOldValue(), entry.getNewValue(), entry.getChangedBy(),
+                    Timestamp.valueOf(entry.getChangedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+        written.increment(rows.size());
+        return rows.size();
+    }
+
+    private void writeLoop() {
+        // Keeps draining after stop() until the buffer is empty
+        while (running || !buffer.isEmpty()) {
+            try {
+                drainAndWrite();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to write audit batch", e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(properties.getFlushInterval().multipliedBy(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("Stopped with {} audit rows still buffered", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Starts before and stops after the embedded web server, so the last requests' changes are still written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,24 @@
+package com.TaskManagement.TaskManagement.service;
+
+/**
+ * Operation classes of the async API; each one runs on its own bounded pool in BulkheadExecutor,
+ * so a burst of one class cannot take the threads (and database connections) of another.
+ */
+public enum Bulkhead {
+    SEARCH(true),
+    LIST(true),
+    POINT_READ(true),
+    // A write keeps running and commits after its caller stops waiting, so it is never reported as timed out
+    WRITE(false);
+
+    private final boolean timed;
+
+    Bulkhead(boolean timed) {
+        this.timed = timed;
+    }
+
+    /** Whether callers stop waiting after the pool's timeout */
+    public boolean isTimed() {
+        return timed;
+    }
+}
@@ -0,0 +1,82 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.BulkheadProperties;
+import com.TaskManagement.TaskManagement.exception.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of the async API on one bounded thread pool per {@link Bulkhead}.
+ * A full queue fails fast with {@link BulkheadFullException} (503) instead of piling up requests,
+ * and callers of a timed class stop waiting after the pool's timeout (504). The timeout does not stop
+ * the work itself, which is why writes are not timed. The caller's security context is carried
+ * over to the pool thread. Pools are exported as executor.* metrics tagged with name=bulkhead-&lt;class&gt;.
+ */
+@Component
+public class BulkheadExecutor implements DisposableBean {
+
+    private final Map<Bulkhead, ExecutorService> pools = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Executor> executors = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Duration> timeouts = new EnumMap<>(Bulkhead.class);
+
+    public BulkheadExecutor(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            BulkheadProperties.Pool pool = properties.pool(bulkhead);
+            String name = "bulkhead-" + bulkhead.name().toLowerCase().replace('_', '-');
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(pool.getThreads(), pool.getThreads(),
+                    60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, pool.getQueueCapacity())),
+                    new CustomizableThreadFactory(name + "-"), new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+
+            ExecutorService monitored = ExecutorServiceMetrics.monitor(registry, executor, name, Tags.empty());
+            pools.put(bulkhead, monitored);
+            executors.put(bulkhead, new DelegatingSecurityContextExecutor(monitored));
+            timeouts.put(bulkhead, pool.getTimeout());
+        }
+    }
+
+    /**
+     * Runs the supplier on the bulkhead's pool
+     * @param bulkhead operation class of the call
+     * @param supplier the blocking work, typically a service call
+     * @return future completed with the result, or exceptionally with a TimeoutException after the pool's timeout
+     *         when the bulkhead is timed
+     * @throws BulkheadFullException if every thread is busy and the queue is full
+     */
+    public <T> CompletableFuture<T> supply(Bulkhead bulkhead, Supplier<T> supplier) {
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(supplier, executors.get(bulkhead));
+            return bulkhead.isTimed()
+                    ? future.orTimeout(timeouts.get(bulkhead).toMillis(), TimeUnit.MILLISECONDS)
+                    : future;
+        } catch (RejectedExecutionException e) {
+            throw new BulkheadFullException(bulkhead);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(ExecutorService::shutdown);
+    }
+}
@@ -0,0 +1,433 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.event.DependencyRemovedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory copy of task_dependencies holding every task that has an edge, kept in topological order.
+ * <p>
+ * The order is maintained incrementally (Pearce and Kelly, 2006): an edge that agrees with the current
+ * order costs O(1); otherwise only the tasks ordered between its two ends are searched, which also finds
+ * a cycle, and just those tasks are renumbered. Each task counts its open blockers, and tasks that are
+ * open with none are kept sorted by order, so the ready list is read off the front.
+ * <p>
+ * Built once the application is ready, or by the first caller, and rebuilt every rebuild-interval.
+ * Edges are added right away, so concurrent inserts check for cycles against each other, and removed
+ * again on rollback; removed edges and completed, reopened or deleted tasks apply once they commit,
+ * through {@link DependencyRemovedEvent} and {@link TaskChangedEvent}.
+ */
+@Component
+public class DependencyGraph extends RebuildableState<DependencyGraph.Graph> {
+
+    private static final Logger log = LoggerFactory.getLogger(DependencyGraph.class);
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final String SELECT_EDGES = "SELECT blocker_id, blocked_id FROM task_dependencies";
+    private static final String SELECT_OPEN = """
+            SELECT t.id FROM tasks t
+            WHERE t.completed = FALSE AND t.deleted_at IS NULL
+              AND (t.id IN (SELECT blocker_id FROM task_dependencies)
+                   OR t.id IN (SELECT blocked_id FROM task_dependencies))
+            """;
+
+    /** Outcome of adding an edge */
+    public enum EdgeResult {
+        ADDED,
+        ALREADY_PRESENT,
+        CYCLE
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DependencyGraph(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        super("dependency graph");
+        // Own template so the fetch size streams the rows instead of loading the whole table at once
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("dependency.graph.tasks", this, g -> g.read(graph -> graph == null ? 0 : graph.nodes.size()))
+                .description("Tasks with at least one dependency edge")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds an edge unless it would close a cycle. The edge counts immediately; if the surrounding
+     * transaction rolls back it is removed again.
+     * @param blockerOpen whether the blocker is open, used if it has no edge yet
+     * @param blockedOpen whether the blocked task is open, used if it has no edge yet
+     */
+    public EdgeResult addEdge(long blockerId, long blockedId, boolean blockerOpen, boolean blockedOpen) {
+        ensureBuilt();
+        EdgeResult result = update(graph -> {
+            EdgeResult added = graph.addEdge(blockerId, blockedId, blockerOpen, blockedOpen);
+            if (added == EdgeResult.ADDED) {
+                journal(g -> g.addEdge(blockerId, blockedId, blockerOpen, blockedOpen));
+            }
+            return added;
+        });
+        if (result == EdgeResult.ADDED) {
+            applyOnRollback(g -> g.removeEdge(blockerId, blockedId));
+        }
+        return result;
+    }
+
+    /** Removes an edge */
+    public void removeEdge(long blockerId, long blockedId) {
+        apply(g -> g.removeEdge(blockerId, blockedId));
+    }
+
+    /** Records that a task was completed or reopened */
+    public void setOpen(long taskId, boolean open) {
+        apply(g -> g.setOpen(taskId, open));
+    }
+
+    /** Drops a deleted task and its edges */
+    public void removeTask(long taskId) {
+        apply(g -> g.removeTask(taskId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDependencyRemoved(DependencyRemovedEvent event) {
+        removeEdge(event.getBlockerId(), event.getBlockedId());
+    }
+
+    // Any change may have completed or reopened the task; setOpen ignores tasks without edges
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isDeleted()) {
+            removeTask(event.getTaskId());
+        } else {
+            setOpen(event.getTaskId(), !event.isCompleted());
+        }
+    }
+
+    /**
+     * Tasks that block a task, in topological order
+     * @param transitive whether to include the blockers of blockers, and so on
+     * @return blocker ids, empty if the task has no dependencies
+     */
+    public List<Long> blockers(long taskId, boolean transitive) {
+        ensureBuilt();
+        return read(graph -> graph.blockers(taskId, transitive));
+    }
+
+    /**
+     * Open tasks in the graph whose blockers are all done, in topological order
+     * @param limit most ids to return
+     */
+    public List<Long> ready(int limit) {
+        ensureBuilt();
+        return read(graph -> {
+            List<Long> ids = new ArrayList<>(Math.min(limit, graph.ready.size()));
+            for (Iterator<Node> it = graph.ready.iterator(); it.hasNext() && ids.size() < limit; ) {
+                ids.add(it.next().id);
+            }
+            return ids;
+        });
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.dependencies.rebuild-interval:PT6H}",
+            fixedDelayString = "${app.dependencies.rebuild-interval:PT6H}")
+    public void runScheduled() {
+        rebuild();
+    }
+
+    // Callers before the first build wait for it: cycle checks need the whole graph
+    private void ensureBuilt() {
+        if (awaitBuilt() == null) {
+            throw new IllegalStateException("The dependency graph could not be loaded");
+        }
+    }
+
+    /**
+     * Reads task_dependencies into a new graph
+     */
+    @Override
+    protected Loaded<Graph> load() {
+        Graph next = new Graph();
+        int[] read = {0};
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(SELECT_EDGES, rs -> {
+                next.link(next.loaded(rs.getLong(1)), next.loaded(rs.getLong(2)));
+                read[0]++;
+            });
+            jdbcTemplate.query(SELECT_OPEN, rs -> {
+                Node node = next.nodes.get(rs.getLong(1));
+                if (node != null) {
+                    node.open = true;
+                }
+            });
+        });
+        next.orderLoaded();
+        return new Loaded<>(next, read[0]);
+    }
+
+    private static final class Node {
+
+        private final long id;
+        private int order;
+        private boolean open;
+        private int openBlockers;
+        // Search mark of addEdge, compared with Graph.epoch
+        private int visited;
+        private final List<Node> blocks = new ArrayList<>(2);
+        private final List<Node> blockedBy = new ArrayList<>(2);
+
+        private Node(long id, int order, boolean open) {
+            this.id = id;
+            this.order = order;
+            this.open = open;
+        }
+    }
+
+    private static final Comparator<Node> BY_ORDER = Comparator.comparingInt(node -> node.order);
+
+    // Every change is idempotent, so replaying one the rebuild already read leaves the graph as it is
+    static final class Graph {
+
+        private final Map<Long, Node> nodes = new HashMap<>();
+        private final TreeSet<Node> ready = new TreeSet<>(BY_ORDER);
+        private int nextOrder;
+        private int epoch;
+
+        // Node of a loaded edge; orderLoaded() numbers it
+        private Node loaded(long id) {
+            return nodes.computeIfAbsent(id, key -> new Node(key, 0, false));
+        }
+
+        private void link(Node blocker, Node blocked) {
+            blocker.blocks.add(blocked);
+            blocked.blockedBy.add(blocker);
+        }
+
+        // Kahn's algorithm over the loaded edges; a cycle that reached the table anyway is numbered last
+        private void orderLoaded() {
+            Map<Node, Integer> pending = new HashMap<>();
+            Deque<Node> free = new ArrayDeque<>();
+            nodes.values().stream()
+                    .sorted(Comparator.comparingLong(node -> node.id))
+                    .forEach(node -> {
+                        pending.put(node, node.blockedBy.size());
+                        if (node.blockedBy.isEmpty()) {
+                            free.add(node);
+                        }
+                    });
+            while (!free.isEmpty()) {
+                Node node = free.poll();
+                node.order = nextOrder++;
+                pending.remove(node);
+                for (Node blocked : node.blocks) {
+                    if (pending.merge(blocked, -1, Integer::sum) == 0) {
+                        free.add(blocked);
+                    }
+                }
+            }
+            if (!pending.isEmpty()) {
+                log.warn("task_dependencies contains a cycle through {} tasks", pending.size());
+                for (Node node : pending.keySet()) {
+                    node.order = nextOrder++;
+                }
+            }
+            for (Node node : nodes.values()) {
+                if (node.open) {
+                    for (Node blocked : node.blocks) {
+                        blocked.openBlockers++;
+                    }
+                }
+            }
+            nodes.values().forEach(this::refreshReady);
+        }
+
+        private Node node(long id, boolean open) {
+            Node node = nodes.get(id);
+            if (node == null) {
+                node = new Node(id, nextOrder++, open);
+                nodes.put(id, node);
+                refreshReady(node);
+            }
+            return node;
+        }
+
+        private EdgeResult addEdge(long blockerId, long blockedId, boolean blockerOpen, boolean blockedOpen) {
+            Node existing = nodes.get(blockerId);
+            Node target = nodes.get(blockedId);
+            if (existing != null && target != null && existing.blocks.contains(target)) {
+                return EdgeResult.ALREADY_PRESENT;
+            }
+            // A cycle needs a path from blocked to blocker, so neither can be new
+            if (existing != null && target != null && existing.order > target.order && !reorder(existing, target)) {
+                return EdgeResult.CYCLE;
+            }
+            Node blocker = node(blockerId, blockerOpen);
+            Node blocked = node(blockedId, blockedOpen);
+            link(blocker, blocked);
+            if (blocker.open) {
+                blocked.openBlockers++;
+                refreshReady(blocked);
+            }
+            return EdgeResult.ADDED;
+        }
+
+        /*
+         * Pearce-Kelly: blocker is ordered after blocked. Collect what blocked leads to up to blocker's
+         * position (reaching blocker means a cycle) and what leads to blocker down to blocked's position,
+         * then give the second group the lowest of their positions, keeping each group's own order.
+         */
+        private boolean reorder(Node blocker, Node blocked) {
+            epoch++;
+            List<Node> forward = new ArrayList<>();
+            Deque<Node> stack = new ArrayDeque<>();
+            blocked.visited = epoch;
+            stack.push(blocked);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                forward.add(node);
+                for (Node next : node.blocks) {
+                    if (next == blocker) {
+                        return false;
+                    }
+                    if (next.visited != epoch && next.order < blocker.order) {
+                        next.visited = epoch;
+                        stack.push(next);
+                    }
+                }
+            }
+            List<Node> backward = new ArrayList<>();
+            blocker.visited = epoch;
+            stack.push(blocker);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                backward.add(node);
+                for (Node previous : node.blockedBy) {
+                    if (previous.visited != epoch && previous.order > blocked.order) {
+                        previous.visited = epoch;
+                        stack.push(previous);
+                    }
+                }
+            }
+
+            backward.sort(BY_ORDER);
+            forward.sort(BY_ORDER);
+            List<Node> moved = new ArrayList<>(backward);
+            moved.addAll(forward);
+            int[] orders = moved.stream().mapToInt(node -> node.order).sorted().toArray();
+            moved.forEach(ready::remove);
+            for (int i = 0; i < orders.length; i++) {
+                moved.get(i).order = orders[i];
+            }
+            moved.forEach(this::refreshReady);
+            return true;
+        }
+
+        private void removeEdge(long blockerId, long blockedId) {
+            Node blocker = nodes.get(blockerId);
+            Node blocked = nodes.get(blockedId);
+            if (blocker == null || blocked == null || !blocker.blocks.remove(blocked)) {
+                return;
+            }
+            blocked.blockedBy.remove(blocker);
+            if (blocker.open) {
+                blocked.openBlockers--;
+                refreshReady(blocked);
+            }
+            dropIfUnlinked(blocker);
+            dropIfUnlinked(blocked);
+        }
+
+        private void setOpen(long taskId, boolean open) {
+            Node node = nodes.get(taskId);
+            if (node == null || node.open == open) {
+                return;
+            }
+            node.open = open;
+            for (Node blocked : node.blocks) {
+                blocked.openBlockers += open ? 1 : -1;
+                refreshReady(blocked);
+            }
+            refreshReady(node);
+        }
+
+        private void removeTask(long taskId) {
+            Node node = nodes.get(taskId);
+            if (node == null) {
+                return;
+            }
+            for (Node blocked : List.copyOf(node.blocks)) {
+                removeEdge(taskId, blocked.id);
+            }
+            for (Node blocker : List.copyOf(node.blockedBy)) {
+                removeEdge(blocker.id, taskId);
+            }
+        }
+
+        private List<Long> blockers(long taskId, boolean transitive) {
+            Node node = nodes.get(taskId);
+            if (node == null) {
+                return List.of();
+            }
+            List<Node> found = new ArrayList<>(node.blockedBy);
+            if (transitive) {
+                // Readers share the lock, so this search keeps its marks to itself
+                Set<Node> seen = new HashSet<>(found);
+                for (int i = 0; i < found.size(); i++) {
+                    for (Node previous : found.get(i).blockedBy) {
+                        if (seen.add(previous)) {
+                            found.add(previous);
+                        }
+                    }
+                }
+            }
+            found.sort(BY_ORDER);
+            return found.stream().map(blocker -> blocker.id).toList();
+        }
+
+        private void refreshReady(Node node) {
+            if (node.open && node.openBlockers == 0 && nodes.get(node.id) == node) {
+                ready.add(node);
+            } else {
+                ready.remove(node);
+            }
+        }
+
+        private void dropIfUnlinked(Node node) {
+            if (node.blocks.isEmpty() && node.blockedBy.isEmpty()) {
+                nodes.remove(node.id);
+                ready.remove(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.TaskManagement.TaskManagement.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.TaskManagement.TaskManagement.config.IdempotencyProperties;
+import com.TaskManagement.TaskManagement.entity.IdempotencyRecord;
+import com.TaskManagement.TaskManagement.exception.IdempotencyConflictException;
+import com.TaskManagement.TaskManagement.exception.IdempotencyKeyReusedException;
+import com.TaskManagement.TaskManagement.repository.IdempotencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Replays the stored response of a request that is retried with the same Idempotency-Key.
+ * Lookups go through a bounded in-memory LRU first and fall back to the idempotency_keys table.
+ * Concurrent retries on one node wait for the first attempt; across nodes the table's
+ * primary key decides which request gets to run. A key remembers a hash of its request, so reusing
+ * it for a different request is rejected instead of replaying the wrong response. A claim whose
+ * request never finished, e.g. because its node crashed, can be taken over once its lease ends.
+ * <p>
+ * The operation and the stored response commit in one transaction, which the operation's own
+ * transaction joins. A request that dies before storing its response therefore leaves nothing behind
+ * for a retry to duplicate, and one that still finishes after its claim was taken over rolls back.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> cache;
+
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter inFlightHits;
+    private final Counter misses;
+    private final Counter conflicts;
+
+    public IdempotencyService(IdempotencyRepository idempotencyRepository,
+                              ObjectMapper objectMapper,
+                              IdempotencyProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int maxEntries = properties.getCacheSize();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.memoryHits = outcomeCounter(meterRegistry, "hit_memory");
+        this.databaseHits = outcomeCounter(meterRegistry, "hit_database");
+        this.inFlightHits = outcomeCounter(meterRegistry, "hit_in_flight");
+        this.misses = outcomeCounter(meterRegistry, "miss");
+        this.conflicts = outcomeCounter(meterRegistry, "conflict");
+        Gauge.builder("idempotency.cache.size", cache, Map::size)
+                .description("Responses held in the in-memory idempotency cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by how they were served")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Runs the operation once per key, replaying its response for later requests with the same key
+     * @param key the client supplied Idempotency-Key
+     * @param scope the operation the key belongs to, e.g. "tasks:create"
+     * @param principal the authenticated caller, so keys of different users never collide
+     * @param request what the operation does, e.g. the request body; a retry has to send the same
+     * @param responseType type used to read a stored response back
+     * @param operation the actual (non idempotent) work
+     * @return the response of the first successful execution
+     * @throws IllegalArgumentException if the key is blank or too long
+     * @throws IdempotencyConflictException if the same key is still being processed elsewhere
+     * @throws IdempotencyKeyReusedException if the key was used for a different request
+     */
+    public <T> T execute(String key, String scope, String principal, Object request, Class<T> responseType,
+                         Supplier<T> operation) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key cannot be blank");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storageKey = scope + ":" + principal + ":" + key;
+        if (storageKey.length() > IdempotencyRecord.MAX_ID_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key cannot be longer than "
+                    + (IdempotencyRecord.MAX_ID_LENGTH - storageKey.length() + key.length()) + " characters for this caller");
+        }
+        String requestHash = hash(request);
+        // The lease is compared again when the response is stored, so keep it to a precision every database holds
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        CachedResponse cached = cache.get(storageKey);
+        if (cached != null && !cached.isExpired(now)) {
+            checkSameRequest(cached.requestHash(), requestHash, key);
+            memoryHits.increment();
+            return read(cached.body(), responseType);
+        }
+
+        InFlight own = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(storageKey, own);
+        if (running != null) {
+            checkSameRequest(running.requestHash(), requestHash, key);
+            inFlightHits.increment();
+            return read(await(running.response(), key), responseType);
+        }
+
+        try {
+            return executeOnce(storageKey, key, requestHash, now, responseType, operation, own.response());
+        } finally {
+            inFlight.remove(storageKey, own);
+        }
+    }
+
+    private <T> T executeOnce(String storageKey, String key, String requestHash, LocalDateTime now,
+                              Class<T> responseType, Supplier<T> operation, CompletableFuture<String> ownFuture) {
+        IdempotencyRecord claimed = null;
+        try {
+            Optional<IdempotencyRecord> existing = idempotencyRepository.findById(storageKey);
+            if (existing.isPresent() && existing.get().isExpired(now)) {
+                idempotencyRepository.delete(existing.get());
+                existing = Optional.empty();
+            }
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                checkSameRequest(record.getRequestHash(), requestHash, key);
+                if (record.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+                    databaseHits.increment();
+                    remember(storageKey, requestHash, record.getResponseBody(), record.getExpiresAt());
+                    ownFuture.complete(record.getResponseBody());
+                    return read(record.getResponseBody(), responseType);
+                }
+                claimed = takeOver(record, key, now);
+            } else {
+                claimed = claim(storageKey, key, requestHash, now);
+            }
+            misses.increment();
+
+            LocalDateTime lease = claimed.getLeaseExpiresAt();
+            Completed<T> completed = transactionTemplate.execute(status -> {
+                T result = operation.get();
+                String body = write(result);
+                if (idempotencyRepository.completePending(storageKey, lease, body) == 0) {
+                    // Our lease ran out and another request took the key over; its run is the one that counts
+                    conflicts.increment();
+                    throw new IdempotencyConflictException(key);
+                }
+                return new Completed<>(result, body);
+            });
+            claimed.setStatus(IdempotencyRecord.Status.COMPLETED);
+
+            remember(storageKey, requestHash, completed.body(), claimed.getExpiresAt());
+            ownFuture.complete(completed.body());
+            return completed.result();
+        } catch (RuntimeException ex) {
+            if (claimed != null && claimed.getStatus() == IdempotencyRecord.Status.PENDING) {
+                // Release the key so the client can retry a request that failed, unless it was taken over
+                idempotencyRepository.releasePending(storageKey, claimed.getLeaseExpiresAt());
+            }
+            ownFuture.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private IdempotencyRecord claim(String storageKey, String key, String requestHash, LocalDateTime now) {
+        IdempotencyRecord record = new IdempotencyRecord(storageKey, requestHash, now.plus(properties.getTtl()),
+                now.plus(properties.getPendingLease()));
+        try {
+            return idempotencyRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException ex) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(key);
+        }
+    }
+
+    // A pending claim is still being processed until its lease ends; after that one retry may take it over
+    private IdempotencyRecord takeOver(IdempotencyRecord record, String key, LocalDateTime now) {
+        LocalDateTime lease = now.plus(properties.getPendingLease());
+        if (!record.isLeaseExpired(now) || idempotencyRepository.takeOverPending(record.getId(), now, lease) == 0) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(key);
+        }
+        log.warn("Taking over idempotency key {} whose request did not finish", record.getId());
+        record.setLeaseExpiresAt(lease);
+        return record;
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash, String key) {
+        // Keys stored before request hashes existed match any request
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            conflicts.increment();
+            throw new IdempotencyKeyReusedException(key);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(write(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String await(CompletableFuture<String> running, String key) {
+        try {
+            return running.get(properties.getInFlightWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            conflicts.increment();
+            throw new IdempotencyConflictException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(key);
+        }
+    }
+
+    private void remember(String storageKey, String requestHash, String body, LocalDateTime expiresAt) {
+        cache.put(storageKey, new CachedResponse(requestHash, body, expiresAt));
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot store idempotent response", ex);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot replay idempotent response", ex);
+        }
+    }
+
+    /**
+     * Purges expired keys from the table; the in-memory entries expire lazily
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int deleted = idempotencyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<String> response) {
+    }
+
+    private record Completed<T>(T result, String body) {
+    }
+
+    private record CachedResponse(String requestHash, String body, LocalDateTime expiresAt) {
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
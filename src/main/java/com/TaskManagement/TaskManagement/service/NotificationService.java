@@ -1,6 +1,7 @@
 package com.TaskManagement.TaskManagement.service;
 
 import com.TaskManagement.TaskManagement.event.TaskAssignedEvent;
+import com.TaskManagement.TaskManagement.event.TasksReassignedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
@@ -21,4 +22,20 @@ public class NotificationService {
 
         log.info("NOTIFICATION: Notification sent for task {}.", event.getTaskId());
     }
+
+    // One notification for all tasks taken over from a deleted user
+    @Async
+    @EventListener
+    public void handleTasksReassignedEvent(TasksReassignedEvent event) {
+        if (event.getToUserId() == null) {
+            log.info("NOTIFICATION: {} tasks of deleted user {} are now unassigned",
+                    event.getTaskCount(), event.getFromUsername());
+            return;
+        }
+        log.info("NOTIFICATION: Sending notification to user {} ({}) about {} tasks taken over from {}",
+                event.getToUsername(),
+                event.getToEmail(),
+                event.getTaskCount(),
+                event.getFromUsername());
+    }
 }
@@ -0,0 +1,189 @@
+package com.TaskManagement.TaskManagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory state that is read from the database in full every so often and kept current in between
+ * by the changes the application commits.
+ * <p>
+ * A rebuild reads into a new state without holding the lock. Changes applied while it reads go to the
+ * current state and into a journal that is replayed onto the new state before it replaces the old one,
+ * so no change is lost to a read that started before it. Replaying a change the read already saw must
+ * therefore leave the state as it is. Rebuilds run one at a time, and a failed one keeps the previous state.
+ * @param <S> the state; subclasses read it without a lock where it allows that, otherwise through {@link #read}
+ */
+abstract class RebuildableState<S> {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final String name;
+
+    // The state and the journal of a running rebuild change under the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile S state;
+    private List<Consumer<S>> changesDuringRebuild;
+    // Held for a whole rebuild, so callers waiting for the first build do not start another
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * @param name what the state is called in the logs, e.g. "title prefix index"
+     */
+    protected RebuildableState(String name) {
+        this.name = name;
+    }
+
+    /** A freshly read state and the number of rows it was read from */
+    protected record Loaded<S>(S state, int read) {
+    }
+
+    /**
+     * Reads the whole state from the database; runs without the lock while changes keep coming in
+     */
+    protected abstract Loaded<S> load();
+
+    /**
+     * Whether rebuilds run; a disabled state keeps whatever it had
+     */
+    protected boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * @return the current state, null until the first build
+     */
+    protected final S state() {
+        return state;
+    }
+
+    /**
+     * Reads a new state and swaps it in
+     * @return number of rows read, or -1 if disabled, another rebuild is running or it failed
+     */
+    public int rebuild() {
+        if (!isEnabled() || !rebuildLock.tryLock()) {
+            return -1;
+        }
+        try {
+            return rebuildHoldingLock();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the state, building it first if there is none yet; waits for a first build that is running
+     * @return the state, or null if it is disabled or could not be read
+     */
+    protected final S awaitBuilt() {
+        if (state == null) {
+            rebuildLock.lock();
+            try {
+                if (state == null && isEnabled()) {
+                    rebuildHoldingLock();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return state;
+    }
+
+    private int rebuildHoldingLock() {
+        update(current -> changesDuringRebuild = new ArrayList<>());
+        try {
+            Loaded<S> loaded = load();
+            update(current -> {
+                for (Consumer<S> change : changesDuringRebuild) {
+                    change.accept(loaded.state());
+                }
+                state = loaded.state();
+                changesDuringRebuild = null;
+                return null;
+            });
+            log.info("Built the {} from {} rows", name, loaded.read());
+            return loaded.read();
+        } catch (RuntimeException e) {
+            update(current -> changesDuringRebuild = null);
+            log.warn("Failed to build the {}, keeping the previous one: {}", name, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Applies a change to the current state, if there is one, and to the rebuild that is running
+     */
+    protected final void apply(Consumer<S> change) {
+        update(current -> {
+            if (current != null) {
+                change.accept(current);
+            }
+            journal(change);
+            return null;
+        });
+    }
+
+    /**
+     * Runs an action under the write lock, for changes that depend on the current state;
+     * the action passes what it changed to {@link #journal}
+     * @param action gets the current state, null before the first build
+     */
+    protected final <T> T update(Function<S, T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.apply(state);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hands a change already made to the current state on to the rebuild that is running, if any.
+     * Only called from an {@link #update} action.
+     */
+    protected final void journal(Consumer<S> change) {
+        if (!lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("journal() must be called from update()");
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * Applies an undo if the surrounding transaction rolls back, for changes that count before it commits
+     */
+    protected final void applyOnRollback(Consumer<S> undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        apply(undo);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs a query under the read lock, for states that cannot be read while they change
+     * @param query gets the current state, null before the first build
+     */
+    protected final <T> T read(Function<S, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
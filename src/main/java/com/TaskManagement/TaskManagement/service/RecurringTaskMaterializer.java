@@ -0,0 +1,244 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.RecurringProperties;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.TaskAssignedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns occurrences of recurring task templates into tasks once they are due within app.recurring.horizon.
+ * <p>
+ * Templates store only their next occurrence, so one indexed query on next_due_at finds the due ones,
+ * however many templates exist. Each batch locks its templates with FOR UPDATE SKIP LOCKED, inserts their
+ * occurrences and moves next_due_at on in the same transaction: an occurrence is created exactly once,
+ * and instances running at the same time take different templates instead of waiting for each other.
+ * The insert also skips an occurrence that already exists, in case next_due_at was moved back by hand.
+ * <p>
+ * Rows are inserted without the entity layer. Once a batch has committed, a TaskChangedEvent is published
+ * for each new task, so the audit log, the search cache and the in-memory indices see it as if TaskService
+ * had created it, and a TaskAssignedEvent for each one that has an assignee.
+ */
+@Service
+public class RecurringTaskMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTaskMaterializer.class);
+
+    // tasks has no unique constraint on (template_id, due_date): the row locks taken here are the only thing
+    // that keeps two instances from inserting the same occurrence, so every insert has to run under them
+    private static final String SELECT_DUE = """
+            SELECT id, title, description, priority, user_id, cron, next_due_at FROM task_templates
+            WHERE active = TRUE AND next_due_at <= :horizon
+            ORDER BY next_due_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+    // The user may have been deleted since the template was created
+    private static final String INSERT_OCCURRENCE = """
+            INSERT INTO tasks (title, description, completed, due_date, priority, user_id, template_id,
+                               created_at, updated_at)
+            SELECT :title, :description, FALSE, :dueDate, :priority,
+                   (SELECT u.id FROM users u WHERE u.id = :userId), :templateId, :now, :now
+            WHERE NOT EXISTS (SELECT 1 FROM tasks t WHERE t.template_id = :templateId AND t.due_date = :dueDate)
+            """;
+    private static final String SELECT_CREATED = """
+            SELECT t.id, t.title, t.description, t.due_date, t.priority, t.template_id,
+                   u.id AS user_id, u.username, u.email
+            FROM tasks t LEFT JOIN users u ON u.id = t.user_id
+            WHERE t.template_id IN (:templateIds) AND t.created_at = :now
+            ORDER BY t.id
+            """;
+    private static final String ADVANCE = "UPDATE task_templates SET next_due_at = :next, active = :active WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecurringProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter materialized;
+
+    public RecurringTaskMaterializer(NamedParameterJdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     RecurringProperties properties,
+                                     ApplicationEventPublisher eventPublisher,
+                                     MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.materialized = Counter.builder("tasks.materialized")
+                .description("Tasks created from recurring templates")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.recurring.interval:PT1M}", initialDelayString = "${app.recurring.initial-delay:PT1M}")
+    public void runScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int created = materialize(LocalDateTime.now());
+        if (created > 0) {
+            log.info("Created {} tasks from recurring templates", created);
+        }
+    }
+
+    /**
+     * Creates the tasks of every occurrence due before now + horizon
+     * @param now reference time
+     * @return number of created tasks
+     */
+    public int materialize(LocalDateTime now) {
+        LocalDateTime horizon = now.plus(properties.getHorizon());
+        int total = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            BatchResult result = transactionTemplate.execute(status -> materializeBatch(now, horizon));
+            // Outside the transaction, so the listeners run right away on what has committed
+            for (Task task : result.tasks()) {
+                publishCreated(task);
+            }
+            materialized.increment(result.created());
+            total += result.created();
+            if (result.templates() < properties.getBatchSize() && !result.capped()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // capped: some template still has occurrences within the horizon; tasks: the ones this batch inserted
+    private record BatchResult(int templates, int created, boolean capped, List<Task> tasks) {
+    }
+
+    private BatchResult materializeBatch(LocalDateTime now, LocalDateTime horizon) {
+        MapSqlParameterSource select = new MapSqlParameterSource("horizon", horizon)
+                .addValue("limit", properties.getBatchSize());
+        List<SqlParameterSource> occurrences = new ArrayList<>();
+        List<SqlParameterSource> advances = new ArrayList<>();
+        boolean[] capped = {false};
+        jdbcTemplate.query(SELECT_DUE, select, rs -> {
+            long templateId = rs.getLong("id");
+            LocalDateTime next = rs.getTimestamp("next_due_at").toLocalDateTime();
+            CronExpression cron;
+            try {
+                cron = CronExpression.parse(rs.getString("cron"));
+            } catch (IllegalArgumentException e) {
+                // Only valid expressions are stored through the API; park a template that was edited by hand
+                log.warn("Deactivating task template {} with invalid cron '{}'", templateId, rs.getString("cron"));
+                advances.add(advance(templateId, next, false));
+                return;
+            }
+            long userId = rs.getLong("user_id");
+            Long assignee = rs.wasNull() ? null : userId;
+            int count = 0;
+            while (next != null && !next.isAfter(horizon) && count < properties.getMaxOccurrencesPerBatch()) {
+                occurrences.add(new MapSqlParameterSource("title", rs.getString("title"))
+                        .addValue("description", rs.getString("description"))
+                        .addValue("dueDate", Timestamp.valueOf(next))
+                        .addValue("priority", rs.getString("priority"))
+                        .addValue("userId", assignee, Types.BIGINT)
+                        .addValue("templateId", templateId)
+                        .addValue("now", Timestamp.valueOf(now)));
+                next = cron.next(next);
+                count++;
+            }
+            capped[0] |= next != null && !next.isAfter(horizon);
+            advances.add(advance(templateId, next, next != null));
+        });
+        int created = 0;
+        List<Task> tasks = List.of();
+        if (!occurrences.isEmpty()) {
+            int[] inserted = jdbcTemplate.batchUpdate(INSERT_OCCURRENCE, occurrences.toArray(SqlParameterSource[]::new));
+            Set<Occurrence> insertedOccurrences = new HashSet<>();
+            for (int i = 0; i < inserted.length; i++) {
+                if (inserted[i] > 0) {
+                    created += inserted[i];
+                    insertedOccurrences.add(new Occurrence((Long) occurrences.get(i).getValue("templateId"),
+                            ((Timestamp) occurrences.get(i).getValue("dueDate")).toLocalDateTime()));
+                }
+            }
+            if (created > 0) {
+                tasks = findCreated(now, insertedOccurrences);
+            }
+        }
+        if (!advances.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADVANCE, advances.toArray(SqlParameterSource[]::new));
+        }
+        return new BatchResult(advances.size(), created, capped[0], tasks);
+    }
+
+    private record Occurrence(long templateId, LocalDateTime dueDate) {
+    }
+
+    // A row created at now may also come from an earlier run with the same now, so only the occurrences
+    // this batch inserted count; the template locks keep anyone else from inserting them meanwhile
+    private List<Task> findCreated(LocalDateTime now, Set<Occurrence> inserted) {
+        Set<Long> templateIds = new HashSet<>();
+        for (Occurrence occurrence : inserted) {
+            templateIds.add(occurrence.templateId());
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("templateIds", templateIds)
+                .addValue("now", Timestamp.valueOf(now));
+        List<Task> tasks = new ArrayList<>();
+        jdbcTemplate.query(SELECT_CREATED, params, rs -> {
+            LocalDateTime dueDate = rs.getTimestamp("due_date").toLocalDateTime();
+            if (!inserted.contains(new Occurrence(rs.getLong("template_id"), dueDate))) {
+                return;
+            }
+            Task task = new Task();
+            task.setId(rs.getLong("id"));
+            task.setTitle(rs.getString("title"));
+            task.setDescription(rs.getString("description"));
+            task.setDueDate(dueDate);
+            task.setPriority(Priority.valueOf(rs.getString("priority")));
+            task.setTemplateId(rs.getLong("template_id"));
+            long userId = rs.getLong("user_id");
+            if (!rs.wasNull()) {
+                User user = new User();
+                user.setId(userId);
+                user.setUsername(rs.getString("username"));
+                user.setEmail(rs.getString("email"));
+                task.setUser(user);
+            }
+            tasks.add(task);
+        });
+        return tasks;
+    }
+
+    private void publishCreated(Task task) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(task, AuditAction.CREATED, Map.of()));
+        User user = task.getUser();
+        if (user != null) {
+            eventPublisher.publishEvent(new TaskAssignedEvent(task.getId(), task.getTitle(), user.getId(),
+                    user.getEmail(), user.getUsername()));
+        }
+    }
+
+    private static SqlParameterSource advance(long templateId, LocalDateTime next, boolean active) {
+        return new MapSqlParameterSource("id", templateId)
+                .addValue("next", next == null ? null : Timestamp.valueOf(next), Types.TIMESTAMP)
+                .addValue("active", active);
+    }
+}
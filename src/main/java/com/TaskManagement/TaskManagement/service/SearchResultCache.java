@@ -0,0 +1,189 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.SearchCacheProperties;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU of /api/tasks/search pages, keyed by (lower-cased query, page, size, sort).
+ * Only the task ids and the total are kept, so a hit costs one primary-key lookup instead of the
+ * LIKE scan and its COUNT, and the tasks themselves are always current.
+ * Every entry carries the generation it was read in; a task mutation bumps the generation once its
+ * transaction commits, which invalidates all entries at once without walking the map.
+ */
+@Component
+public class SearchResultCache {
+
+    // Rough per-entry overhead: map node, key record and its strings, entry object, long[] header
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final SearchCacheProperties properties;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<SearchKey, CachedSearch> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public SearchResultCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    SearchResultCache(SearchCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+
+        int maxEntries = properties.getMaxEntries();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, CachedSearch> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.hits = resultCounter(meterRegistry, "hit");
+        this.misses = resultCounter(meterRegistry, "miss");
+        Gauge.builder("search.cache.size", cache, Map::size)
+                .description("Search result pages held in memory, including invalidated ones not yet evicted")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.memory", this, SearchResultCache::estimatedBytes)
+                .description("Estimated heap used by the search result cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry registry, String result) {
+        return Counter.builder("search.cache.requests")
+                .description("Search requests by cache result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Current generation; read it before running the search and pass it to {@link #put}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cached page of a search, if it was stored in the current generation and within the ttl
+     * @param query the search query as sent by the client
+     * @param pageable page, size and sort of the request
+     * @return the cached ids and total, or null on a miss
+     */
+    public CachedSearch get(String query, Pageable pageable) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        SearchKey key = SearchKey.of(query, pageable);
+        CachedSearch cached = cache.get(key);
+        if (cached == null || cached.generation != generation.get()
+                || cached.cachedAt.isBefore(clock.instant().minus(properties.getTtl()))) {
+            if (cached != null) {
+                cache.remove(key, cached);
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached;
+    }
+
+    /**
+     * Stores the ids and total of a search page
+     * @param generation the value of {@link #generation()} read before the search ran; if a mutation
+     *                   committed since, the entry is already stale and never served
+     */
+    public void put(String query, Pageable pageable, long generation, Page<Task> page) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Task> tasks = page.getContent();
+        long[] ids = new long[tasks.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = tasks.get(i).getId();
+        }
+        cache.put(SearchKey.of(query, pageable), new CachedSearch(ids, page.getTotalElements(), generation,
+                clock.instant()));
+    }
+
+    /**
+     * Invalidates every cached search. Called once a change has committed: bumping before the commit
+     * would let a search that runs in between be cached as current.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    private double estimatedBytes() {
+        long bytes = 0;
+        synchronized (cache) {
+            for (Map.Entry<SearchKey, CachedSearch> entry : cache.entrySet()) {
+                bytes += ENTRY_OVERHEAD_BYTES + 2L * (entry.getKey().query.length() + entry.getKey().sort.length())
+                        + 8L * entry.getValue().ids.length;
+            }
+        }
+        return bytes;
+    }
+
+    private record SearchKey(String query, int page, int size, String sort) {
+
+        // The search compares LOWER(column) with LOWER(query), so queries differing only in case match the same rows
+        private static SearchKey of(String query, Pageable pageable) {
+            return new SearchKey(query.toLowerCase(Locale.ROOT), pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort().toString());
+        }
+    }
+
+    public static final class CachedSearch {
+
+        private final long[] ids;
+        private final long total;
+        private final long generation;
+        private final Instant cachedAt;
+
+        private CachedSearch(long[] ids, long total, long generation, Instant cachedAt) {
+            this.ids = ids;
+            this.total = total;
+            this.generation = generation;
+            this.cachedAt = cachedAt;
+        }
+
+        public List<Long> getIds() {
+            List<Long> list = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                list.add(id);
+            }
+            return list;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+}
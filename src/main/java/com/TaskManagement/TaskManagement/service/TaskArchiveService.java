@@ -0,0 +1,164 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.ArchiveProperties;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the hot tasks table small: moves tasks completed longer than app.archive.archive-after into
+ * tasks_archive and physically removes soft-deleted tasks after app.archive.purge-after.
+ * Both run in short batches, one transaction each, so they never hold long locks on tasks.
+ * <p>
+ * An archived task leaves the tasks table like a deleted one: its dependency edges are deleted with
+ * the batch, and a TaskChangedEvent per task lets the audit log, the search cache and the in-memory
+ * indices drop it once the batch commits. Purged tasks already went through that when they were deleted.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    // Tasks completed before completed_at existed fall back to updated_at
+    private static final String SELECT_ARCHIVABLE = """
+            SELECT id, title, user_id FROM tasks
+            WHERE completed = TRUE AND deleted_at IS NULL
+              AND (completed_at < :cutoff OR (completed_at IS NULL AND updated_at < :cutoff))
+            ORDER BY id
+            LIMIT :limit
+            """;
+    private static final String COPY_TO_ARCHIVE = """
+            INSERT INTO tasks_archive (id, title, description, completed, due_date, priority, user_id,
+                                       created_at, updated_at, completed_at, archived_at)
+            SELECT id, title, description, completed, due_date, priority, user_id,
+                   created_at, updated_at, completed_at, :now
+            FROM tasks WHERE id IN (:ids) AND completed = TRUE
+            """;
+    private static final String DELETE_EDGES =
+            "DELETE FROM task_dependencies WHERE blocker_id IN (:ids) OR blocked_id IN (:ids)";
+    private static final String SELECT_PURGEABLE =
+            "SELECT id FROM tasks WHERE deleted_at < :cutoff ORDER BY id LIMIT :limit";
+    private static final String DELETE_BY_IDS = "DELETE FROM tasks WHERE id IN (:ids)";
+    // Repeating the completed filter keeps the copy and the delete on tasks_done when tasks is partitioned
+    private static final String DELETE_ARCHIVED = "DELETE FROM tasks WHERE id IN (:ids) AND completed = TRUE";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter archived;
+    private final Counter purged;
+
+    public TaskArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ArchiveProperties properties,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.archived = Counter.builder("tasks.archived")
+                .description("Completed tasks moved to tasks_archive")
+                .register(meterRegistry);
+        this.purged = Counter.builder("tasks.purged")
+                .description("Soft-deleted tasks removed for good")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.initial-delay:PT5M}")
+    public void runScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int movedCount = archiveCompleted(now);
+        int purgedCount = purgeDeleted(now);
+        if (movedCount > 0 || purgedCount > 0) {
+            log.info("Archived {} completed tasks, purged {} deleted tasks", movedCount, purgedCount);
+        }
+    }
+
+    /**
+     * Moves tasks completed before now - archive-after into tasks_archive
+     * @param now reference time
+     * @return number of archived tasks
+     */
+    public int archiveCompleted(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(properties.getArchiveAfter());
+        return inBatches(() -> {
+            MapSqlParameterSource select = new MapSqlParameterSource("cutoff", cutoff)
+                    .addValue("limit", properties.getBatchSize());
+            List<TaskChangedEvent> events = new ArrayList<>();
+            jdbcTemplate.query(SELECT_ARCHIVABLE, select, rs -> {
+                long userId = rs.getLong("user_id");
+                events.add(TaskChangedEvent.archived(rs.getLong("id"), rs.getString("title"),
+                        rs.wasNull() ? null : userId, now));
+            });
+            if (!events.isEmpty()) {
+                List<Long> ids = events.stream().map(TaskChangedEvent::getTaskId).toList();
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("now", now);
+                jdbcTemplate.update(COPY_TO_ARCHIVE, params);
+                jdbcTemplate.update(DELETE_ARCHIVED, params);
+                jdbcTemplate.update(DELETE_EDGES, params);
+                // Listeners act once the batch commits
+                events.forEach(eventPublisher::publishEvent);
+                archived.increment(ids.size());
+            }
+            return events.size();
+        });
+    }
+
+    /**
+     * Physically deletes tasks soft-deleted before now - purge-after
+     * @param now reference time
+     * @return number of purged tasks
+     */
+    public int purgeDeleted(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(properties.getPurgeAfter());
+        return inBatches(() -> {
+            List<Long> ids = selectIds(SELECT_PURGEABLE, cutoff);
+            if (!ids.isEmpty()) {
+                jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+                purged.increment(ids.size());
+            }
+            return ids.size();
+        });
+    }
+
+    private List<Long> selectIds(String sql, LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", cutoff)
+                .addValue("limit", properties.getBatchSize());
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    private interface Batch {
+        int run();
+    }
+
+    // Runs batches until one comes back short, each in its own transaction
+    private int inBatches(Batch batch) {
+        int total = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            Integer processed = transactionTemplate.execute(status -> batch.run());
+            total += processed;
+            if (processed < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,158 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.PaginationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for task pages requested with CountStrategy.ESTIMATED.
+ * Unfiltered lists on PostgreSQL read pg_class.reltuples, which ANALYZE/autovacuum keep current
+ * (soft-deleted rows are included). Every other filter gets its exact count cached per filter key:
+ * the first request counts, later requests get the cached value, and once it is older than
+ * count-refresh-after one background recount replaces it while the old value is still served.
+ * The cache is a bounded LRU of count-cache-size keys, and a count older than count-ttl (a filter
+ * nobody asked for in a while) is counted again on the request instead of being served.
+ */
+@Component
+public class TaskCountEstimator {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCountEstimator.class);
+
+    // A partitioned table has its rows in the partitions; reltuples is -1 until a table is analyzed
+    private static final String RELTUPLES = """
+            SELECT c.reltuples FROM pg_class c WHERE c.oid = CAST(? AS regclass)
+            UNION ALL
+            SELECT c.reltuples FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST(? AS regclass)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PaginationProperties properties;
+    private final TaskExecutor executor;
+    private final Clock clock;
+    private final Map<String, CachedCount> counts;
+    private volatile Boolean postgres;
+
+    @Autowired
+    public TaskCountEstimator(JdbcTemplate jdbcTemplate, PaginationProperties properties,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor executor) {
+        this(jdbcTemplate, properties, executor, Clock.systemUTC());
+    }
+
+    TaskCountEstimator(JdbcTemplate jdbcTemplate, PaginationProperties properties, TaskExecutor executor, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.executor = executor;
+        this.clock = clock;
+
+        int maxEntries = properties.getCountCacheSize();
+        this.counts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Estimated row count of whole tables, i.e. of an unfiltered list
+     * @param key cache key used when no planner statistics are available
+     * @param exactCount exact count, used to fill the cache
+     * @param tables tables the list reads, e.g. tasks and tasks_archive for TaskView
+     */
+    public long estimateTables(String key, LongSupplier exactCount, String... tables) {
+        OptionalLong statistics = plannerEstimate(tables);
+        return statistics.isPresent() ? statistics.getAsLong() : estimate(key, exactCount);
+    }
+
+    /**
+     * Cached count of one filter
+     * @param key identifies the filter, e.g. "completed:true"; text in it should be trimmed and lower-cased
+     *            wherever the filter itself ignores case, so equal filters share one entry
+     * @param exactCount exact count of the filter
+     */
+    public long estimate(String key, LongSupplier exactCount) {
+        CachedCount cached = counts.get(key);
+        if (cached == null || cached.isOlderThan(clock.instant().minus(properties.getCountTtl()))) {
+            long count = exactCount.getAsLong();
+            counts.put(key, new CachedCount(count, clock.instant()));
+            return count;
+        }
+        if (cached.isOlderThan(clock.instant().minus(properties.getCountRefreshAfter()))
+                && cached.refreshing.compareAndSet(false, true)) {
+            executor.execute(() -> refresh(key, exactCount, cached));
+        }
+        return cached.count;
+    }
+
+    private void refresh(String key, LongSupplier exactCount, CachedCount stale) {
+        try {
+            counts.replace(key, stale, new CachedCount(exactCount.getAsLong(), clock.instant()));
+        } catch (RuntimeException e) {
+            // Keep serving the old value; the next request past the refresh age tries again
+            log.warn("Failed to refresh the count of {}: {}", key, e.getMessage());
+            stale.refreshing.set(false);
+        }
+    }
+
+    private OptionalLong plannerEstimate(String... tables) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+        long total = 0;
+        for (String table : tables) {
+            List<Double> rows = jdbcTemplate.queryForList(RELTUPLES, Double.class, table, table);
+            boolean analyzed = false;
+            for (Double reltuples : rows) {
+                if (reltuples != null && reltuples >= 0) {
+                    analyzed = true;
+                    total += reltuples.longValue();
+                }
+            }
+            if (!analyzed) {
+                return OptionalLong.empty();
+            }
+        }
+        return OptionalLong.of(total);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")));
+        }
+        return postgres;
+    }
+
+    private static final class CachedCount {
+
+        private final long count;
+        private final Instant countedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedCount(long count, Instant countedAt) {
+            this.count = count;
+            this.countedAt = countedAt;
+        }
+
+        private boolean isOlderThan(Instant instant) {
+            return countedAt.isBefore(instant);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.DependencyProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskDependency;
+import com.TaskManagement.TaskManagement.event.DependencyRemovedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.exception.DependencyCycleException;
+import com.TaskManagement.TaskManagement.mapper.TaskMapper;
+import com.TaskManagement.TaskManagement.repository.TaskDependencyRepository;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Blocks/blocked-by edges between tasks. Every edge is checked against DependencyGraph, which rejects
+ * the ones that would close a cycle and answers blocker and ready queries without touching the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskDependencyService {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final DependencyGraph dependencyGraph;
+    private final DependencyProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Makes one task wait for another; adding an existing edge again changes nothing
+     * @param taskId the task that has to wait
+     * @param blockerId the task that has to be completed first
+     * @throws IllegalArgumentException if a task would block itself
+     * @throws NoSuchElementException if either task is not found
+     * @throws DependencyCycleException if the blocker already waits for the task
+     */
+    @Transactional
+    public void addBlocker(Long taskId, Long blockerId) {
+        if (Objects.equals(taskId, blockerId)) {
+            throw new IllegalArgumentException("A task cannot block itself");
+        }
+        Task task = findTask(taskId);
+        Task blocker = findTask(blockerId);
+
+        DependencyGraph.EdgeResult result =
+                dependencyGraph.addEdge(blockerId, taskId, !blocker.isCompleted(), !task.isCompleted());
+        if (result == DependencyGraph.EdgeResult.CYCLE) {
+            throw new DependencyCycleException(blockerId, taskId);
+        }
+        // An edge another transaction just added may still roll back, so only the table says it exists
+        if (result == DependencyGraph.EdgeResult.ADDED
+                || !dependencyRepository.existsByBlockerIdAndBlockedId(blockerId, taskId)) {
+            dependencyRepository.save(new TaskDependency(blockerId, taskId));
+        }
+    }
+
+    /**
+     * Removes an edge
+     * @throws NoSuchElementException if the blocker does not block the task
+     */
+    @Transactional
+    public void removeBlocker(Long taskId, Long blockerId) {
+        if (dependencyRepository.deleteEdge(blockerId, taskId) == 0) {
+            throw new NoSuchElementException("Task " + blockerId + " does not block task " + taskId);
+        }
+        eventPublisher.publishEvent(new DependencyRemovedEvent(blockerId, taskId));
+    }
+
+    /**
+     * Ids of the tasks a task waits for, completed ones included, in the order they can be worked on
+     * @param transitive whether to include the blockers of blockers, and so on
+     * @throws NoSuchElementException if the task is not found
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findBlockers(Long taskId, boolean transitive) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new NoSuchElementException("Task not found with id: " + taskId);
+        }
+        return dependencyGraph.blockers(taskId, transitive);
+    }
+
+    /**
+     * Open tasks that take part in a dependency and whose blockers are all completed, in topological order.
+     * Only tasks with at least one edge are in the graph; open tasks without dependencies are not listed.
+     * @param limit number of tasks to return
+     * @throws IllegalArgumentException if limit is outside 1..max-ready-limit
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> findReady(int limit) {
+        if (limit < 1 || limit > properties.getMaxReadyLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + properties.getMaxReadyLimit());
+        }
+        List<Long> ids = dependencyGraph.ready(limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task task : taskRepository.findAllWithUserByIdIn(ids)) {
+            byId.put(task.getId(), task);
+        }
+        // A task deleted on another instance stays in the graph until the next rebuild
+        return taskMapper.toResponseList(ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * Deletes the edges of a deleted task in the transaction that deletes it, so the task stops blocking
+     * and waiting; DependencyGraph drops them once it commits. TaskArchiveService deletes the edges of
+     * a whole batch of archived tasks at once.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isDeleted() && !event.isArchived()) {
+            dependencyRepository.deleteByTaskId(event.getTaskId());
+        }
+    }
+
+    private Task findTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Task not found with id: " + id));
+    }
+}
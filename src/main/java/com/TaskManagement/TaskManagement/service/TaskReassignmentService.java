@@ -0,0 +1,89 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.UserDeletionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hands every task of a user to another user, or unassigns them, without loading the tasks.
+ * Each batch of app.user-deletion.batch-size tasks is one UPDATE in its own transaction, so memory and
+ * lock time stay bounded however many tasks the user has. Soft-deleted tasks move too, since their
+ * rows still reference the user. Archived tasks keep their user_id, which has no foreign key.
+ */
+@Service
+public class TaskReassignmentService {
+
+    private static final String SELECT_ASSIGNED =
+            "SELECT id FROM tasks WHERE user_id = :from ORDER BY id LIMIT :limit";
+    // Repeating the owner check skips tasks that were reassigned since the select
+    private static final String REASSIGN = """
+            UPDATE tasks SET user_id = :to, updated_at = :now
+            WHERE id IN (:ids) AND user_id = :from
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDeletionProperties properties;
+    private final SearchResultCache searchResultCache;
+    private final Counter reassigned;
+
+    public TaskReassignmentService(NamedParameterJdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   UserDeletionProperties properties,
+                                   SearchResultCache searchResultCache,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.searchResultCache = searchResultCache;
+        this.reassigned = Counter.builder("tasks.reassigned")
+                .description("Tasks moved off deleted users")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves all tasks of a user in batches
+     * @param fromUserId current assignee
+     * @param toUserId new assignee, or null to unassign the tasks
+     * @param lastBatch runs in the transaction of the last, short batch, e.g. deleting the user, so no
+     *                  task assigned in between can be left behind
+     * @return number of tasks moved
+     */
+    public int reassignAll(long fromUserId, Long toUserId, Runnable lastBatch) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int total = 0;
+        while (true) {
+            int[] result = transactionTemplate.execute(status -> {
+                MapSqlParameterSource params = new MapSqlParameterSource("from", fromUserId)
+                        .addValue("limit", batchSize);
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_ASSIGNED, params, Long.class);
+                int updated = 0;
+                if (!ids.isEmpty()) {
+                    params.addValue("ids", ids).addValue("to", toUserId).addValue("now", LocalDateTime.now());
+                    updated = jdbcTemplate.update(REASSIGN, params);
+                }
+                if (ids.size() < batchSize) {
+                    lastBatch.run();
+                }
+                return new int[]{ids.size(), updated};
+            });
+            if (result[1] > 0) {
+                reassigned.increment(result[1]);
+                // Task responses carry their assignee
+                searchResultCache.invalidate();
+            }
+            total += result[1];
+            if (result[0] < batchSize) {
+                return total;
+            }
+        }
+    }
+}
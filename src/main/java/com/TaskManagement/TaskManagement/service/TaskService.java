@@ -1,26 +1,59 @@
 package com.TaskManagement.TaskManagement.service;
 
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
-
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.TaskManagement.TaskManagement.config.NextTasksProperties;
+import com.TaskManagement.TaskManagement.config.SuggestProperties;
+import com.TaskManagement.TaskManagement.config.WorkloadProperties;
+import com.TaskManagement.TaskManagement.dto.request.CountStrategy;
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskQueryRequest;
 import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.dto.response.BacklogAssignmentResponse;
 import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
 import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.EntityChangedEvent;
 import com.TaskManagement.TaskManagement.event.TaskAssignedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
 import com.TaskManagement.TaskManagement.mapper.TaskMapper;
+import com.TaskManagement.TaskManagement.repository.TaskSpecifications;
 import com.TaskManagement.TaskManagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.TaskManagement.TaskManagement.entity.Priority;
 import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskView;
 import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.TaskViewRepository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -30,6 +63,16 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final UserRepository userRepository;
+    private final TaskViewRepository taskViewRepository;
+    private final AuditService auditService;
+    private final TaskCountEstimator countEstimator;
+    private final SearchResultCache searchResultCache;
+    private final TitlePrefixIndex titlePrefixIndex;
+    private final SuggestProperties suggestProperties;
+    private final WorkloadTracker workloadTracker;
+    private final WorkloadProperties workloadProperties;
+    private final NextTasksProperties nextTasksProperties;
+    private final UserKeyIndex userKeyIndex;
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
     private final ApplicationEventPublisher eventPublisher;
@@ -44,41 +87,131 @@ public class TaskService {
 
     /**
      * Retrieves all tasks with pagination and sorting
-     * @param request pageable pagination and sorting parameters
+     * @param request pagination and sorting parameters
+     * @param options fields, archive and count options of the list; null for the defaults
      * @return a page of tasks
-     * @throws IllegalArgumentException if pageable is null
+     * @throws IllegalArgumentException if request is null
      */
     @Transactional(readOnly = true)
-    public Page<TaskResponse> findAll(PaginationRequest request) {
-        if (request == null) {
-            throw new IllegalArgumentException("Pagination request cannot be null");
-        }
-        Pageable pageable = request.toPageable();
-        validatePageableOffset(pageable);
-
-        Page<Task> page = taskRepository.findAll(pageable);
-        Page<TaskResponse> response = page.map(taskMapper::toResponseDTO);
-        return response;
+    public Page<TaskResponse> findAll(PaginationRequest request, TaskListOptions options) {
+        return list(new Filter(null, null, "all"), request, options,
+                pageable -> taskMapper.toResponsePage(taskRepository.findAll(pageable)));
     }
 
     /**
      * Retrieves tasks by title or description containing the query with pagination
-     * @param query the query to search for
+     * @param query the query to search for, compared case-insensitively and without surrounding whitespace
      * @param request pagination and sorting parameters
+     * @param options fields, archive and count options of the list; null for the defaults
      * @return a page of tasks that match the query
-     * @throws IllegalArgumentException if the query is null or empty, or if pageable is null
+     * @throws IllegalArgumentException if the query is null or empty, or if request is null
      */
     @Transactional(readOnly = true)
-    public Page<TaskResponse> search(String query, PaginationRequest request) {
+    public Page<TaskResponse> search(String query, PaginationRequest request, TaskListOptions options) {
         if (query == null || query.trim().isEmpty()) {
             throw new IllegalArgumentException("Search query cannot be empty");
         }
-        Pageable pageable = request.toPageable();
-        validatePageableOffset(pageable);
+        String text = query.trim();
+        Filter filter = new Filter(TaskSpecifications.titleOrDescriptionContains(text),
+                TaskSpecifications.titleOrDescriptionContains(text), "search:" + text.toLowerCase(Locale.ROOT));
+        return list(filter, request, options, pageable -> {
+            SearchResultCache.CachedSearch cached = searchResultCache.get(text, pageable);
+            if (cached != null) {
+                return new PageImpl<>(taskMapper.toResponseList(findInOrder(cached.getIds())), pageable,
+                        cached.getTotal());
+            }
+            long generation = searchResultCache.generation();
+            Page<Task> page = taskRepository.searchByTitleOrDescriptionContainingIgnoreCase(
+                    TaskSpecifications.escapeLike(text), pageable);
+            searchResultCache.put(text, pageable, generation, page);
+            return taskMapper.toResponsePage(page);
+        });
+    }
 
-        Page<Task> page = taskRepository.searchByTitleOrDescriptionContainingIgnoreCase(query, pageable);
-        Page<TaskResponse> response = page.map(taskMapper::toResponseDTO);
-        return response;
+    /**
+     * Suggests tasks for a typed title prefix, in title order; answered from memory once TitlePrefixIndex is built
+     * @param prefix the typed text, compared case-insensitively
+     * @param limit maximum number of suggestions
+     * @return matching tasks, at most limit of them
+     * @throws IllegalArgumentException if the prefix is blank or the limit is out of range
+     */
+    public List<TaskSuggestionResponse> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix cannot be empty");
+        }
+        if (limit < 1 || limit > suggestProperties.getMaxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + suggestProperties.getMaxLimit());
+        }
+        if (titlePrefixIndex.isReady()) {
+            return titlePrefixIndex.suggest(TitlePrefixIndex.normalizePrefix(prefix), limit);
+        }
+        // The query lower-cases the stored title and nothing else, so the prefix gets the same treatment
+        String lowerCased = TaskSpecifications.escapeLike(prefix.toLowerCase(Locale.ROOT));
+        return taskRepository.suggestByTitlePrefix(lowerCased, PageRequest.of(0, limit));
+    }
+
+    // Tasks deleted by another instance since the ids were cached are left out
+    private List<Task> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task task : taskRepository.findAllWithUserByIdIn(ids)) {
+            byId.put(task.getId(), task);
+        }
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = byId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Top open tasks of a user in the order to work on them: by due date moved earlier by the
+     * priority's lead, then by priority. Each priority is read from the (user_id, completed, priority,
+     * due_date) index, at most limit rows apiece, and the candidates are merged here. The ranking keeps
+     * due date order within a priority, so the user's top tasks are always among the candidates.
+     * @param username the user whose tasks to rank
+     * @param limit number of tasks to return
+     * @return up to limit open tasks, undated ones last
+     * @throws IllegalArgumentException if limit is outside 1..max-limit
+     * @throws NoSuchElementException if the user does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> findNext(String username, int limit) {
+        if (limit < 1 || limit > nextTasksProperties.getMaxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + nextTasksProperties.getMaxLimit());
+        }
+        Long userId = userKeyIndex.isReady() ? userKeyIndex.findIdByUsername(username) : null;
+        if (userId == null) {
+            userId = userRepository.findByUsername(username).map(User::getId)
+                    .orElseThrow(() -> new NoSuchElementException("User not found with username: " + username));
+        }
+
+        Pageable top = PageRequest.of(0, limit);
+        List<Task> candidates = new ArrayList<>();
+        for (Priority priority : Priority.values()) {
+            candidates.addAll(taskRepository.findOpenByUserAndPriority(userId, priority, top));
+        }
+        candidates.sort(Comparator.comparing(this::rankingDueDate)
+                .thenComparing(Task::getPriority, Comparator.reverseOrder())
+                .thenComparing(Task::getId));
+        List<Task> next = new ArrayList<>(candidates.subList(0, Math.min(limit, candidates.size())));
+        // Undated tasks come last, highest priority first; each query reads only the rows still missing
+        Priority[] priorities = Priority.values();
+        for (int i = priorities.length - 1; i >= 0 && next.size() < limit; i--) {
+            next.addAll(taskRepository.findOpenUndatedByUserAndPriority(userId, priorities[i],
+                    PageRequest.of(0, limit - next.size())));
+        }
+        return taskMapper.toResponseList(next);
+    }
+
+    private LocalDateTime rankingDueDate(Task task) {
+        return task.getDueDate().minus(nextTasksProperties.getPriorityLead()
+                .getOrDefault(task.getPriority(), Duration.ZERO));
     }
 
     /**
@@ -97,6 +230,23 @@ public class TaskService {
         return response;
     }
 
+    /**
+     * Retrieves the recorded changes of a task, newest first; history outlives deletion and archiving
+     * @param id the id of the task
+     * @param request page and size
+     * @return a page of audit rows
+     * @throws IllegalArgumentException if the pagination request is null
+     * @throws NoSuchElementException if the task has no history and is neither live nor archived
+     */
+    @Transactional(readOnly = true)
+    public Page<AuditEntryResponse> findHistory(Long id, PaginationRequest request) {
+        Page<AuditEntryResponse> history = auditService.findHistory(AuditEntityType.TASK, id, request);
+        if (history.getTotalElements() == 0 && !taskViewRepository.existsById(id)) {
+            throw new NoSuchElementException("Task not found with id: " + id);
+        }
+        return history;
+    }
+
     /**
      * Saves a task to the database.
      * @param request the task to save
@@ -104,6 +254,7 @@ public class TaskService {
      * @throws IllegalArgumentException when request is invalid
      * @throws NoSuchElementException when User ID is invalid
      */
+    @Transactional
     public TaskResponse save(TaskRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Task request cannot be null");
@@ -119,6 +270,7 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(taskToSave);
+        publishChange(savedTask, AuditAction.CREATED, Map.of());
 
         if (assignedUser != null) {
             publishTaskAssignedEvent(savedTask, assignedUser);
@@ -133,9 +285,11 @@ public class TaskService {
      * @return the response
      * @throws NoSuchElementException if the Task or the assigned User is not found.
      */
+    @Transactional
     public TaskResponse update(Long id, TaskRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Task not found with id: " + id)); // Corrected exception message
+        Map<String, String> before = EntityChangedEvent.snapshot(task);
 
         if (request.getUserId() != null) {
             // New user ID provided, look up the user
@@ -154,65 +308,235 @@ public class TaskService {
 
 
         Task savedTask = taskRepository.save(task);
+        publishChange(savedTask, AuditAction.UPDATED, before);
 
         return taskMapper.toResponseDTO(savedTask);
     }
 
     /**
-     * Deletes a task from database by id
+     * Soft-deletes a task by id; the row disappears from every query and is purged later by TaskArchiveService
      * @param id the id of the task to delete
      * @throws NoSuchElementException if the task is not found
      */
+    @Transactional
     public void deleteById(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Task not found with id: " + id));
         taskRepository.deleteById(id);
+        publishChange(task, AuditAction.DELETED, Map.of());
     }
 
     /**
      * Retrieves tasks by completion status with pagination
      * @param completed the completion status to filter by
      * @param request pagination and sorting parameters
+     * @param options fields, archive and count options of the list; null for the defaults
      * @return a page of tasks with the specified completion status
-     * @throws IllegalArgumentException if pageable is null
+     * @throws IllegalArgumentException if request is null
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> findByCompleted(boolean completed, PaginationRequest request, TaskListOptions options) {
+        Filter filter = new Filter(TaskSpecifications.isCompleted(completed), TaskSpecifications.isCompleted(completed),
+                "completed:" + completed);
+        return list(filter, request, options,
+                pageable -> taskMapper.toResponsePage(taskRepository.findByCompleted(completed, pageable)));
+    }
+
+    /**
+     * Retrieves tasks by priority, and completion status when given; on a partitioned tasks table
+     * only the matching partition is read when both are set
+     * @param priority the priority to filter by
+     * @param completed the completion status to filter by, or null for both
+     * @param request pagination and sorting parameters
+     * @param options fields, archive and count options of the list; null for the defaults
+     * @return a page of matching tasks
+     * @throws IllegalArgumentException if priority or request is null
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> findByPriority(Priority priority, Boolean completed, PaginationRequest request,
+                                             TaskListOptions options) {
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority cannot be null.");
+        }
+        if (completed == null) {
+            Filter filter = new Filter(TaskSpecifications.hasPriority(priority),
+                    TaskSpecifications.hasPriority(priority), "priority:" + priority);
+            return list(filter, request, options,
+                    pageable -> taskMapper.toResponsePage(taskRepository.findByPriority(priority, pageable)));
+        }
+        Filter filter = new Filter(
+                TaskSpecifications.<Task>hasPriority(priority).and(TaskSpecifications.isCompleted(completed)),
+                TaskSpecifications.<TaskView>hasPriority(priority).and(TaskSpecifications.isCompleted(completed)),
+                "priority:" + priority + ":completed:" + completed);
+        return list(filter, request, options, pageable -> taskMapper.toResponsePage(
+                taskRepository.findByCompletedAndPriority(completed, priority, pageable)));
+    }
+
+    /**
+     * Retrieves tasks matching every filter that is set in the query, as one SQL statement
+     * @param query the filters to combine
+     * @param request pagination and sorting parameters
+     * @param options fields, archive and count options of the list; null for the defaults
+     * @return a page of matching tasks
+     * @throws IllegalArgumentException if the query or request is null, or a range is inverted
      */
     @Transactional(readOnly = true)
-    public Page<TaskResponse> findByCompleted(boolean completed, PaginationRequest request) {
+    public Page<TaskResponse> query(TaskQueryRequest query, PaginationRequest request, TaskListOptions options) {
+        if (query == null) {
+            throw new IllegalArgumentException("Task query cannot be null");
+        }
+        Specification<Task> spec = toSpecification(query);
+        Filter filter = new Filter(spec, toSpecification(query), queryKey(query));
+        return list(filter, request, options,
+                pageable -> taskMapper.toResponsePage(taskRepository.findAll(spec, pageable)));
+    }
+
+    /**
+     * Where-clause of a list over live tasks and the same over TaskView for includeArchived;
+     * countKey names the filter in TaskCountEstimator
+     */
+    private record Filter(Specification<Task> live, Specification<TaskView> withArchived, String countKey) {
+    }
+
+    /**
+     * Picks how a list is read: exact pages of full rows go through the query's own repository method,
+     * e.g. the search cache; projections, includeArchived and uncounted pages through the filter
+     */
+    private Page<TaskResponse> list(Filter filter, PaginationRequest request, TaskListOptions options,
+                                    Function<Pageable, Page<TaskResponse>> fullRows) {
         if (request == null) {
             throw new IllegalArgumentException("Pagination request cannot be null");
         }
-
+        TaskListOptions listOptions = options == null ? new TaskListOptions() : options;
+        Set<TaskField> fields = listOptions.fieldSet();
+        boolean countSkipped = listOptions.getCountStrategy() != CountStrategy.EXACT;
+
+        if (listOptions.isIncludeArchived()) {
+            return countSkipped
+                    ? findUncountedIncludingArchived(filter.withArchived(), fields, request, listOptions, filter.countKey())
+                    : findIncludingArchived(filter.withArchived(), fields, request);
+        }
+        if (countSkipped) {
+            return findUncounted(filter.live(), fields, request, listOptions, filter.countKey());
+        }
         Pageable pageable = request.toPageable();
         validatePageableOffset(pageable);
+        if (fields != null) {
+            return taskMapper.toResponsePage(taskRepository.findProjected(filter.live(), fields, pageable), fields);
+        }
+        return fullRows.apply(pageable);
+    }
 
-        Page<Task> page = taskRepository.findByCompleted(completed, pageable);
+    private <T> Specification<T> toSpecification(TaskQueryRequest query) {
+        if (query.getDueFrom() != null && query.getDueTo() != null && query.getDueFrom().isAfter(query.getDueTo())) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
+        if (query.getCreatedFrom() != null && query.getCreatedTo() != null
+                && query.getCreatedFrom().isAfter(query.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
 
-        Page<TaskResponse> response = page.map(taskMapper::toResponseDTO);
-        return response;
+        // Filters are added in a fixed order so equal filter combinations produce the same cached query plan
+        List<Specification<T>> filters = new ArrayList<>();
+        if (query.getCompleted() != null) {
+            filters.add(TaskSpecifications.isCompleted(query.getCompleted()));
+        }
+        if (query.getPriority() != null && !query.getPriority().isEmpty()) {
+            filters.add(TaskSpecifications.hasPriorityIn(query.getPriority()));
+        }
+        if (query.getUserId() != null) {
+            filters.add(TaskSpecifications.assignedTo(query.getUserId()));
+        }
+        if (query.getDueFrom() != null || query.getDueTo() != null) {
+            filters.add(TaskSpecifications.dueBetween(query.getDueFrom(), query.getDueTo()));
+        }
+        if (query.getCreatedFrom() != null || query.getCreatedTo() != null) {
+            filters.add(TaskSpecifications.createdBetween(query.getCreatedFrom(), query.getCreatedTo()));
+        }
+        if (query.getText() != null && !query.getText().isBlank()) {
+            filters.add(TaskSpecifications.titleOrDescriptionContains(query.getText().trim()));
+        }
+        return Specification.allOf(filters);
     }
-    
+
+    // Archived tasks are only reachable through TaskView, the union of tasks and tasks_archive
+    private Page<TaskResponse> findIncludingArchived(Specification<TaskView> spec, Set<TaskField> fields,
+                                                     PaginationRequest request) {
+        Pageable pageable = request.toPageable();
+        validatePageableOffset(pageable);
+
+        if (fields != null) {
+            return taskMapper.toResponsePage(taskRepository.findProjected(TaskView.class, spec, fields, pageable), fields);
+        }
+        return taskViewRepository.findAll(spec, pageable).map(taskMapper::toResponseDTO);
+    }
+
     /**
-     * Retrieves tasks by priority with pagination
-     * @param priority the priority to filter by
-     * @param request pagination and sorting parameters
-     * @return a page of tasks with the specified priority
-     * @throws IllegalArgumentException if pageable is null
+     * Count key of a query: filters in a fixed order, priorities sorted, and the text trimmed and
+     * lower-cased as the filter compares it, so requests for the same rows share one cached count
      */
-    @Transactional(readOnly = true)
-    public Page<TaskResponse> findByPriority(Priority priority, PaginationRequest request) {
-        if (priority == null) {
-            throw new IllegalArgumentException("Priority cannot be null.");
+    private static String queryKey(TaskQueryRequest query) {
+        StringBuilder key = new StringBuilder("query");
+        if (query.getCompleted() != null) {
+            key.append(":completed=").append(query.getCompleted());
         }
-        if (request == null) {
-            throw new IllegalArgumentException("Pageable cannot be null");
+        if (query.getPriority() != null && !query.getPriority().isEmpty()) {
+            key.append(":priority=").append(new TreeSet<>(query.getPriority()));
+        }
+        if (query.getUserId() != null) {
+            key.append(":user=").append(query.getUserId());
+        }
+        if (query.getDueFrom() != null || query.getDueTo() != null) {
+            key.append(":due=").append(query.getDueFrom()).append("..").append(query.getDueTo());
         }
+        if (query.getCreatedFrom() != null || query.getCreatedTo() != null) {
+            key.append(":created=").append(query.getCreatedFrom()).append("..").append(query.getCreatedTo());
+        }
+        if (query.getText() != null && !query.getText().isBlank()) {
+            key.append(":text=").append(query.getText().trim().toLowerCase(Locale.ROOT));
+        }
+        return key.toString();
+    }
+
+    // ESTIMATED and NONE pages: no COUNT(*) per request, see TaskRepositoryCustom#findPage
+    private Page<TaskResponse> findUncounted(Specification<Task> spec, Set<TaskField> fields,
+                                             PaginationRequest request, TaskListOptions options, String countKey) {
         Pageable pageable = request.toPageable();
         validatePageableOffset(pageable);
+        LongSupplier total = estimatedTotal(Task.class, spec, options, countKey, "tasks");
 
-        Page<Task> page = taskRepository.findByPriority(priority, pageable);
-        Page<TaskResponse> response = page.map(taskMapper::toResponseDTO);
+        if (fields != null) {
+            return taskMapper.toResponsePage(
+                    taskRepository.findProjected(Task.class, spec, fields, pageable, total), fields);
+        }
+        return taskMapper.toResponsePage(taskRepository.findPage(Task.class, spec, pageable, total));
+    }
 
-        return response;
+    private Page<TaskResponse> findUncountedIncludingArchived(Specification<TaskView> spec, Set<TaskField> fields,
+                                                              PaginationRequest request, TaskListOptions options,
+                                                              String countKey) {
+        Pageable pageable = request.toPageable();
+        validatePageableOffset(pageable);
+        LongSupplier total = estimatedTotal(TaskView.class, spec, options, "archived:" + countKey,
+                "tasks", "tasks_archive");
+
+        if (fields != null) {
+            return taskMapper.toResponsePage(
+                    taskRepository.findProjected(TaskView.class, spec, fields, pageable, total), fields);
+        }
+        return taskRepository.findPage(TaskView.class, spec, pageable, total).map(taskMapper::toResponseDTO);
+    }
+
+    // Only called when the page is full and more rows follow; null for NONE
+    private <T> LongSupplier estimatedTotal(Class<T> domainClass, Specification<T> spec, TaskListOptions options,
+                                            String countKey, String... tables) {
+        if (options.getCountStrategy() == CountStrategy.NONE) {
+            return null;
+        }
+        LongSupplier exactCount = () -> taskRepository.countMatching(domainClass, spec);
+        return spec == null
+                ? () -> countEstimator.estimateTables(countKey, exactCount, tables)
+                : () -> countEstimator.estimate(countKey, exactCount);
     }
 
     /**
@@ -220,12 +544,15 @@ public class TaskService {
      * @param id the id of the task to mark as completed
      * @param completed the completed status of the task to mark as completed
      */
+    @Transactional
     public TaskResponse markAsCompleted(Long id, boolean completed) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("task not found with id: " + id));
+        Map<String, String> before = EntityChangedEvent.snapshot(task);
 
         task.setCompleted(completed);
         taskRepository.save(task);
+        publishChange(task, AuditAction.UPDATED, before);
         return taskMapper.toResponseDTO(task);
     }
 
@@ -243,11 +570,13 @@ public class TaskService {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
+        Map<String, String> before = EntityChangedEvent.snapshot(task);
 
         task.setUser(user);
         user.getTasks().add(task);
 
         Task savedTask = taskRepository.save(task);
+        publishChange(savedTask, AuditAction.UPDATED, before);
 
         publishTaskAssignedEvent(savedTask, user);
 
@@ -265,6 +594,7 @@ public class TaskService {
                 .orElseThrow(() -> new NoSuchElementException("Task not found with id: " + taskId));
 
         User assignedUser = task.getUser();
+        Map<String, String> before = EntityChangedEvent.snapshot(task);
 
         if (assignedUser != null) {
             assignedUser.getTasks().remove(task);
@@ -272,6 +602,78 @@ public class TaskService {
         }
 
         taskRepository.save(task);
+        publishChange(task, AuditAction.UPDATED, before);
+    }
+
+    /**
+     * Assign a task to the eligible user with the least open-task load, notify
+     * @param taskId the task to assign; an assigned task moves if someone else has less load
+     * @return the updated Task as a TaskResponse DTO
+     * @throws NoSuchElementException if the Task is not found or no user is eligible
+     * @throws IllegalArgumentException if the task is completed
+     */
+    @Transactional
+    public TaskResponse autoAssign(Long taskId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new NoSuchElementException("Task not found with id: " + taskId));
+        if (task.isCompleted()) {
+            throw new IllegalArgumentException("Completed tasks are not auto-assigned");
+        }
+        Long userId = workloadTracker.reserveLeastLoaded(task)
+                .orElseThrow(() -> new NoSuchElementException("No eligible user for auto-assignment"));
+        return assignTaskToUser(taskId, userId);
+    }
+
+    /**
+     * Takes the open unassigned tasks that are due earliest and assigns them highest priority first,
+     * each to whoever has the least load at that point
+     * @param limit most tasks to assign in this call
+     * @return how many were assigned to whom and how many are left
+     * @throws IllegalArgumentException if limit is outside 1..max-backlog-batch
+     */
+    @Transactional
+    public BacklogAssignmentResponse autoAssignBacklog(int limit) {
+        if (limit < 1 || limit > workloadProperties.getMaxBacklogBatch()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + workloadProperties.getMaxBacklogBatch());
+        }
+        List<Task> backlog = new ArrayList<>(taskRepository.findUnassignedOpen(PageRequest.of(0, limit)));
+        backlog.sort(Comparator.comparing(Task::getPriority).reversed());
+
+        Map<Long, User> assignees = new HashMap<>();
+        Map<Long, Integer> assignedPerUser = new LinkedHashMap<>();
+        for (Task task : backlog) {
+            Long userId = workloadTracker.reserveLeastLoaded(task).orElse(null);
+            if (userId == null) {
+                break;
+            }
+            User user = assignees.computeIfAbsent(userId, id -> userRepository.findById(id)
+                    .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id)));
+            Map<String, String> before = EntityChangedEvent.snapshot(task);
+
+            // The user's task collection is not touched, so it is never loaded
+            task.setUser(user);
+            publishChange(task, AuditAction.UPDATED, before);
+            publishTaskAssignedEvent(task, user);
+            assignedPerUser.merge(userId, 1, Integer::sum);
+        }
+
+        int assigned = assignedPerUser.values().stream().mapToInt(Integer::intValue).sum();
+        if (assigned > 0) {
+            taskRepository.saveAllAndFlush(backlog.subList(0, assigned));
+        }
+        return new BacklogAssignmentResponse(assigned, taskRepository.countByUserIsNullAndCompletedFalse(),
+                assignedPerUser);
+    }
+
+    /**
+     * Publish the change of a task; the audit log, the search cache and the in-memory indices
+     * pick it up once the transaction commits
+     * @param task the task after the change
+     * @param action what happened to the task
+     * @param before snapshot taken before the change, empty for a new task
+     */
+    private void publishChange(Task task, AuditAction action, Map<String, String> before) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(task, action, before));
     }
 
     /**
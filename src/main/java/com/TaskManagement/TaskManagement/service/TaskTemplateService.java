@@ -0,0 +1,103 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.RecurringProperties;
+import com.TaskManagement.TaskManagement.dto.request.TaskTemplateRequest;
+import com.TaskManagement.TaskManagement.dto.response.TaskTemplateResponse;
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+import com.TaskManagement.TaskManagement.mapper.TaskTemplateMapper;
+import com.TaskManagement.TaskManagement.repository.TaskTemplateRepository;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Recurring task templates. Occurrences are computed from the cron expression when they are needed;
+ * RecurringTaskMaterializer creates their tasks.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskTemplateService {
+
+    private final TaskTemplateRepository templateRepository;
+    private final UserRepository userRepository;
+    private final TaskTemplateMapper templateMapper;
+    private final RecurringProperties properties;
+
+    /**
+     * Creates a template; its first occurrence is the first one after startAfter, or after now
+     * @throws IllegalArgumentException if the cron expression is invalid or never fires
+     * @throws NoSuchElementException if the assignee is not found
+     */
+    @Transactional
+    public TaskTemplateResponse create(TaskTemplateRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Task template request cannot be null");
+        }
+        CronExpression cron = parse(request.getCron());
+        if (request.getUserId() != null && !userRepository.existsById(request.getUserId())) {
+            throw new NoSuchElementException("User not found with id: " + request.getUserId());
+        }
+        LocalDateTime first = cron.next(request.getStartAfter() != null ? request.getStartAfter() : LocalDateTime.now());
+        if (first == null) {
+            throw new IllegalArgumentException("Cron expression has no future occurrence: " + request.getCron());
+        }
+
+        TaskTemplate template = templateMapper.toEntity(request);
+        template.setNextDueAt(first);
+        TaskTemplate saved = templateRepository.save(template);
+        return templateMapper.toResponseDTO(saved, upcoming(saved, cron, 1));
+    }
+
+    /**
+     * Retrieves a template by id
+     * @param upcoming number of next occurrences to list
+     * @throws IllegalArgumentException if upcoming is outside 0..max-upcoming
+     * @throws NoSuchElementException if the template is not found
+     */
+    @Transactional(readOnly = true)
+    public TaskTemplateResponse findById(Long id, int upcoming) {
+        if (upcoming < 0 || upcoming > properties.getMaxUpcoming()) {
+            throw new IllegalArgumentException("Upcoming must be between 0 and " + properties.getMaxUpcoming());
+        }
+        TaskTemplate template = templateRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Task template not found with id: " + id));
+        return templateMapper.toResponseDTO(template, upcoming(template, parse(template.getCron()), upcoming));
+    }
+
+    /**
+     * Deletes a template; tasks already created from it stay
+     * @throws NoSuchElementException if the template is not found
+     */
+    @Transactional
+    public void deleteById(Long id) {
+        if (!templateRepository.existsById(id)) {
+            throw new NoSuchElementException("Task template not found with id: " + id);
+        }
+        templateRepository.deleteById(id);
+    }
+
+    private static CronExpression parse(String expression) {
+        try {
+            return CronExpression.parse(expression.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cron expression '" + expression + "': " + e.getMessage());
+        }
+    }
+
+    private static List<LocalDateTime> upcoming(TaskTemplate template, CronExpression cron, int count) {
+        List<LocalDateTime> dates = new ArrayList<>(count);
+        LocalDateTime next = template.isActive() ? template.getNextDueAt() : null;
+        while (next != null && dates.size() < count) {
+            dates.add(next);
+            next = cron.next(next);
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,189 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.SuggestProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted set of normalized task titles for /api/tasks/suggest. A prefix lookup is a skip-list seek
+ * followed by reading the next k entries, so it costs O(log n + k) however many tasks there are.
+ * <p>
+ * Built from the tasks table once the application is ready and rebuilt every rebuild-interval.
+ * Creates, title changes and deletes apply once they commit, through {@link TaskChangedEvent}.
+ */
+@Component
+public class TitlePrefixIndex extends RebuildableState<NavigableSet<TitlePrefixIndex.Entry>> {
+
+    private static final String SELECT_TITLES = "SELECT id, title FROM tasks WHERE deleted_at IS NULL";
+    private static final int FETCH_SIZE = 10_000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SuggestProperties properties;
+
+    public TitlePrefixIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            SuggestProperties properties, MeterRegistry meterRegistry) {
+        super("title prefix index");
+        // Own template so the fetch size streams the rows instead of loading the whole table at once
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        Gauge.builder("suggest.index.size", this, index -> index.state() == null ? 0 : index.state().size())
+                .description("Task titles held in the prefix index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lower-cases a title and collapses runs of whitespace, so "Fix  Login" and "fix login" sort together
+     */
+    public static String normalize(String title) {
+        return WHITESPACE.matcher(title.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a typed prefix like a title, except that a trailing space is kept: "fix " must not match "fixture"
+     */
+    public static String normalizePrefix(String prefix) {
+        return WHITESPACE.matcher(prefix.stripLeading()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether the first build has finished; until then lookups would miss existing tasks
+     */
+    public boolean isReady() {
+        return state() != null && properties.isEnabled();
+    }
+
+    /**
+     * Tasks whose normalized title starts with the prefix, in title order
+     * @param normalizedPrefix prefix produced by {@link #normalizePrefix(String)}
+     * @param limit maximum number of results
+     */
+    public List<TaskSuggestionResponse> suggest(String normalizedPrefix, int limit) {
+        NavigableSet<Entry> entries = state();
+        List<TaskSuggestionResponse> result = new ArrayList<>(limit);
+        if (entries == null) {
+            return result;
+        }
+        for (Entry entry : entries.tailSet(new Entry(normalizedPrefix, null, Long.MIN_VALUE), true)) {
+            if (result.size() == limit || !entry.key.startsWith(normalizedPrefix)) {
+                break;
+            }
+            result.add(new TaskSuggestionResponse(entry.id, entry.title));
+        }
+        return result;
+    }
+
+    /** Adds a created task */
+    public void add(Long id, String title) {
+        apply(entries -> move(entries, id, null, title));
+    }
+
+    /** Moves a task whose title changed */
+    public void replace(Long id, String oldTitle, String newTitle) {
+        if (!Objects.equals(oldTitle, newTitle)) {
+            apply(entries -> move(entries, id, oldTitle, newTitle));
+        }
+    }
+
+    /** Removes a deleted task */
+    public void remove(Long id, String title) {
+        apply(entries -> move(entries, id, title, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        replace(event.getTaskId(), event.getOldTitle(), event.getTitle());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.suggest.rebuild-interval:PT1H}",
+            fixedDelayString = "${app.suggest.rebuild-interval:PT1H}")
+    public void runScheduled() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Reads every live task title into a new set
+     */
+    @Override
+    protected Loaded<NavigableSet<Entry>> load() {
+        NavigableSet<Entry> next = new ConcurrentSkipListSet<>();
+        int[] read = {0};
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(SELECT_TITLES, rs -> {
+            String title = rs.getString(2);
+            if (title != null) {
+                next.add(Entry.of(rs.getLong(1), title));
+                read[0]++;
+            }
+        }));
+        return new Loaded<>(next, read[0]);
+    }
+
+    // Removing the old title also drops it from a rebuild that read the task before it changed
+    private static void move(NavigableSet<Entry> set, long id, String oldTitle, String newTitle) {
+        if (oldTitle != null) {
+            set.remove(Entry.of(id, oldTitle));
+        }
+        if (newTitle != null) {
+            set.add(Entry.of(id, newTitle));
+        }
+    }
+
+    // Ordered by normalized title, then id; title is the same instance as key when it is already normalized
+    record Entry(String key, String title, long id) implements Comparable<Entry> {
+
+        private static Entry of(long id, String title) {
+            String key = normalize(title);
+            return new Entry(key, key.equals(title) ? key : title, id);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byKey = key.compareTo(other.key);
+            return byKey != 0 ? byKey : Long.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry other && id == other.id && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() * 31 + Long.hashCode(id);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.UserIndexProperties;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory username -> id and email -> id maps of every user, each behind a Bloom filter.
+ * Most availability checks of a fresh name end at the filter; a filter hit is settled by the map.
+ * <p>
+ * Built from the users table once the application is ready and rebuilt every rebuild-interval, which
+ * also clears the filter bits of deleted keys. Registrations, username/email changes and deletions
+ * apply once they commit, through {@link UserChangedEvent}.
+ */
+@Component
+public class UserKeyIndex extends RebuildableState<UserKeyIndex.State> {
+
+    private static final String SELECT_KEYS = "SELECT id, username, email FROM users";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserIndexProperties properties;
+
+    private final Counter filterMisses;
+    private final Counter mapHits;
+    private final Counter falsePositives;
+
+    public UserKeyIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        UserIndexProperties properties, MeterRegistry meterRegistry) {
+        super("user key index");
+        // Own template so the fetch size streams the rows instead of loading the whole table at once
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.filterMisses = lookupCounter(meterRegistry, "filter_miss");
+        this.mapHits = lookupCounter(meterRegistry, "hit");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("user.index.size", this, index -> index.state() == null ? 0 : index.state().usernames.ids.size())
+                .description("Users held in the username/email index")
+                .register(meterRegistry);
+        Gauge.builder("user.index.filter.memory", this, UserKeyIndex::filterBytes)
+                .description("Bit arrays of the username and email Bloom filters")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("user.index.lookups")
+                .description("Username/email lookups by where they were answered")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Whether lookups can be answered; false until the first build and when disabled
+     */
+    public boolean isReady() {
+        return state() != null && properties.isEnabled();
+    }
+
+    /**
+     * @return the id of the user with this username, or null if there is none (as of this index)
+     */
+    public Long findIdByUsername(String username) {
+        return lookup(state().usernames, username);
+    }
+
+    /**
+     * @return the id of the user with this email, or null if there is none (as of this index)
+     */
+    public Long findIdByEmail(String email) {
+        return lookup(state().emails, email);
+    }
+
+    private Long lookup(Keys keys, String key) {
+        if (!keys.filter.mightContain(key)) {
+            filterMisses.increment();
+            return null;
+        }
+        Long id = keys.ids.get(key);
+        (id == null ? falsePositives : mapHits).increment();
+        return id;
+    }
+
+    /** Adds a registered user */
+    public void add(Long id, String username, String email) {
+        apply(new Change(id, null, null, username, email));
+    }
+
+    /** Moves the keys of a user whose username or email changed */
+    public void replace(Long id, String oldUsername, String oldEmail, String newUsername, String newEmail) {
+        apply(new Change(id, oldUsername, oldEmail, newUsername, newEmail));
+    }
+
+    /** Removes a deleted user */
+    public void remove(Long id, String username, String email) {
+        apply(new Change(id, username, email, null, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        replace(event.getUserId(), event.getOldUsername(), event.getOldEmail(), event.getUsername(), event.getEmail());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.user-index.rebuild-interval:PT1H}",
+            fixedDelayString = "${app.user-index.rebuild-interval:PT1H}")
+    public void runScheduled() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Reads every user into new maps and filters
+     */
+    @Override
+    protected Loaded<State> load() {
+        return readOnlyTransaction.execute(status -> {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long expected = Math.max(1_000, 2 * (count == null ? 0 : count));
+            State next = new State(new Keys(expected, properties.getFalsePositiveRate()),
+                    new Keys(expected, properties.getFalsePositiveRate()));
+            int[] read = {0};
+            jdbcTemplate.query(SELECT_KEYS, rs -> {
+                long id = rs.getLong(1);
+                next.usernames.put(rs.getString(2), id);
+                next.emails.put(rs.getString(3), id);
+                read[0]++;
+            });
+            return new Loaded<>(next, read[0]);
+        });
+    }
+
+    private double filterBytes() {
+        State current = state();
+        return current == null ? 0 : current.usernames.filter.sizeInBytes() + current.emails.filter.sizeInBytes();
+    }
+
+    // Lookups read the maps and filters without a lock
+    record State(Keys usernames, Keys emails) {
+    }
+
+    static final class Keys {
+
+        private final Map<String, Long> ids = new ConcurrentHashMap<>();
+        private final BloomFilter filter;
+
+        private Keys(long expectedInsertions, double falsePositiveRate) {
+            this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        // The filter learns the key before the map, so a reader never finds a mapped key filtered out
+        private void put(String key, long id) {
+            if (key != null) {
+                filter.put(key);
+                ids.put(key, id);
+            }
+        }
+
+        private void remove(String key, long id) {
+            if (key != null) {
+                ids.remove(key, id);
+            }
+        }
+    }
+
+    // Replaying a change that the rebuild's read already saw leaves the maps as they are
+    private record Change(long id, String oldUsername, String oldEmail, String newUsername, String newEmail)
+            implements Consumer<State> {
+
+        @Override
+        public void accept(State state) {
+            Keys usernames = state.usernames;
+            Keys emails = state.emails;
+            // An unchanged key is left in place, so lookups never see it missing in between
+            if (!Objects.equals(oldUsername, newUsername)) {
+                usernames.remove(oldUsername, id);
+                usernames.put(newUsername, id);
+            }
+            if (!Objects.equals(oldEmail, newEmail)) {
+                emails.remove(oldEmail, id);
+                emails.put(newEmail, id);
+            }
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.TaskManagement.TaskManagement.service;
 
+import com.TaskManagement.TaskManagement.config.UserIndexProperties;
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
 import com.TaskManagement.TaskManagement.dto.request.RoleUpdateRequest;
 import com.TaskManagement.TaskManagement.dto.request.UserRequest;
+import com.TaskManagement.TaskManagement.dto.response.AvailabilityResponse;
 import com.TaskManagement.TaskManagement.dto.response.UserResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.event.EntityChangedEvent;
+import com.TaskManagement.TaskManagement.event.TasksReassignedEvent;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import com.TaskManagement.TaskManagement.exception.UserAlreadyExistsException;
 import com.TaskManagement.TaskManagement.exception.UserNotFoundException;
 import com.TaskManagement.TaskManagement.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,12 +28,18 @@ import com.TaskManagement.TaskManagement.entity.User;
 import com.TaskManagement.TaskManagement.repository.UserRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserKeyIndex userKeyIndex;
+    private final UserIndexProperties userIndexProperties;
+    private final TaskReassignmentService taskReassignmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Defensive Validation Helper
     private void validatePageableOffset(Pageable pageable) {
@@ -38,6 +53,9 @@ public class UserService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+            if (isUnknownUsername(username)) {
+                throw new UsernameNotFoundException("User not found with username: " + username);
+            }
             User user = userRepository.findByUsername(username)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
@@ -49,17 +67,71 @@ public class UserService implements UserDetailsService {
      */
     @Transactional
     public UserResponse registerUser(UserRequest request) {
+        // Checked before the costly password hash; the unique constraints still decide races
+        checkNotTaken(request.getUsername(), request.getEmail(), null);
         User user = userMapper.toEntity(request);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        user = userRepository.save(user);
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException("Username or email is already taken");
+        }
+        eventPublisher.publishEvent(UserChangedEvent.of(user, AuditAction.CREATED, Map.of()));
         return userMapper.toResponseDTO(user);
     }
 
+    /**
+     * Checks whether a username and/or email can still be registered, from memory once UserKeyIndex is built
+     * @param username the username to check, or null
+     * @param email the email to check, or null
+     * @return availability of the values that were given
+     * @throws IllegalArgumentException if neither is given
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        boolean checkUsername = username != null && !username.isBlank();
+        boolean checkEmail = email != null && !email.isBlank();
+        if (!checkUsername && !checkEmail) {
+            throw new IllegalArgumentException("Provide a username or an email to check");
+        }
+        boolean indexed = userKeyIndex.isReady();
+        Boolean usernameAvailable = !checkUsername ? null : indexed
+                ? userKeyIndex.findIdByUsername(username) == null
+                : !userRepository.existsByUsername(username);
+        Boolean emailAvailable = !checkEmail ? null : indexed
+                ? userKeyIndex.findIdByEmail(email) == null
+                : !userRepository.existsByEmail(email);
+        return new AvailabilityResponse(usernameAvailable, emailAvailable);
+    }
+
+    // Another instance may have taken the key since the last rebuild, which the unique constraint then reports
+    private void checkNotTaken(String username, String email, Long userId) {
+        if (!userKeyIndex.isReady()) {
+            return;
+        }
+        Long usernameOwner = userKeyIndex.findIdByUsername(username);
+        if (usernameOwner != null && !usernameOwner.equals(userId)) {
+            throw new UserAlreadyExistsException("Username is already taken: " + username);
+        }
+        Long emailOwner = userKeyIndex.findIdByEmail(email);
+        if (emailOwner != null && !emailOwner.equals(userId)) {
+            throw new UserAlreadyExistsException("Email is already registered: " + email);
+        }
+    }
+
+    private boolean isUnknownUsername(String username) {
+        return userIndexProperties.isRejectUnknownUsernames() && userKeyIndex.isReady()
+                && userKeyIndex.findIdByUsername(username) == null;
+    }
+
     /**
      * To find user by username
      */
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
+        if (isUnknownUsername(username)) {
+            throw new UsernameNotFoundException(username);
+        }
         User entity = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
 
@@ -109,11 +181,14 @@ public class UserService implements UserDetailsService {
     public UserResponse updateUser(Long id, UserRequest request) {
         User entity = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        checkNotTaken(request.getUsername(), request.getEmail(), id);
+        Map<String, String> before = EntityChangedEvent.snapshot(entity);
 
         entity.setUsername(request.getUsername());
         entity.setEmail(request.getEmail());
 
         User savedUser = userRepository.save(entity);
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser, AuditAction.UPDATED, before));
 
         return userMapper.toResponseDTO(savedUser);
     }
@@ -127,23 +202,46 @@ public class UserService implements UserDetailsService {
     public UserResponse updateRole(Long id, RoleUpdateRequest request) {
         User entity = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        Map<String, String> before = EntityChangedEvent.snapshot(entity);
 
         entity.setRole(request.getRole());
 
         User updatedRole = userRepository.save(entity);
+        eventPublisher.publishEvent(UserChangedEvent.of(updatedRole, AuditAction.UPDATED, before));
 
         return userMapper.toResponseDTO(updatedRole);
     }
 
     /**
-     * Deletes a user from database by id
+     * Deletes a user from database by id after handing their tasks over in batches.
+     * Not one transaction: if it fails midway, the tasks moved so far stay moved and calling it again finishes.
      * @param id the id of the user to delete
-     * @throws UserNotFoundException if id is invalid
+     * @param reassignTo id of the user who takes over the tasks, or null to unassign them
+     * @return number of tasks moved
+     * @throws UserNotFoundException if either id is invalid
+     * @throws IllegalArgumentException if the tasks would be reassigned to the deleted user
      */
-    public void deleteUser(Long id) {
+    public int deleteUser(Long id, Long reassignTo) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        User assignee = null;
+        if (reassignTo != null) {
+            if (reassignTo.equals(id)) {
+                throw new IllegalArgumentException("Tasks cannot be reassigned to the user being deleted");
+            }
+            assignee = userRepository.findById(reassignTo)
+                    .orElseThrow(() -> new UserNotFoundException(reassignTo));
+        }
 
-        userRepository.deleteById(id);
+        int moved = taskReassignmentService.reassignAll(id, reassignTo, () -> {
+            userRepository.deleteById(id);
+            eventPublisher.publishEvent(UserChangedEvent.deleted(user, reassignTo));
+        });
+        if (moved > 0) {
+            eventPublisher.publishEvent(new TasksReassignedEvent(id, user.getUsername(), reassignTo,
+                    assignee == null ? null : assignee.getUsername(),
+                    assignee == null ? null : assignee.getEmail(), moved));
+        }
+        return moved;
     }
 }
@@ -0,0 +1,282 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.WorkloadProperties;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Open-task load of every user, kept in memory for auto-assignment. Each open assigned task weighs its
+ * priority weight, multiplied when it is due soon or overdue; a user's load is the sum over their tasks.
+ * <p>
+ * Eligible users sit in a skip list ordered by load, a concurrent priority queue that, unlike a heap,
+ * also moves one user in O(log n) when their load changes; the least-loaded user is its first entry.
+ * Built from the database once the application is ready and rebuilt every rebuild-interval, which also
+ * re-weighs tasks that came within due-soon. Task and user changes apply once they commit, through
+ * {@link TaskChangedEvent} and {@link UserChangedEvent}.
+ */
+@Component
+public class WorkloadTracker extends RebuildableState<WorkloadTracker.State> {
+
+    private static final String SELECT_USERS = "SELECT id, role FROM users";
+    private static final String SELECT_OPEN_TASKS = """
+            SELECT id, user_id, priority, due_date FROM tasks
+            WHERE completed = FALSE AND deleted_at IS NULL AND user_id IS NOT NULL
+            """;
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final WorkloadProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public WorkloadTracker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           WorkloadProperties properties, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, transactionManager, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    WorkloadTracker(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                    WorkloadProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        super("workload tracker");
+        // Own template so the fetch size streams the rows instead of loading the whole table at once
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+        Gauge.builder("workload.eligible.users", this, tracker -> tracker.state() == null ? 0 : tracker.state().queue.size())
+                .description("Users that auto-assignment can pick")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether loads are known; false until the first build and when disabled
+     */
+    public boolean isReady() {
+        return state() != null && properties.isEnabled();
+    }
+
+    /**
+     * @return current load of the user, 0 if they have no open tasks or are unknown
+     */
+    long loadOf(Long userId) {
+        State current = state();
+        return current == null ? 0 : current.loads.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Picks the least-loaded eligible user for a task and counts the task against them right away, so the
+     * next pick already sees it. If the surrounding transaction rolls back, the task's previous load returns.
+     * A task that is assigned already does not count against its current user while picking.
+     * @param task the task to assign
+     * @return id of the picked user, or empty if there is no eligible user or auto-assignment is off
+     */
+    public Optional<Long> reserveLeastLoaded(Task task) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        if (state() == null) {
+            // Called before the startup build finished; build now, unless another caller already is
+            rebuild();
+            if (state() == null) {
+                return Optional.empty();
+            }
+        }
+        long weight = weightOf(task.getPriority(), task.getDueDate());
+        Long taskId = task.getId();
+        TaskLoad[] previous = {null};
+        Long picked = update(state -> {
+            previous[0] = state.tasks.get(taskId);
+            state.clearTask(taskId);
+            UserLoad least = state.queue.isEmpty() ? null : state.queue.first();
+            Long userId = least == null ? null : least.userId();
+            TaskLoad next = userId == null ? previous[0] : new TaskLoad(userId, weight);
+            state.setTask(taskId, next);
+            journal(s -> s.setTask(taskId, next));
+            return userId;
+        });
+        applyOnRollback(s -> s.setTask(taskId, previous[0]));
+        return Optional.ofNullable(picked);
+    }
+
+    /**
+     * Counts a task against its assignee, or not at all once it is completed, unassigned or deleted
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.isDeleted()) {
+            apply(s -> s.setTask(event.getTaskId(), null));
+        } else {
+            setTask(event.getTaskId(), event.isCompleted() ? null : event.getUserId(),
+                    event.getPriority(), event.getDueDate());
+        }
+    }
+
+    /**
+     * Adds a registered user or re-checks the eligibility of one whose role changed. A deleted user is
+     * dropped, and their open tasks count against the user who took them over, if any.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Long userId = event.getUserId();
+        if (event.isDeleted()) {
+            apply(s -> s.removeUser(userId, event.getTasksMovedTo()));
+        } else {
+            boolean eligible = properties.getEligibleRoles().contains(event.getRole());
+            apply(s -> s.setUser(userId, eligible));
+        }
+    }
+
+    private void setTask(Long taskId, Long userId, Priority priority, LocalDateTime dueDate) {
+        TaskLoad load = userId == null ? null : new TaskLoad(userId, weightOf(priority, dueDate));
+        apply(s -> s.setTask(taskId, load));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.workload.rebuild-interval:PT15M}",
+            fixedDelayString = "${app.workload.rebuild-interval:PT15M}")
+    public void runScheduled() {
+        rebuild();
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Reads every user and open assigned task into a new state
+     */
+    @Override
+    protected Loaded<State> load() {
+        State next = new State();
+        int[] read = {0};
+        readOnlyTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(SELECT_USERS, rs -> {
+                Role role = Role.valueOf(rs.getString(2));
+                next.setUser(rs.getLong(1), properties.getEligibleRoles().contains(role));
+            });
+            jdbcTemplate.query(SELECT_OPEN_TASKS, rs -> {
+                Timestamp due = rs.getTimestamp(4);
+                long weight = weightOf(Priority.valueOf(rs.getString(3)), due == null ? null : due.toLocalDateTime());
+                next.setTask(rs.getLong(1), new TaskLoad(rs.getLong(2), weight));
+                read[0]++;
+            });
+        });
+        return new Loaded<>(next, read[0]);
+    }
+
+    long weightOf(Priority priority, LocalDateTime dueDate) {
+        long weight = properties.getPriorityWeights().getOrDefault(priority, 1);
+        if (dueDate != null && dueDate.isBefore(LocalDateTime.now(clock).plus(properties.getDueSoon()))) {
+            weight *= properties.getDueSoonMultiplier();
+        }
+        return weight;
+    }
+
+    private record TaskLoad(long userId, long weight) {
+    }
+
+    private record UserLoad(long load, long userId) implements Comparable<UserLoad> {
+
+        @Override
+        public int compareTo(UserLoad other) {
+            int byLoad = Long.compare(load, other.load);
+            return byLoad != 0 ? byLoad : Long.compare(userId, other.userId);
+        }
+    }
+
+    // Every change is idempotent, so replaying one the rebuild already read leaves the state as it is
+    static final class State {
+
+        private final Map<Long, TaskLoad> tasks = new HashMap<>();
+        private final Map<Long, Long> loads = new HashMap<>();
+        private final Map<Long, Boolean> eligible = new HashMap<>();
+        private final NavigableSet<UserLoad> queue = new ConcurrentSkipListSet<>();
+
+        private void setUser(long userId, boolean isEligible) {
+            Boolean was = eligible.put(userId, isEligible);
+            long load = loads.getOrDefault(userId, 0L);
+            if (Boolean.TRUE.equals(was)) {
+                queue.remove(new UserLoad(load, userId));
+            }
+            if (isEligible) {
+                queue.add(new UserLoad(load, userId));
+            }
+        }
+
+        private void removeUser(long userId, Long tasksMovedTo) {
+            for (Iterator<Map.Entry<Long, TaskLoad>> it = tasks.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Long, TaskLoad> entry = it.next();
+                if (entry.getValue().userId() == userId) {
+                    if (tasksMovedTo == null) {
+                        it.remove();
+                    } else {
+                        entry.setValue(new TaskLoad(tasksMovedTo, entry.getValue().weight()));
+                        addLoad(tasksMovedTo, entry.getValue().weight());
+                    }
+                }
+            }
+            if (Boolean.TRUE.equals(eligible.remove(userId))) {
+                queue.remove(new UserLoad(loads.getOrDefault(userId, 0L), userId));
+            }
+            loads.remove(userId);
+        }
+
+        private void setTask(long taskId, TaskLoad load) {
+            clearTask(taskId);
+            if (load != null) {
+                tasks.put(taskId, load);
+                addLoad(load.userId(), load.weight());
+            }
+        }
+
+        private void clearTask(long taskId) {
+            TaskLoad old = tasks.remove(taskId);
+            if (old != null) {
+                addLoad(old.userId(), -old.weight());
+            }
+        }
+
+        private void addLoad(long userId, long delta) {
+            long before = loads.getOrDefault(userId, 0L);
+            long after = before + delta;
+            loads.put(userId, after);
+            if (Boolean.TRUE.equals(eligible.get(userId))) {
+                queue.remove(new UserLoad(before, userId));
+                queue.add(new UserLoad(after, userId));
+            }
+        }
+    }
+}
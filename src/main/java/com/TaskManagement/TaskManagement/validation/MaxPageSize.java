@@ -0,0 +1,24 @@
+package com.TaskManagement.TaskManagement.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caps a page size at the configurable {@code app.pagination.max-size}
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = MaxPageSizeValidator.class)
+public @interface MaxPageSize {
+
+    String message() default "Page size cannot be larger than {max}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,26 @@
+package com.TaskManagement.TaskManagement.validation;
+
+import com.TaskManagement.TaskManagement.config.PaginationProperties;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+// Created by Spring's constraint validator factory, which injects the constructor
+public class MaxPageSizeValidator implements ConstraintValidator<MaxPageSize, Integer> {
+
+    private final PaginationProperties properties;
+
+    public MaxPageSizeValidator(PaginationProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean isValid(Integer size, ConstraintValidatorContext context) {
+        int maxSize = properties.getMaxSize();
+        if (size == null || size <= maxSize) {
+            return true;
+        }
+        context.unwrap(HibernateConstraintValidatorContext.class).addMessageParameter("max", maxSize);
+        return false;
+    }
+}
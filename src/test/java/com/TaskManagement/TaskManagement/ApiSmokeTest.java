@@ -0,0 +1,206 @@
+package com.TaskManagement.TaskManagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end checks over HTTP against the seeded dev data. Also runs inside the native image:
+ * ./mvnw -PnativeTest test -Dtest=ApiSmokeTest
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiSmokeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private TestRestTemplate admin() {
+        return restTemplate.withBasicAuth("admin", "admin123");
+    }
+
+    private TestRestTemplate user() {
+        return restTemplate.withBasicAuth("john_doe", "user123");
+    }
+
+    @Test
+    void listTasks_ReturnsSeededPage() {
+        // Act
+        ResponseEntity<JsonNode> response = user().getForEntity("/api/tasks", JsonNode.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().get("content").size() > 0);
+        assertTrue(response.getBody().has("totalElements"));
+    }
+
+    @Test
+    void listTasks_RejectsPageSizeAboveConfiguredMax() {
+        // Act: app.pagination.max-size is 100
+        ResponseEntity<String> response = user().getForEntity("/api/tasks?size=101", String.class);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().contains("Page size cannot be larger than 100"), response.getBody());
+    }
+
+    @Test
+    void countStrategies_AgreeOnContent() {
+        // Act
+        JsonNode exact = user().getForEntity("/api/tasks?size=2&sortBy=id", JsonNode.class).getBody();
+        JsonNode estimated = user().getForEntity("/api/tasks?size=2&sortBy=id&countStrategy=ESTIMATED&fields=id,title",
+                JsonNode.class).getBody();
+        JsonNode none = user().getForEntity("/api/tasks?size=2&sortBy=id&countStrategy=NONE&includeArchived=true",
+                JsonNode.class).getBody();
+
+        // Assert
+        assertEquals(exact.get("content").get(0).get("id"), estimated.get("content").get(0).get("id"));
+        assertEquals(exact.get("content").get(0).get("id"), none.get("content").get(0).get("id"));
+        assertEquals(exact.get("totalElements"), estimated.get("totalElements"));
+        assertEquals(exact.get("last"), none.get("last"));
+        assertEquals("NONE", none.get("countStrategy").asText());
+        assertFalse(none.has("totalElements"));
+    }
+
+    @Test
+    void nextTasks_AreOpenTasksOfThePrincipal() {
+        // Act
+        ResponseEntity<JsonNode> response = user().getForEntity("/api/tasks/next?limit=3", JsonNode.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().size() > 0 && response.getBody().size() <= 3);
+        response.getBody().forEach(task -> {
+            assertFalse(task.get("completed").asBoolean());
+            assertEquals("john_doe", task.get("assignedUser").get("username").asText());
+        });
+    }
+
+    @Test
+    void createTask_ThenFetchById() {
+        // Arrange
+        Map<String, Object> request = Map.of(
+                "title", "Smoke test task",
+                "priority", "MEDIUM",
+                "dueDate", "2030-01-01T10:00:00.000Z");
+
+        // Act
+        ResponseEntity<JsonNode> created = admin().postForEntity("/api/tasks", request, JsonNode.class);
+        long id = created.getBody().get("id").asLong();
+        ResponseEntity<JsonNode> fetched = user().getForEntity("/api/tasks/" + id, JsonNode.class);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals(HttpStatus.OK, fetched.getStatusCode());
+        assertEquals("Smoke test task", fetched.getBody().get("title").asText());
+    }
+
+    @Test
+    void committedTaskChanges_ReachTheAuditLog() throws InterruptedException {
+        // Arrange
+        Map<String, Object> request = Map.of(
+                "title", "Audited smoke test task",
+                "priority", "LOW",
+                "dueDate", "2030-01-01T10:00:00.000Z");
+        long id = admin().postForEntity("/api/tasks", request, JsonNode.class).getBody().get("id").asLong();
+
+        // Act: the audit writer appends the rows within a flush interval of the commit
+        admin().delete("/api/tasks/" + id);
+        JsonNode history = null;
+        for (int i = 0; i < 50 && (history == null || history.get("content").size() < 4 + 1); i++) {
+            Thread.sleep(100);
+            history = user().getForEntity("/api/tasks/" + id + "/history", JsonNode.class).getBody();
+        }
+
+        // Assert: title, priority, due date and completed set on create, then the delete
+        assertEquals(4 + 1, history.get("content").size());
+        assertEquals("DELETED", history.get("content").get(0).get("action").asText());
+    }
+
+    @Test
+    void createTask_AsUser_IsForbidden() {
+        // Arrange
+        Map<String, Object> request = Map.of(
+                "title", "Not allowed",
+                "priority", "LOW",
+                "dueDate", "2030-01-01T10:00:00.000Z");
+
+        // Act
+        ResponseEntity<String> response = user().postForEntity("/api/tasks", request, String.class);
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+
+    @Test
+    void anonymousRequest_IsUnauthorized() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/tasks", String.class);
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    void sparseFieldsAndQueryFilters_AreBound() {
+        // Act
+        ResponseEntity<JsonNode> projected = user().getForEntity("/api/tasks?fields=title,updatedAt&includeArchived=true",
+                JsonNode.class);
+        ResponseEntity<JsonNode> filtered = user().getForEntity("/api/tasks/query?priority=HIGH&completed=false",
+                JsonNode.class);
+        ResponseEntity<JsonNode> wildcard = user().getForEntity("/api/tasks/query?text={text}", JsonNode.class, "%");
+        ResponseEntity<JsonNode> wildcardSearch = user().getForEntity("/api/tasks/search?query={query}", JsonNode.class,
+                "%");
+
+        // Assert
+        assertEquals(HttpStatus.OK, projected.getStatusCode());
+        JsonNode first = projected.getBody().get("content").get(0);
+        assertTrue(first.has("title"));
+        assertTrue(first.has("updatedAt"));
+        assertFalse(first.has("description"));
+        assertFalse(first.has("completed"));
+
+        assertEquals(HttpStatus.OK, filtered.getStatusCode());
+        filtered.getBody().get("content")
+                .forEach(task -> assertEquals("HIGH", task.get("priority").asText()));
+
+        // A % in the text is matched literally instead of matching every task
+        assertEquals(HttpStatus.OK, wildcard.getStatusCode());
+        assertEquals(0, wildcard.getBody().get("content").size());
+        assertEquals(HttpStatus.OK, wildcardSearch.getStatusCode());
+        assertEquals(0, wildcardSearch.getBody().get("content").size());
+    }
+
+    @Test
+    void availabilityChecks_AreThrottledPerAddress() {
+        // Act: each check costs a quarter of the bucket
+        List<HttpStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            statuses.add(HttpStatus.valueOf(restTemplate.getForEntity("/api/auth/available?username={name}",
+                    String.class, "probe" + i).getStatusCode().value()));
+        }
+
+        // Assert
+        assertEquals(List.of(HttpStatus.OK, HttpStatus.OK, HttpStatus.OK, HttpStatus.OK, HttpStatus.TOO_MANY_REQUESTS),
+                statuses);
+    }
+
+    @Test
+    void oversizedPage_IsRejectedByValidation() {
+        // Act
+        ResponseEntity<JsonNode> response = user().getForEntity("/api/tasks?size=5000", JsonNode.class);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(response.getBody().has("size"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.TaskManagement.TaskManagement.benchmark;
+
+import com.TaskManagement.TaskManagement.dto.response.AssignedUserResponseDTO;
+import com.TaskManagement.TaskManagement.dto.response.PageResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of one list page: Spring's PageImpl vs. the compact PageResponse envelope,
+ * with and without Blackbird, plus the gzip step the server now applies.
+ * Bytes on the wire for each shape are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int rows;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+    private PageImpl<TaskResponse> springPage;
+    private PageResponse<TaskResponse> compactPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        plainMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        blackbirdMapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<TaskResponse> content = new ArrayList<>(rows);
+        LocalDateTime dueDate = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < rows; i++) {
+            AssignedUserResponseDTO user = new AssignedUserResponseDTO((long) (i % 50), "user_" + (i % 50), Role.USER);
+            content.add(new TaskResponse((long) i, "Task number " + i,
+                    "Description of task " + i + " with enough text to look like a real ticket body.",
+                    i % 3 == 0, dueDate.plusHours(i), dueDate, Priority.values()[i % 3], user, null));
+        }
+        springPage = new PageImpl<>(content, PageRequest.of(0, rows, Sort.by("dueDate")), rows * 20L);
+        compactPage = PageResponse.from(springPage);
+
+        System.out.printf("%n[wire] rows=%d PageImpl raw=%d gzip=%d | PageResponse raw=%d gzip=%d bytes%n", rows,
+                plainMapper.writeValueAsBytes(springPage).length, gzip(plainMapper.writeValueAsBytes(springPage)).length,
+                plainMapper.writeValueAsBytes(compactPage).length, gzip(plainMapper.writeValueAsBytes(compactPage)).length);
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(raw);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] pageImpl() throws IOException {
+        return plainMapper.writeValueAsBytes(springPage);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws IOException {
+        return plainMapper.writeValueAsBytes(compactPage);
+    }
+
+    @Benchmark
+    public byte[] pageResponseBlackbird() throws IOException {
+        return blackbirdMapper.writeValueAsBytes(compactPage);
+    }
+
+    @Benchmark
+    public byte[] pageResponseBlackbirdGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows * 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            blackbirdMapper.writeValue(out, compactPage);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+package com.TaskManagement.TaskManagement.benchmark;
+
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of turning one page of Task entities into TaskResponses: the old Page.map / stream path vs.
+ * TaskMapper.toResponsePage. Run with -prof gc and compare gc.alloc.rate.norm (bytes/op):
+ * ./mvnw -Pbenchmark test -Djmh.args="TaskMapperBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    // Distinct assignees on the page; most real pages have far fewer users than rows
+    @Param({"20"})
+    private int users;
+
+    private TaskMapper taskMapper;
+    private Page<Task> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskMapper = new TaskMapper();
+
+        List<User> assignees = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setUsername("user_" + i);
+            user.setRole(Role.USER);
+            assignees.add(user);
+        }
+
+        List<Task> content = new ArrayList<>(rows);
+        LocalDateTime dueDate = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < rows; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task number " + i);
+            task.setDescription("Description of task " + i);
+            task.setPriority(Priority.values()[i % 3]);
+            task.setDueDate(dueDate.plusHours(i));
+            task.setUser(i % 10 == 0 ? null : assignees.get(i % users));
+            content.add(task);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, rows, Sort.by("dueDate")), rows * 20L);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> pageMap() {
+        return page.map(taskMapper::toResponseDTO);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> toResponsePage() {
+        return taskMapper.toResponsePage(page);
+    }
+
+    @Benchmark
+    public List<TaskResponse> streamList() {
+        return page.getContent().stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponseList() {
+        return taskMapper.toResponseList(page.getContent());
+    }
+}
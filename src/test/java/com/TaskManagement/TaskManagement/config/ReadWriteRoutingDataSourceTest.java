@@ -0,0 +1,79 @@
+package com.TaskManagement.TaskManagement.config;
+
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Both pools point at the same in-memory H2 database; the replica pool only stands in for a real replica.
+ * Auditing is off so the background audit writer does not borrow primary connections between the counts.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.replica.pool-name=replica",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:routingdb",
+        "app.datasource.replica.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=password",
+        "app.datasource.replica.read-only=true",
+        "app.audit.enabled=false"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactionsUseReplica_WritesUsePrimary() {
+        // Arrange
+        double primaryBefore = routed("primary");
+        double replicaBefore = routed("replica");
+
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Routing test");
+        request.setPriority(Priority.LOW);
+        request.setDueDate(LocalDateTime.now().plusDays(1));
+
+        // Act
+        taskService.save(request);
+        double primaryAfterWrite = routed("primary");
+        double replicaAfterWrite = routed("replica");
+
+        taskService.findAll(new PaginationRequest(), null);
+
+        // Assert
+        assertTrue(primaryAfterWrite > primaryBefore);
+        assertEquals(replicaBefore, replicaAfterWrite);
+        assertTrue(routed("replica") > replicaAfterWrite);
+        assertEquals(primaryAfterWrite, routed("primary"));
+        assertNotNull(meterRegistry.find("datasource.routing.read.ratio").gauge());
+    }
+
+    @Test
+    void primaryDataSourceIsLazyRoutingProxy() {
+        // Assert
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("datasource.routing").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,94 @@
+package com.TaskManagement.TaskManagement.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Batches commit on their own connections, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(25);
+        properties.setTasks(3_000);
+        properties.setBatchSize(400);
+        properties.setParallelism(3);
+        generator = new SyntheticDataGenerator(jdbcTemplate, transactionManager, properties);
+    }
+
+    @Test
+    void run_FillsUpToTargets_AndIsIdempotent() throws Exception {
+        // Act
+        generator.run();
+        generator.run();
+
+        // Assert
+        assertEquals(25, count("SELECT COUNT(*) FROM users"));
+        assertEquals(3_000, count("SELECT COUNT(*) FROM tasks"));
+    }
+
+    @Test
+    void run_ProducesSkewedDistributions() throws Exception {
+        // Act
+        generator.run();
+
+        // Assert
+        long low = count("SELECT COUNT(*) FROM tasks WHERE priority = 'LOW'");
+        long medium = count("SELECT COUNT(*) FROM tasks WHERE priority = 'MEDIUM'");
+        long high = count("SELECT COUNT(*) FROM tasks WHERE priority = 'HIGH'");
+        assertTrue(low > medium && medium > high);
+
+        long unassigned = count("SELECT COUNT(*) FROM tasks WHERE user_id IS NULL");
+        assertTrue(unassigned > 0 && unassigned < 1_000);
+
+        long busiestUser = count("SELECT MAX(c) FROM (SELECT COUNT(*) AS c FROM tasks "
+                + "WHERE user_id IS NOT NULL GROUP BY user_id) t");
+        assertTrue(busiestUser > 3_000 / 25 * 3);
+
+        long completedOverdue = count("SELECT COUNT(*) FROM tasks WHERE completed = TRUE AND due_date < CURRENT_TIMESTAMP");
+        long overdue = count("SELECT COUNT(*) FROM tasks WHERE due_date < CURRENT_TIMESTAMP");
+        assertTrue(completedOverdue > overdue / 2);
+    }
+
+    @Test
+    void writeCsvRow_QuotesText_AndLeavesNullEmpty() throws Exception {
+        // Arrange
+        StringWriter out = new StringWriter();
+        Timestamp dueDate = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 12, 0));
+
+        // Act
+        SyntheticDataGenerator.writeCsvRow(out, new Object[] {"Fix \"login\", again", "", null, true, dueDate, 7L});
+
+        // Assert
+        assertEquals("\"Fix \"\"login\"\", again\",\"\",,true,2026-01-01 12:00:00.0,7\n", out.toString());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,297 @@
+package com.TaskManagement.TaskManagement.controller;
+
+
+import com.TaskManagement.TaskManagement.config.BulkheadProperties;
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.exception.BulkheadFullException;
+import com.TaskManagement.TaskManagement.service.Bulkhead;
+import com.TaskManagement.TaskManagement.service.BulkheadExecutor;
+import com.TaskManagement.TaskManagement.service.IdempotencyService;
+import com.TaskManagement.TaskManagement.service.TaskDependencyService;
+import com.TaskManagement.TaskManagement.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+// TaskController is loaded too, so every endpoint can be compared with its async variant
+@WebMvcTest({AsyncTaskController.class, TaskController.class})
+@Import({com.TaskManagement.TaskManagement.config.SecurityConfig.class, com.TaskManagement.TaskManagement.config.RateLimitProperties.class,
+        com.TaskManagement.TaskManagement.config.PaginationProperties.class, BulkheadExecutor.class})
+class AsyncTaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private TaskDependencyService taskDependencyService;
+
+    @Autowired
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @MockitoSpyBean
+    private BulkheadExecutor bulkheadExecutor;
+
+    // Helper Objects
+    private final LocalDateTime testDate = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
+    private TaskResponse mockResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockResponse = new TaskResponse(1L, "Test Task", "Desc", false, testDate, testDate, Priority.HIGH, null, null);
+    }
+
+    @Test
+    void everyTaskEndpoint_ShouldHaveAnAsyncVariant() {
+        // Act
+        Set<String> blocking = endpoints(TaskController.class, "/api/tasks");
+        Set<String> async = endpoints(AsyncTaskController.class, "/api/async/tasks");
+
+        // Assert
+        assertEquals(blocking, async);
+    }
+
+    // "METHOD path" of each handler, relative to the controller's base path
+    private Set<String> endpoints(Class<?> controller, String basePath) {
+        return handlerMapping.getHandlerMethods().entrySet().stream()
+                .filter(entry -> entry.getValue().getBeanType() == controller)
+                .map(entry -> {
+                    RequestMappingInfo info = entry.getKey();
+                    return info.getMethodsCondition().getMethods() + " "
+                            + info.getPatternValues().iterator().next().substring(basePath.length());
+                })
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void findById_ShouldReturn401_WithoutStartingAsyncWork_WhenUnauthenticated() throws Exception {
+        mockMvc.perform(get("/api/async/tasks/1"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findById_ShouldRunOnPointReadBulkhead() throws Exception {
+        // Arrange
+        when(taskService.findById(1L)).thenReturn(mockResponse);
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/async/tasks/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+        verify(bulkheadExecutor).supply(eq(Bulkhead.POINT_READ), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void search_ShouldRunOnSearchBulkhead_AndReturnPage() throws Exception {
+        // Arrange
+        when(taskService.search(eq("report"), any(PaginationRequest.class), any(TaskListOptions.class)))
+                .thenReturn(new PageImpl<>(List.of(mockResponse)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/async/tasks/search").param("query", "report"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"));
+        verify(bulkheadExecutor).supply(eq(Bulkhead.SEARCH), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findById_ShouldReturn404_WhenServiceFailsOnPoolThread() throws Exception {
+        // Arrange
+        when(taskService.findById(99L)).thenThrow(new NoSuchElementException("Task not found with id: 99"));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/async/tasks/99"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Task not found with id: 99"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void search_ShouldReturn503WithRetryAfter_WhenBulkheadIsFull() throws Exception {
+        // Arrange
+        doThrow(new BulkheadFullException(Bulkhead.SEARCH)).when(bulkheadExecutor).supply(eq(Bulkhead.SEARCH), any());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/async/tasks/search").param("query", "report"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Too many concurrent search requests, retry shortly"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldReturn504_WhenBulkheadTimesOut() throws Exception {
+        // Arrange
+        doReturn(CompletableFuture.failedFuture(new TimeoutException()))
+                .when(bulkheadExecutor).supply(eq(Bulkhead.LIST), any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/async/tasks"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void createTask_ShouldReturn403_WhenUserLacksAuthority() throws Exception {
+        TaskRequest request = new TaskRequest("Test Task", "Desc", Priority.HIGH, 1L, testDate);
+
+        mockMvc.perform(post("/api/async/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void createTask_ShouldReturn201_WhenAuthorized() throws Exception {
+        // Arrange
+        TaskRequest request = new TaskRequest("Test Task", "Desc", Priority.HIGH, 1L, testDate);
+        when(taskService.save(any(TaskRequest.class))).thenReturn(mockResponse);
+
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/async/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert: writes have no async timeout, so MockMvc must be told how long to wait
+        started.getAsyncResult(5_000);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/tasks/1"));
+        verify(bulkheadExecutor).supply(eq(Bulkhead.WRITE), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void deleteById_ShouldReturn204() throws Exception {
+        // Act
+        MvcResult started = mockMvc.perform(delete("/api/async/tasks/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert: writes have no async timeout, so MockMvc must be told how long to wait
+        started.getAsyncResult(5_000);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNoContent());
+        verify(taskService).deleteById(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void addBlocker_ShouldRunOnWriteBulkhead() throws Exception {
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/async/tasks/2/blockers/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert: writes have no async timeout, so MockMvc must be told how long to wait
+        started.getAsyncResult(5_000);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNoContent());
+        verify(taskDependencyService).addBlocker(2L, 1L);
+        verify(bulkheadExecutor).supply(eq(Bulkhead.WRITE), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void addBlocker_ShouldReturnServiceError_FromPoolThread() throws Exception {
+        // Arrange
+        doThrow(new IllegalArgumentException("Task 1 already waits for task 2"))
+                .when(taskDependencyService).addBlocker(2L, 1L);
+
+        // Act
+        MvcResult started = mockMvc.perform(post("/api/async/tasks/2/blockers/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert: writes have no async timeout, so MockMvc must be told how long to wait
+        started.getAsyncResult(5_000);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Task 1 already waits for task 2"));
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties(BulkheadProperties.class)
+    static class BulkheadTestConfig {
+    }
+}
@@ -1,14 +1,26 @@
 package com.TaskManagement.TaskManagement.controller;
 
 
+import com.TaskManagement.TaskManagement.dto.request.CountStrategy;
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskQueryRequest;
 import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.dto.response.BacklogAssignmentResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskProjectionResponse;
 import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
 import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.service.IdempotencyService;
+import com.TaskManagement.TaskManagement.service.TaskDependencyService;
 import com.TaskManagement.TaskManagement.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -20,8 +32,18 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.EnumSet;
+import java.util.NoSuchElementException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -30,7 +52,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 @WebMvcTest(TaskController.class)
-@Import(com.TaskManagement.TaskManagement.config.SecurityConfig.class)
+@Import({com.TaskManagement.TaskManagement.config.SecurityConfig.class, com.TaskManagement.TaskManagement.config.RateLimitProperties.class,
+        com.TaskManagement.TaskManagement.config.PaginationProperties.class})
 class TaskControllerTest {
 
     @Autowired
@@ -42,6 +65,12 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private TaskDependencyService taskDependencyService;
+
     // Helper Objects
     private final LocalDateTime testDate = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
     private TaskRequest validRequest;
@@ -51,7 +80,7 @@ class TaskControllerTest {
     void setUp() {
         // Initialize DTOs in setup
         validRequest = new TaskRequest("Test Task", "Desc", Priority.HIGH, 1L, testDate);
-        mockResponse = new TaskResponse(1L, "Test Task", "Desc", false, testDate, Priority.HIGH, null);
+        mockResponse = new TaskResponse(1L, "Test Task", "Desc", false, testDate, testDate, Priority.HIGH, null, null);
     }
 
     private String asJsonString(final Object obj) {
@@ -95,7 +124,27 @@ class TaskControllerTest {
                 .content(asJsonString(validRequest)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.title").value("Test Task"));
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.archived").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "leader", roles = "TEAM_LEADER")
+    void createTask_ShouldGoThroughIdempotencyService_WhenKeyIsPresent() throws Exception {
+        // Arrange
+        when(idempotencyService.execute(eq("retry-1"), eq("tasks:create"), eq("leader"), any(), eq(TaskResponse.class), any()))
+                .thenReturn(mockResponse);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(validRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(taskService, never()).save(any(TaskRequest.class));
     }
 
     @Test
@@ -106,7 +155,7 @@ class TaskControllerTest {
         Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(mockResponse), pageable, 1);
 
         // Mock
-        when(taskService.findAll(any(PaginationRequest.class))).thenReturn(mockPage);
+        when(taskService.findAll(any(PaginationRequest.class), any(TaskListOptions.class))).thenReturn(mockPage);
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks")
@@ -116,6 +165,200 @@ class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value(1L))
-                .andExpect(jsonPath("$.totalPages").value(1));
+                .andExpect(jsonPath("$.totalPages").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldReturnOnlyRequestedFields_WhenFieldsParamIsPresent() throws Exception {
+        // Arrange
+        TaskProjectionResponse narrow = new TaskProjectionResponse(1L, "Test Task", null, null, null, null, null, null, null);
+        Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(narrow), PageRequest.of(0, 10), 1);
+        when(taskService.findAll(any(PaginationRequest.class), argThat((TaskListOptions options) ->
+                EnumSet.of(TaskField.ID, TaskField.TITLE).equals(options.fieldSet())))).thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "title")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].completed").doesNotExist())
+                .andExpect(jsonPath("$.content[0].assignedUser").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldReadArchive_WhenIncludeArchivedIsSet() throws Exception {
+        // Arrange
+        TaskResponse archived = new TaskResponse(2L, "Old Task", "Desc", true, testDate, testDate, Priority.LOW, null, true);
+        Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(archived), PageRequest.of(0, 10), 1);
+        when(taskService.findAll(any(PaginationRequest.class), argThat(TaskListOptions::isIncludeArchived)))
+                .thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("includeArchived", "true")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].archived").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldOmitTotals_WhenCountStrategyIsNone() throws Exception {
+        // Arrange
+        Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(mockResponse), PageRequest.of(0, 1), 2);
+        when(taskService.findAll(any(PaginationRequest.class), argThat((TaskListOptions options) ->
+                options.getCountStrategy() == CountStrategy.NONE))).thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("size", "1")
+                .param("countStrategy", "NONE")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countStrategy").value("NONE"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void suggest_ShouldReturnTitleMatches() throws Exception {
+        // Arrange
+        when(taskService.suggest("fix", 5)).thenReturn(List.of(new TaskSuggestionResponse(1L, "Fix login")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/suggest")
+                .param("prefix", "fix")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].title").value("Fix login"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void autoAssignBacklog_ShouldReturnSummary() throws Exception {
+        // Arrange
+        when(taskService.autoAssignBacklog(50)).thenReturn(new BacklogAssignmentResponse(2, 0L, Map.of(7L, 2)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/auto-assign").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned").value(2))
+                .andExpect(jsonPath("$.remaining").value(0))
+                .andExpect(jsonPath("$.assignedPerUser.7").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findByPriority_ShouldFilterOnCompleted_WhenParamIsPresent() throws Exception {
+        // Arrange
+        Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(mockResponse), PageRequest.of(0, 10), 1);
+        when(taskService.findByPriority(eq(Priority.HIGH), eq(false), any(PaginationRequest.class),
+                any(TaskListOptions.class))).thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/priority/HIGH")
+                .param("completed", "false")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findHistory_ShouldReturnPagedAuditRows() throws Exception {
+        // Arrange
+        AuditEntryResponse entry = new AuditEntryResponse(5L, AuditAction.UPDATED, "completed", "false", "true",
+                "leader", testDate);
+        Page<AuditEntryResponse> mockPage = new PageImpl<>(Collections.singletonList(entry), PageRequest.of(0, 10), 1);
+        when(taskService.findHistory(eq(1L), any(PaginationRequest.class))).thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1/history")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].field").value("completed"))
+                .andExpect(jsonPath("$.content[0].newValue").value("true"))
+                .andExpect(jsonPath("$.content[0].changedBy").value("leader"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findHistory_ShouldReturnNotFound_WhenTaskNeverExisted() throws Exception {
+        // Arrange
+        when(taskService.findHistory(eq(99L), any(PaginationRequest.class)))
+                .thenThrow(new NoSuchElementException("Task not found with id: 99"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/99/history")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Task not found with id: 99"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void query_ShouldBindCombinedFilters() throws Exception {
+        // Arrange
+        Page<TaskResponse> mockPage = new PageImpl<>(Collections.singletonList(mockResponse), PageRequest.of(0, 10), 1);
+        when(taskService.query(any(TaskQueryRequest.class), any(PaginationRequest.class), any(TaskListOptions.class)))
+                .thenReturn(mockPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/query")
+                .param("completed", "false")
+                .param("priority", "HIGH", "MEDIUM")
+                .param("userId", "7")
+                .param("dueFrom", "2026-01-01T00:00:00")
+                .param("dueTo", "2026-01-07T23:59:59")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L));
+
+        ArgumentCaptor<TaskQueryRequest> captor = ArgumentCaptor.forClass(TaskQueryRequest.class);
+        verify(taskService).query(captor.capture(), any(PaginationRequest.class), any(TaskListOptions.class));
+        TaskQueryRequest bound = captor.getValue();
+        assertEquals(Boolean.FALSE, bound.getCompleted());
+        assertEquals(EnumSet.of(Priority.HIGH, Priority.MEDIUM), bound.getPriority());
+        assertEquals(7L, bound.getUserId());
+        assertEquals(LocalDateTime.of(2026, 1, 7, 23, 59, 59), bound.getDueTo());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldReturn400_WhenFieldIsUnknown() throws Exception {
+        // Arrange: the service parses the bound fields like the real one does
+        when(taskService.findAll(any(PaginationRequest.class), any(TaskListOptions.class))).thenAnswer(invocation -> {
+            invocation.<TaskListOptions>getArgument(1).fieldSet();
+            return Page.empty();
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "title,secret")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown task field: secret"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAll_ShouldReturn400_WhenPageSizeExceedsMaximum() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .param("page", "0")
+                .param("size", "5000")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.size").value("Page size cannot be larger than 100"));
+
+        verify(taskService, never()).findAll(any(PaginationRequest.class), any(TaskListOptions.class));
     }
 }
@@ -31,7 +31,8 @@ import java.util.Collections;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
-@Import(com.TaskManagement.TaskManagement.config.SecurityConfig.class)
+@Import({com.TaskManagement.TaskManagement.config.SecurityConfig.class, com.TaskManagement.TaskManagement.config.RateLimitProperties.class,
+        com.TaskManagement.TaskManagement.config.PaginationProperties.class})
 class UserControllerTest {
 
     @Autowired
@@ -96,7 +97,7 @@ class UserControllerTest {
     @WithMockUser(roles = "TEAM_LEADER")
     void deleteUser_ShouldReturn404_WhenUserDoesNotExist() throws Exception {
         // Arrange
-        doThrow(new UserNotFoundException(99L)).when(userService).deleteUser(99L);
+        when(userService.deleteUser(99L, null)).thenThrow(new UserNotFoundException(99L));
 
         // Act & Assert
         mockMvc.perform(delete("/api/users/99"))
@@ -177,10 +178,22 @@ class UserControllerTest {
     @WithMockUser(roles = "TEAM_LEADER")
     void deleteUser_ShouldReturn204_WhenUserIsDeleted() throws Exception {
         // Arrange
-        doNothing().when(userService).deleteUser(2L);
+        when(userService.deleteUser(2L, null)).thenReturn(0);
 
         // Act & Assert
         mockMvc.perform(delete("/api/users/2"))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @WithMockUser(roles = "TEAM_LEADER")
+    void deleteUser_ShouldPassReassignTarget() throws Exception {
+        // Arrange
+        when(userService.deleteUser(2L, 3L)).thenReturn(12);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/users/2").param("reassignTo", "3"))
+                .andExpect(status().isNoContent());
+        verify(userService).deleteUser(2L, 3L);
+    }
 }
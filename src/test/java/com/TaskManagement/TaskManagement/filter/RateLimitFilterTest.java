@@ -0,0 +1,113 @@
+package com.TaskManagement.TaskManagement.filter;
+
+import com.TaskManagement.TaskManagement.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route search = new RateLimitProperties.Route();
+        search.setName("task-search");
+        search.setMethods(List.of("GET"));
+        search.setPatterns(List.of("/api/tasks/search"));
+        search.setCost(5);
+
+        RateLimitProperties.Route pointRead = new RateLimitProperties.Route();
+        pointRead.setName("point-read");
+        pointRead.setMethods(List.of("GET"));
+        pointRead.setPatterns(List.of("/api/tasks/*"));
+        pointRead.setCost(1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(10);
+        properties.setRefillPerSecond(1);
+        properties.setRoutes(List.of(search, pointRead));
+
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        rateLimitFilter = new RateLimitFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+        rateLimitFilter.bindTo(meterRegistry);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "john_doe", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        rateLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void doFilter_ShouldReturn429WithRetryAfter_WhenSearchBudgetIsExhausted() throws Exception {
+        // Act: two searches cost the whole bucket of 10 tokens
+        assertEquals(200, perform("/api/tasks/search").getStatus());
+        assertEquals(200, perform("/api/tasks/search").getStatus());
+        MockHttpServletResponse rejected = perform("/api/tasks/search");
+
+        // Assert
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertTrue(Long.parseLong(rejected.getHeader("Retry-After")) >= 1);
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests")
+                .tag("route", "task-search").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void doFilter_ShouldKeepPointReadsAvailable_WhenSearchBucketIsEmpty() throws Exception {
+        // Arrange
+        perform("/api/tasks/search");
+        perform("/api/tasks/search");
+
+        // Act & Assert
+        assertEquals(429, perform("/api/tasks/search").getStatus());
+        assertEquals(200, perform("/api/tasks/1").getStatus());
+        assertEquals(2.0, meterRegistry.get("ratelimit.buckets").gauge().value());
+    }
+
+    @Test
+    void doFilter_ShouldSkipNonApiPaths() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, perform("/swagger-ui/index.html").getStatus());
+        }
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTime() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+
+        // Act & Assert
+        assertEquals(0, bucket.tryConsume(2, 0L));
+        assertTrue(bucket.tryConsume(1, 0L) > 0);
+        assertEquals(0, bucket.tryConsume(1, 1_000_000_000L));
+    }
+}
@@ -0,0 +1,62 @@
+package com.TaskManagement.TaskManagement.mapper;
+
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskMapperTest {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    @Test
+    void toResponsePage_MatchesPageMap_AndSharesAssignedUserPerUser() {
+        // Arrange
+        User alice = user(1L, "alice");
+        User bob = user(2L, "bob");
+        List<Task> tasks = List.of(task(10L, alice), task(11L, bob), task(12L, alice), task(13L, null));
+        Page<Task> page = new PageImpl<>(tasks, PageRequest.of(2, 4, Sort.by("dueDate")), 40);
+
+        // Act
+        Page<TaskResponse> result = taskMapper.toResponsePage(page);
+        Page<TaskResponse> expected = page.map(taskMapper::toResponseDTO);
+
+        // Assert
+        assertEquals(expected.getTotalElements(), result.getTotalElements());
+        assertEquals(expected.getPageable(), result.getPageable());
+        assertEquals(4, result.getContent().size());
+        assertEquals(expected.getContent().get(1).getAssignedUser(), result.getContent().get(1).getAssignedUser());
+        assertSame(result.getContent().get(0).getAssignedUser(), result.getContent().get(2).getAssignedUser());
+        assertEquals("alice", result.getContent().get(2).getAssignedUser().username());
+        assertNull(result.getContent().get(3).getAssignedUser());
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    private static Task task(Long id, User user) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setPriority(Priority.MEDIUM);
+        task.setDueDate(LocalDateTime.of(2026, 1, 1, 12, 0));
+        task.setUser(user);
+        return task;
+    }
+}
@@ -0,0 +1,167 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.AuditProperties;
+import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.event.EntityChangedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.repository.AuditEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Changes are only buffered after commit, so the test drives its own transactions
+@DataJpaTest
+@Import(AuditServiceTest.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditServiceTest {
+
+    // The context's AuditService receives the published events; its writer thread is left off so the test drains
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        AuditService auditService(JdbcTemplate jdbcTemplate, AuditEntryRepository auditEntryRepository) {
+            AuditProperties properties = new AuditProperties();
+            properties.setFlushInterval(Duration.ofMillis(10));
+            return new AuditService(jdbcTemplate, auditEntryRepository, properties, new SimpleMeterRegistry()) {
+                @Override
+                public boolean isAutoStartup() {
+                    return false;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditEntryRepository auditEntryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AuditService listeningAuditService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditService auditService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM audit_log");
+
+        AuditProperties properties = new AuditProperties();
+        properties.setBufferSize(3);
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        auditService = new AuditService(jdbcTemplate, auditEntryRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void record_WritesChangesInBatches_AndHistoryIsNewestFirst() throws Exception {
+        // Arrange
+        EntityChangedEvent created = EntityChangedEvent.of(AuditEntityType.TASK, 7L, AuditAction.CREATED,
+                Map.of(), Map.of("title", "Write report"));
+        EntityChangedEvent updated = EntityChangedEvent.of(AuditEntityType.TASK, 7L, AuditAction.UPDATED,
+                Map.of("title", "Write report", "priority", "LOW"), Map.of("title", "Write report", "priority", "HIGH"));
+        EntityChangedEvent otherTask = EntityChangedEvent.of(AuditEntityType.TASK, 8L, AuditAction.DELETED,
+                Map.of(), Map.of());
+
+        // Act
+        auditService.record(created);
+        auditService.record(updated);
+        auditService.record(otherTask);
+
+        // Assert
+        assertEquals(2, auditService.drainAndWrite());
+        assertEquals(1, auditService.drainAndWrite());
+        assertEquals(0, auditService.drainAndWrite());
+        assertEquals(3.0, meterRegistry.get("audit.written").counter().count());
+
+        Page<AuditEntryResponse> history = auditService.findHistory(AuditEntityType.TASK, 7L, new PaginationRequest());
+        assertEquals(2, history.getTotalElements());
+        AuditEntryResponse newest = history.getContent().get(0);
+        assertEquals(AuditAction.UPDATED, newest.getAction());
+        assertEquals("priority", newest.getField());
+        assertEquals("LOW", newest.getOldValue());
+        assertEquals("HIGH", newest.getNewValue());
+        assertEquals("system", newest.getChangedBy());
+    }
+
+    @Test
+    void record_DropsChanges_WhenBufferIsFull() {
+        // Arrange
+        EntityChangedEvent deleted = EntityChangedEvent.of(AuditEntityType.USER, 1L, AuditAction.DELETED,
+                Map.of(), Map.of());
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            auditService.record(deleted);
+        }
+
+        // Assert
+        assertEquals(3.0, meterRegistry.get("audit.buffer.size").gauge().value());
+        assertEquals(2.0, meterRegistry.get("audit.dropped").counter().count());
+    }
+
+    @Test
+    void taskChanges_AreBufferedOnlyOnceTheirTransactionCommits() throws Exception {
+        // Arrange
+        Task task = new Task();
+        task.setId(9L);
+        task.setTitle("Write report");
+        task.setPriority(Priority.LOW);
+        TaskChangedEvent created = TaskChangedEvent.of(task, AuditAction.CREATED, Map.of());
+        TaskChangedEvent deleted = TaskChangedEvent.of(task, AuditAction.DELETED, Map.of());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int[] bufferedBeforeCommit = {-1};
+
+        // Act
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(created);
+            try {
+                bufferedBeforeCommit[0] = listeningAuditService.drainAndWrite();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        int committed = listeningAuditService.drainAndWrite();
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(deleted);
+            status.setRollbackOnly();
+        });
+        int rolledBack = listeningAuditService.drainAndWrite();
+
+        // Assert: title, completed and priority were set
+        assertEquals(0, bufferedBeforeCommit[0]);
+        assertEquals(3, committed);
+        assertEquals(0, rolledBack);
+    }
+}
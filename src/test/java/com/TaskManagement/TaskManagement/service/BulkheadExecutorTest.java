@@ -0,0 +1,109 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.BulkheadProperties;
+import com.TaskManagement.TaskManagement.exception.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadExecutor bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties.Pool search = new BulkheadProperties.Pool();
+        search.setThreads(1);
+        search.setQueueCapacity(1);
+        search.setTimeout(Duration.ofMillis(200));
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getPools().put(Bulkhead.SEARCH, search);
+        BulkheadProperties.Pool write = new BulkheadProperties.Pool();
+        write.setTimeout(Duration.ofMillis(200));
+        properties.getPools().put(Bulkhead.WRITE, write);
+
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        bulkheads = new BulkheadExecutor(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+        bulkheads.destroy();
+    }
+
+    @Test
+    void supply_RejectsCall_WhenThreadsAndQueueAreBusy() {
+        // Arrange
+        bulkheads.supply(Bulkhead.SEARCH, this::blockUntilReleased);
+        bulkheads.supply(Bulkhead.SEARCH, this::blockUntilReleased);
+
+        // Act & Assert
+        assertThrows(BulkheadFullException.class, () -> bulkheads.supply(Bulkhead.SEARCH, () -> "third"));
+        // Other classes keep their own threads
+        assertEquals("point read", bulkheads.supply(Bulkhead.POINT_READ, () -> "point read").join());
+        assertEquals(1.0, meterRegistry.get("executor.queued").tag("name", "bulkhead-search").gauge().value());
+    }
+
+    @Test
+    void supply_CompletesWithTimeout_WhenWorkTakesLongerThanThePoolTimeout() {
+        // Act
+        CompletableFuture<String> future = bulkheads.supply(Bulkhead.SEARCH, this::blockUntilReleased);
+
+        // Assert
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+    }
+
+    @Test
+    void supply_WaitsForWrites_BeyondThePoolTimeout() throws Exception {
+        // Act
+        CompletableFuture<String> future = bulkheads.supply(Bulkhead.WRITE, this::blockUntilReleased);
+        Thread.sleep(400);
+        release.countDown();
+
+        // Assert
+        assertEquals("done", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void supply_RunsWithCallersSecurityContext() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("leader", null));
+
+        // Act
+        String name = bulkheads.supply(Bulkhead.WRITE,
+                () -> SecurityContextHolder.getContext().getAuthentication().getName()).join();
+
+        // Assert
+        assertEquals("leader", name);
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,137 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskDependency;
+import com.TaskManagement.TaskManagement.repository.TaskDependencyRepository;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.TaskManagement.TaskManagement.service.DependencyGraph.EdgeResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The graph reads committed rows, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DependencyGraphTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    private DependencyGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM task_dependencies");
+        jdbcTemplate.update("DELETE FROM tasks");
+        graph = new DependencyGraph(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private Task saveTask(boolean completed) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setPriority(Priority.MEDIUM);
+        task.setCompleted(completed);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    void addEdge_ShouldReorder_AndRejectCycles() {
+        // Arrange: 1 -> 2 -> 3 and 4 -> 5, then 5 -> 1 puts 4 and 5 ahead of 1
+        graph.addEdge(1, 2, true, true);
+        graph.addEdge(2, 3, true, true);
+        graph.addEdge(4, 5, true, true);
+
+        // Act
+        DependencyGraph.EdgeResult reordered = graph.addEdge(5, 1, true, true);
+        DependencyGraph.EdgeResult cycle = graph.addEdge(3, 4, true, true);
+        DependencyGraph.EdgeResult selfCycle = graph.addEdge(2, 1, true, true);
+        DependencyGraph.EdgeResult again = graph.addEdge(1, 2, true, true);
+
+        // Assert
+        assertEquals(ADDED, reordered);
+        assertEquals(CYCLE, cycle);
+        assertEquals(CYCLE, selfCycle);
+        assertEquals(ALREADY_PRESENT, again);
+        assertEquals(List.of(4L, 5L, 1L, 2L), graph.blockers(3, true));
+        assertEquals(List.of(2L), graph.blockers(3, false));
+        assertEquals(List.of(4L), graph.ready(10));
+    }
+
+    @Test
+    void setOpen_ShouldReleaseWaitingTasks_InTopologicalOrder() {
+        // Arrange: 1 blocks 2 and 3, 2 blocks 3
+        graph.addEdge(1, 2, true, true);
+        graph.addEdge(1, 3, true, true);
+        graph.addEdge(2, 3, true, true);
+
+        // Act
+        graph.setOpen(1, false);
+        List<Long> afterFirst = graph.ready(10);
+        graph.setOpen(2, false);
+        List<Long> afterSecond = graph.ready(10);
+        graph.setOpen(1, true);
+
+        // Assert
+        assertEquals(List.of(2L), afterFirst);
+        assertEquals(List.of(3L), afterSecond);
+        assertEquals(List.of(1L), graph.ready(10));
+    }
+
+    @Test
+    void addEdge_ShouldBeUndone_WhenTransactionRollsBack() {
+        // Arrange
+        graph.addEdge(1, 2, true, true);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertEquals(ADDED, graph.addEdge(2, 3, true, true));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(List.of(), graph.blockers(3, true));
+        assertEquals(ADDED, graph.addEdge(3, 1, true, true));
+    }
+
+    @Test
+    void rebuild_ShouldReadEdges_AndCountCompletedOrMissingBlockersAsDone() {
+        // Arrange: done -> open -> waiting, and a blocker that is no longer in tasks
+        Task done = saveTask(true);
+        Task open = saveTask(false);
+        Task waiting = saveTask(false);
+        Task orphaned = saveTask(false);
+        dependencyRepository.save(new TaskDependency(done.getId(), open.getId()));
+        dependencyRepository.save(new TaskDependency(open.getId(), waiting.getId()));
+        dependencyRepository.save(new TaskDependency(-1L, orphaned.getId()));
+
+        // Act
+        int read = graph.rebuild();
+
+        // Assert
+        assertEquals(3, read);
+        assertEquals(List.of(done.getId(), open.getId()), graph.blockers(waiting.getId(), true));
+        assertEquals(List.of(orphaned.getId(), open.getId()), graph.ready(10));
+        assertEquals(CYCLE, graph.addEdge(waiting.getId(), done.getId(), true, false));
+    }
+}
@@ -0,0 +1,253 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.IdempotencyProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.IdempotencyRecord;
+import com.TaskManagement.TaskManagement.exception.IdempotencyConflictException;
+import com.TaskManagement.TaskManagement.exception.IdempotencyKeyReusedException;
+import com.TaskManagement.TaskManagement.repository.IdempotencyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyService idempotencyService;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskResponse testTaskResponse;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        idempotencyService = new IdempotencyService(idempotencyRepository, objectMapper,
+                new IdempotencyProperties(), transactionManager, meterRegistry);
+
+        testTaskResponse = new TaskResponse(10L, "New Task", null, false, null, null, null, null, null);
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void execute_ShouldRunOperationOnce_WhenSameKeyIsRetried() {
+        // Arrange
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idempotencyRepository.completePending(eq("tasks:create:admin:key-1"), any(), anyString())).thenReturn(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        TaskResponse first = idempotencyService.execute("key-1", "tasks:create", "admin", "request", TaskResponse.class, () -> {
+            calls.incrementAndGet();
+            return testTaskResponse;
+        });
+        TaskResponse second = idempotencyService.execute("key-1", "tasks:create", "admin", "request", TaskResponse.class, () -> {
+            calls.incrementAndGet();
+            return testTaskResponse;
+        });
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1.0, outcome("miss"));
+        assertEquals(1.0, outcome("hit_memory"));
+        verify(idempotencyRepository, times(1)).completePending(eq("tasks:create:admin:key-1"), any(), anyString());
+    }
+
+    @Test
+    void execute_ShouldReplayStoredResponse_WhenKeyIsOnlyInDatabase() {
+        // Arrange
+        IdempotencyRecord record = new IdempotencyRecord("tasks:create:admin:key-2", null,
+                LocalDateTime.now().plusHours(1), LocalDateTime.now());
+        record.setStatus(IdempotencyRecord.Status.COMPLETED);
+        record.setResponseBody("{\"id\":10,\"title\":\"New Task\"}");
+        when(idempotencyRepository.findById("tasks:create:admin:key-2")).thenReturn(Optional.of(record));
+
+        // Act
+        TaskResponse result = idempotencyService.execute("key-2", "tasks:create", "admin", "request", TaskResponse.class,
+                () -> fail("Operation must not run for a completed key"));
+
+        // Assert
+        assertEquals(10L, result.getId());
+        assertEquals(1.0, outcome("hit_database"));
+        verify(idempotencyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void execute_ShouldThrowConflict_WhenAnotherNodeClaimedTheKey() {
+        // Arrange
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act & Assert
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute("key-3", "tasks:create",
+                "admin", "request", TaskResponse.class, () -> testTaskResponse));
+        assertEquals(1.0, outcome("conflict"));
+    }
+
+    @Test
+    void execute_ShouldReleaseKey_WhenOperationFails() {
+        // Arrange
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("key-4", "tasks:create",
+                "admin", "request", TaskResponse.class, () -> {
+                    throw new IllegalArgumentException("invalid");
+                }));
+        verify(idempotencyRepository, times(1)).releasePending(eq("tasks:create:admin:key-4"), any());
+    }
+
+    @Test
+    void execute_ShouldInsertOnce_WhenTwoRetriesRunConcurrently() throws Exception {
+        // Arrange
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idempotencyRepository.completePending(eq("tasks:create:admin:key-5"), any(), anyString())).thenReturn(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<TaskResponse> first = executor.submit(() -> idempotencyService.execute("key-5", "tasks:create",
+                    "admin", "request", TaskResponse.class, () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        awaitQuietly(release);
+                        return testTaskResponse;
+                    }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<TaskResponse> second = executor.submit(() -> idempotencyService.execute("key-5", "tasks:create",
+                    "admin", "request", TaskResponse.class, () -> {
+                        calls.incrementAndGet();
+                        return testTaskResponse;
+                    }));
+            release.countDown();
+
+            // Assert
+            assertEquals(10L, first.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(10L, second.get(5, TimeUnit.SECONDS).getId());
+            assertEquals(1, calls.get());
+            verify(idempotencyRepository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRejectKey_WhenRetriedWithDifferentRequest() {
+        // Arrange
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idempotencyRepository.completePending(eq("tasks:assign:1:admin:key-6"), any(), anyString())).thenReturn(1);
+        idempotencyService.execute("key-6", "tasks:assign:1", "admin", 2L, TaskResponse.class, () -> testTaskResponse);
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyService.execute("key-6", "tasks:assign:1",
+                "admin", 3L, TaskResponse.class, () -> fail("Operation must not run for a reused key")));
+        assertEquals(1.0, outcome("conflict"));
+    }
+
+    @Test
+    void execute_ShouldTakeOverPendingKey_WhenLeaseExpired() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord abandoned = new IdempotencyRecord("tasks:create:admin:key-7", null,
+                now.plusHours(1), now.minusMinutes(1));
+        when(idempotencyRepository.findById("tasks:create:admin:key-7")).thenReturn(Optional.of(abandoned));
+        when(idempotencyRepository.takeOverPending(eq("tasks:create:admin:key-7"), any(), any())).thenReturn(1);
+        when(idempotencyRepository.completePending(eq("tasks:create:admin:key-7"), any(), anyString())).thenReturn(1);
+
+        // Act
+        TaskResponse result = idempotencyService.execute("key-7", "tasks:create", "admin", "request",
+                TaskResponse.class, () -> testTaskResponse);
+
+        // Assert
+        assertEquals(10L, result.getId());
+        assertEquals(IdempotencyRecord.Status.COMPLETED, abandoned.getStatus());
+        verify(idempotencyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void execute_ShouldThrowConflict_WhenTheKeyWasTakenOverBeforeTheResponseWasStored() {
+        // Arrange: the operation outlived its lease and another request renewed it
+        when(idempotencyRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(idempotencyRepository.completePending(eq("tasks:create:admin:key-9"), any(), anyString())).thenReturn(0);
+
+        // Act & Assert: the exception rolls the operation back
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute("key-9", "tasks:create",
+                "admin", "request", TaskResponse.class, () -> testTaskResponse));
+        assertEquals(1.0, outcome("conflict"));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void execute_ShouldThrowConflict_WhenPendingLeaseIsActive() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord pending = new IdempotencyRecord("tasks:create:admin:key-8", null,
+                now.plusHours(1), now.plusMinutes(5));
+        when(idempotencyRepository.findById("tasks:create:admin:key-8")).thenReturn(Optional.of(pending));
+
+        // Act & Assert
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute("key-8", "tasks:create",
+                "admin", "request", TaskResponse.class, () -> testTaskResponse));
+        verify(idempotencyRepository, never()).takeOverPending(anyString(), any(), any());
+    }
+
+    @Test
+    void execute_ShouldThrowIllegalArgumentException_WhenStoredKeyWouldBeTooLong() {
+        String principal = "p".repeat(200);
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("k".repeat(60), "tasks:create",
+                principal, "request", TaskResponse.class, () -> testTaskResponse));
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    void execute_ShouldThrowIllegalArgumentException_WhenKeyIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(" ", "tasks:create",
+                "admin", "request", TaskResponse.class, () -> testTaskResponse));
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
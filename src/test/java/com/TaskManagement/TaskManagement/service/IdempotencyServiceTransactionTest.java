@@ -0,0 +1,96 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.IdempotencyProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.repository.IdempotencyRepository;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// The operation and the stored response have to commit together, so the test runs without its own transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTransactionTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final AtomicBoolean failNextCompletion = new AtomicBoolean();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        jdbcTemplate.update("DELETE FROM tasks");
+
+        // The real repository, except that storing a response can be made to fail once
+        IdempotencyRepository repository = mock(IdempotencyRepository.class, delegatesTo(idempotencyRepository));
+        doAnswer(inv -> {
+            if (failNextCompletion.getAndSet(false)) {
+                throw new QueryTimeoutException("connection lost");
+            }
+            return idempotencyRepository.completePending(inv.getArgument(0), inv.<LocalDateTime>getArgument(1),
+                    inv.getArgument(2));
+        }).when(repository).completePending(anyString(), any(), anyString());
+        idempotencyService = new IdempotencyService(repository, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new IdempotencyProperties(), transactionManager, new SimpleMeterRegistry());
+    }
+
+    private TaskResponse createTask() {
+        Task task = new Task();
+        task.setTitle("Created once");
+        task.setPriority(Priority.MEDIUM);
+        Task saved = taskRepository.save(task);
+        return new TaskResponse(saved.getId(), saved.getTitle(), null, false, null, null, Priority.MEDIUM, null, null);
+    }
+
+    @Test
+    void execute_ShouldRollBackTheOperation_WhenItsResponseCannotBeStored() {
+        // Arrange
+        failNextCompletion.set(true);
+
+        // Act: the first attempt fails after inserting, the retry runs again, the third replays
+        assertThrows(QueryTimeoutException.class, () -> idempotencyService.execute("key-1", "tasks:create", "admin",
+                "request", TaskResponse.class, this::createTask));
+        long tasksAfterFailure = taskRepository.count();
+        TaskResponse retried = idempotencyService.execute("key-1", "tasks:create", "admin", "request",
+                TaskResponse.class, this::createTask);
+        TaskResponse replayed = idempotencyService.execute("key-1", "tasks:create", "admin", "request",
+                TaskResponse.class, () -> fail("Operation must not run for a completed key"));
+
+        // Assert
+        assertEquals(0, tasksAfterFailure);
+        assertEquals(1, taskRepository.count());
+        assertEquals(retried.getId(), replayed.getId());
+    }
+}
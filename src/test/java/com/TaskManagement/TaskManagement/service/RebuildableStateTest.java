@@ -0,0 +1,118 @@
+package com.TaskManagement.TaskManagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RebuildableStateTest {
+
+    // A set of ids whose load returns what the supplier gives, like a table read
+    private static final class Ids extends RebuildableState<Set<Long>> {
+
+        private volatile Supplier<Set<Long>> table;
+
+        private Ids(Supplier<Set<Long>> table) {
+            super("test ids");
+            this.table = table;
+        }
+
+        @Override
+        protected Loaded<Set<Long>> load() {
+            Set<Long> read = new TreeSet<>(table.get());
+            return new Loaded<>(read, read.size());
+        }
+
+        private void add(long id) {
+            apply(ids -> ids.add(id));
+        }
+
+        private void remove(long id) {
+            apply(ids -> ids.remove(id));
+        }
+
+        private Set<Long> ids() {
+            return read(ids -> ids == null ? null : Set.copyOf(ids));
+        }
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesAppliedWhileItReads() throws Exception {
+        // Arrange: the read sees 1 and 2, then 3 is added and 1 removed before it finishes
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        Ids state = new Ids(() -> Set.of(1L));
+        state.rebuild();
+        state.table = () -> {
+            reading.countDown();
+            await(changed);
+            return Set.of(1L, 2L);
+        };
+
+        // Act
+        CompletableFuture<Integer> rebuild = CompletableFuture.supplyAsync(state::rebuild);
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        state.add(3);
+        state.remove(1);
+        int concurrent = state.rebuild();
+        changed.countDown();
+
+        // Assert
+        assertEquals(-1, concurrent);
+        assertEquals(2, rebuild.get(5, TimeUnit.SECONDS));
+        assertEquals(Set.of(2L, 3L), state.ids());
+    }
+
+    @Test
+    void rebuild_ShouldKeepThePreviousState_WhenTheReadFails() {
+        // Arrange
+        Ids state = new Ids(() -> Set.of(1L));
+        state.rebuild();
+        state.table = () -> {
+            throw new IllegalStateException("connection refused");
+        };
+
+        // Act
+        int read = state.rebuild();
+        state.add(2);
+
+        // Assert: changes keep applying to the previous state
+        assertEquals(-1, read);
+        assertEquals(Set.of(1L, 2L), state.ids());
+    }
+
+    @Test
+    void awaitBuilt_ShouldBuildOnce_AndLeaveEarlierChangesToTheRead() {
+        // Arrange: a change before the first build has no state to go to; the table is what counts
+        int[] loads = {0};
+        Ids state = new Ids(() -> {
+            loads[0]++;
+            return Set.of(5L);
+        });
+        state.add(4);
+
+        // Act
+        Set<Long> first = state.awaitBuilt();
+        Set<Long> second = state.awaitBuilt();
+
+        // Assert
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, loads[0]);
+        assertEquals(Set.of(5L), state.ids());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
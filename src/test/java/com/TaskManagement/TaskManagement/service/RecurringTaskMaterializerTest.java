@@ -0,0 +1,189 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.RecurringProperties;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.TaskAssignedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.TaskTemplateRepository;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Materializer batches commit on their own, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecurringTaskMaterializerTest {
+
+    // A Monday
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTemplateRepository templateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Object> published = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private RecurringProperties properties;
+    private RecurringTaskMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM task_templates");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+
+        properties = new RecurringProperties();
+        properties.setHorizon(Duration.ofDays(7));
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        materializer = new RecurringTaskMaterializer(new NamedParameterJdbcTemplate(jdbcTemplate), transactionManager,
+                properties, published::add, meterRegistry);
+    }
+
+    private TaskTemplate saveTemplate(String title, String cron, LocalDateTime nextDueAt) {
+        return saveTemplate(title, cron, nextDueAt, null);
+    }
+
+    private TaskTemplate saveTemplate(String title, String cron, LocalDateTime nextDueAt, Long userId) {
+        TaskTemplate template = new TaskTemplate();
+        template.setUserId(userId);
+        template.setTitle(title);
+        template.setPriority(Priority.MEDIUM);
+        template.setCron(cron);
+        template.setNextDueAt(nextDueAt);
+        return templateRepository.save(template);
+    }
+
+    @Test
+    void materialize_CreatesOccurrencesWithinHorizon_AndAdvancesTemplates() {
+        // Arrange: daily at 9:00, weekly on Monday at 9:00, and one that is not due yet
+        TaskTemplate daily = saveTemplate("Daily", "0 0 9 * * *", NOW.plusDays(1).withHour(9));
+        TaskTemplate weekly = saveTemplate("Weekly", "0 0 9 * * MON", NOW.plusDays(7).withHour(9));
+        TaskTemplate later = saveTemplate("Later", "0 0 9 * * MON", NOW.plusDays(14).withHour(9));
+
+        // Act
+        int created = materializer.materialize(NOW);
+
+        // Assert: days 1..7 at 9:00 fall within seven days of Monday noon
+        assertEquals(7 + 1, created);
+        assertEquals(8.0, meterRegistry.get("tasks.materialized").counter().count());
+        List<Task> tasks = taskRepository.findAll(Sort.by("dueDate", "id"));
+        assertEquals(NOW.plusDays(1).withHour(9), tasks.get(0).getDueDate());
+        assertEquals(7, tasks.stream().filter(task -> daily.getId().equals(task.getTemplateId())).count());
+        assertEquals(weekly.getId(), tasks.get(7).getTemplateId());
+        assertFalse(tasks.get(7).isCompleted());
+        assertEquals(NOW.plusDays(8).withHour(9), templateRepository.findById(daily.getId()).orElseThrow().getNextDueAt());
+        assertEquals(NOW.plusDays(14).withHour(9), templateRepository.findById(weekly.getId()).orElseThrow().getNextDueAt());
+        assertEquals(NOW.plusDays(14).withHour(9), templateRepository.findById(later.getId()).orElseThrow().getNextDueAt());
+    }
+
+    @Test
+    void materialize_IsIdempotent_WhenRunAgainOrRewound() {
+        // Arrange
+        TaskTemplate template = saveTemplate("Daily", "0 0 9 * * *", NOW.plusDays(1).withHour(9));
+        materializer.materialize(NOW);
+
+        // Act
+        int again = materializer.materialize(NOW);
+        jdbcTemplate.update("UPDATE task_templates SET next_due_at = ? WHERE id = ?",
+                NOW.plusDays(1).withHour(9), template.getId());
+        int rewound = materializer.materialize(NOW);
+        int nextDay = materializer.materialize(NOW.plusDays(1));
+
+        // Assert
+        assertEquals(0, again);
+        assertEquals(0, rewound);
+        assertEquals(1, nextDay);
+        assertEquals(8, taskRepository.count());
+    }
+
+    @Test
+    void materialize_CapsOccurrencesPerBatch_AndFinishesInLaterBatches() {
+        // Arrange: hourly over a week is 168 occurrences, at most 50 per batch
+        properties.setMaxOccurrencesPerBatch(50);
+        TaskTemplate hourly = saveTemplate("Hourly", "0 0 * * * *", NOW.plusHours(1));
+
+        // Act
+        int created = materializer.materialize(NOW);
+
+        // Assert
+        assertEquals(168, created);
+        assertEquals(168, taskRepository.count());
+        assertEquals(NOW.plusDays(7).plusHours(1),
+                templateRepository.findById(hourly.getId()).orElseThrow().getNextDueAt());
+    }
+
+    @Test
+    void materialize_PublishesEachCreatedTask_AndAssignmentsToTheAssignee() {
+        // Arrange: a weekly template for alice, and a daily one whose first occurrence already exists
+        User alice = new User();
+        alice.setUsername("alice");
+        alice.setEmail("alice@example.com");
+        alice.setPassword("hashed-password");
+        alice.setRole(Role.USER);
+        alice = userRepository.save(alice);
+        saveTemplate("Weekly", "0 0 9 * * MON", NOW.plusDays(7).withHour(9), alice.getId());
+        TaskTemplate daily = saveTemplate("Daily", "0 0 9 * * *", NOW.plusDays(6).withHour(9));
+        Task existing = new Task();
+        existing.setTitle("Daily");
+        existing.setPriority(Priority.MEDIUM);
+        existing.setDueDate(NOW.plusDays(6).withHour(9));
+        existing.setTemplateId(daily.getId());
+        taskRepository.save(existing);
+
+        // Act
+        int created = materializer.materialize(NOW);
+
+        // Assert: only the inserted tasks are published, as created by the system
+        assertEquals(2, created);
+        List<TaskChangedEvent> changes = published.stream()
+                .filter(TaskChangedEvent.class::isInstance).map(TaskChangedEvent.class::cast).toList();
+        assertEquals(2, changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.getAction() == AuditAction.CREATED
+                && !existing.getId().equals(change.getTaskId())
+                && "system".equals(change.getAudit().getActor())));
+        TaskChangedEvent weeklyTask = changes.stream()
+                .filter(change -> "Weekly".equals(change.getTitle())).findFirst().orElseThrow();
+        assertEquals(alice.getId(), weeklyTask.getUserId());
+        assertEquals(NOW.plusDays(7).withHour(9), weeklyTask.getDueDate());
+
+        List<TaskAssignedEvent> assignments = published.stream()
+                .filter(TaskAssignedEvent.class::isInstance).map(TaskAssignedEvent.class::cast).toList();
+        assertEquals(1, assignments.size());
+        assertEquals(weeklyTask.getTaskId(), assignments.get(0).getTaskId());
+        assertEquals("alice@example.com", assignments.get(0).getUserEmail());
+    }
+}
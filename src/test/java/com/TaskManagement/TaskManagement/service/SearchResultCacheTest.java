@@ -0,0 +1,132 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.SearchCacheProperties;
+import com.TaskManagement.TaskManagement.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchResultCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 2, Sort.by("dueDate"));
+
+    private SearchCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SearchCacheProperties();
+        properties.setMaxEntries(2);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(properties, meterRegistry);
+    }
+
+    private static PageImpl<Task> page(long... ids) {
+        List<Task> tasks = new ArrayList<>();
+        for (long id : ids) {
+            Task task = new Task();
+            task.setId(id);
+            tasks.add(task);
+        }
+        return new PageImpl<>(tasks, FIRST_PAGE, 7);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("search.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void get_ShouldReturnIdsAndTotal_ForSameQueryInAnyCase() {
+        // Arrange
+        cache.put("Report", FIRST_PAGE, cache.generation(), page(3, 1));
+
+        // Act
+        SearchResultCache.CachedSearch cached = cache.get("rEPORT", FIRST_PAGE);
+
+        // Assert
+        assertNotNull(cached);
+        assertEquals(List.of(3L, 1L), cached.getIds());
+        assertEquals(7, cached.getTotal());
+        assertEquals(1, requests("hit"));
+        assertTrue(meterRegistry.get("search.cache.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void get_ShouldMiss_ForOtherPageOrSort() {
+        // Arrange
+        cache.put("report", FIRST_PAGE, cache.generation(), page(3, 1));
+
+        // Act & Assert
+        assertNull(cache.get("report", PageRequest.of(1, 2, Sort.by("dueDate"))));
+        assertNull(cache.get("report", PageRequest.of(0, 2, Sort.by("title"))));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    void invalidate_ShouldDropEveryEntry() {
+        // Arrange
+        cache.put("report", FIRST_PAGE, cache.generation(), page(3, 1));
+
+        // Act
+        cache.invalidate();
+
+        // Assert
+        assertNull(cache.get("report", FIRST_PAGE));
+    }
+
+    @Test
+    void put_ShouldStoreStaleEntry_WhenMutationCommittedDuringSearch() {
+        // Arrange
+        long generation = cache.generation();
+        cache.invalidate();
+
+        // Act
+        cache.put("report", FIRST_PAGE, generation, page(3, 1));
+
+        // Assert
+        assertNull(cache.get("report", FIRST_PAGE));
+    }
+
+    @Test
+    void get_ShouldMiss_WhenEntryIsOlderThanTtl() {
+        // Arrange
+        Instant start = Instant.parse("2026-01-01T10:00:00Z");
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(start, start.plus(properties.getTtl()).plusSeconds(1));
+        SearchResultCache expiring = new SearchResultCache(properties, new SimpleMeterRegistry(), clock);
+        expiring.put("report", FIRST_PAGE, expiring.generation(), page(3, 1));
+
+        // Act & Assert
+        assertNull(expiring.get("report", FIRST_PAGE));
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        // Arrange
+        cache.put("a", FIRST_PAGE, cache.generation(), page(1));
+        cache.put("b", FIRST_PAGE, cache.generation(), page(2));
+        cache.get("a", FIRST_PAGE);
+
+        // Act
+        cache.put("c", FIRST_PAGE, cache.generation(), page(3));
+
+        // Assert
+        assertNotNull(cache.get("a", FIRST_PAGE));
+        assertNull(cache.get("b", FIRST_PAGE));
+        assertEquals(2.0, meterRegistry.get("search.cache.size").gauge().value());
+    }
+}
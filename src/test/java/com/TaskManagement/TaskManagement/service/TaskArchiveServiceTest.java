@@ -0,0 +1,153 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.ArchiveProperties;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskView;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.TaskViewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Archive batches commit on their own, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    private final List<Object> published = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TaskArchiveService archiveService;
+    private final LocalDateTime now = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM task_dependencies");
+        jdbcTemplate.update("DELETE FROM tasks_archive");
+        jdbcTemplate.update("DELETE FROM tasks");
+
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setArchiveAfter(Duration.ofDays(30));
+        properties.setPurgeAfter(Duration.ofHours(24));
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        archiveService = new TaskArchiveService(new NamedParameterJdbcTemplate(jdbcTemplate), transactionManager,
+                properties, published::add, meterRegistry);
+    }
+
+    @Test
+    void archiveCompleted_MovesOldCompletedTasks_AndViewStillListsThem() {
+        // Arrange
+        Long oldDone = completedTask("Old done", now.minusDays(45));
+        completedTask("Old done 2", now.minusDays(40));
+        completedTask("Old done 3", now.minusDays(31));
+        Long recentDone = completedTask("Recent done", now.minusDays(2));
+        Long open = taskRepository.save(task("Open")).getId();
+
+        // Act
+        int archived = archiveService.archiveCompleted(now);
+
+        // Assert
+        assertEquals(3, archived);
+        assertEquals(3.0, meterRegistry.get("tasks.archived").counter().count());
+        assertEquals(List.of(recentDone, open), taskRepository.findAll(Sort.by("id")).stream().map(Task::getId).toList());
+
+        List<TaskView> all = taskViewRepository.findAll(Sort.by("id"));
+        assertEquals(5, all.size());
+        assertTrue(all.get(0).isArchived());
+        assertEquals(oldDone, all.get(0).getId());
+        assertFalse(all.get(3).isArchived());
+    }
+
+    @Test
+    void archiveCompleted_ShouldDeleteTheEdgesOfArchivedTasks_AndPublishThemAsRemoved() {
+        // Arrange: open waits for old, recent waits for open
+        Long old = completedTask("Old done", now.minusDays(45));
+        Long recent = completedTask("Recent done", now.minusDays(2));
+        Long open = taskRepository.save(task("Open")).getId();
+        addEdge(old, open);
+        addEdge(open, recent);
+
+        // Act
+        archiveService.archiveCompleted(now);
+
+        // Assert
+        assertEquals(List.of(open), jdbcTemplate.queryForList("SELECT blocker_id FROM task_dependencies", Long.class));
+        assertEquals(1, published.size());
+        TaskChangedEvent event = (TaskChangedEvent) published.get(0);
+        assertEquals(old, event.getTaskId());
+        assertEquals("Old done", event.getOldTitle());
+        assertTrue(event.isDeleted());
+        assertTrue(event.isArchived());
+        assertEquals("archivedAt", event.getAudit().getChanges().get(0).getField());
+    }
+
+    @Test
+    void deleteById_HidesTask_UntilPurgeRemovesIt() {
+        // Arrange
+        Long id = taskRepository.save(task("To delete")).getId();
+
+        // Act
+        taskRepository.deleteById(id);
+
+        // Assert
+        assertTrue(taskRepository.findById(id).isEmpty());
+        assertEquals(1, count("SELECT COUNT(*) FROM tasks WHERE deleted_at IS NOT NULL"));
+        assertEquals(0, taskViewRepository.count());
+
+        assertEquals(0, archiveService.purgeDeleted(LocalDateTime.now()));
+        assertEquals(1, archiveService.purgeDeleted(LocalDateTime.now().plusDays(2)));
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks"));
+    }
+
+    private Long completedTask(String title, LocalDateTime completedAt) {
+        Long id = taskRepository.save(task(title)).getId();
+        jdbcTemplate.update("UPDATE tasks SET completed = TRUE, completed_at = ? WHERE id = ?", completedAt, id);
+        return id;
+    }
+
+    private void addEdge(Long blocker, Long blocked) {
+        jdbcTemplate.update("INSERT INTO task_dependencies (blocker_id, blocked_id, created_at) VALUES (?, ?, ?)",
+                blocker, blocked, now);
+    }
+
+    private Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setPriority(Priority.MEDIUM);
+        task.setDueDate(now.plusDays(1));
+        return task;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
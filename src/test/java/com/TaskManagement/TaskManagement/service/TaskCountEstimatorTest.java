@@ -0,0 +1,164 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.PaginationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCountEstimatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MutableClock clock;
+    private TaskCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        PaginationProperties properties = new PaginationProperties();
+        properties.setCountRefreshAfter(Duration.ofMinutes(1));
+        properties.setCountTtl(Duration.ofMinutes(10));
+        properties.setCountCacheSize(2);
+        clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+        estimator = new TaskCountEstimator(jdbcTemplate, properties, new SyncTaskExecutor(), clock);
+    }
+
+    @Test
+    void estimate_ShouldCountOnce_WhileCachedCountIsFresh() {
+        // Arrange
+        AtomicLong counts = new AtomicLong();
+
+        // Act
+        long first = estimator.estimate("completed:true", () -> 40 + counts.incrementAndGet());
+        long second = estimator.estimate("completed:true", () -> 40 + counts.incrementAndGet());
+
+        // Assert
+        assertEquals(41, first);
+        assertEquals(41, second);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void estimate_ShouldRecount_WhenCachedCountIsOlderThanRefreshAge() {
+        // Arrange
+        estimator.estimate("completed:true", () -> 41);
+        clock.advance(Duration.ofMinutes(2));
+
+        // Act
+        long stale = estimator.estimate("completed:true", () -> 57);
+        long refreshed = estimator.estimate("completed:true", () -> 99);
+
+        // Assert
+        assertEquals(41, stale, "The stale value is served while the recount runs");
+        assertEquals(57, refreshed);
+    }
+
+    @Test
+    void estimate_ShouldEvictLeastRecentlyUsedCount_WhenCacheIsFull() {
+        // Arrange: LOW is used again after MEDIUM, so MEDIUM is the least recently used
+        estimator.estimate("priority:LOW", () -> 1);
+        estimator.estimate("priority:MEDIUM", () -> 2);
+        estimator.estimate("priority:LOW", () -> fail("LOW is cached"));
+
+        // Act
+        long high = estimator.estimate("priority:HIGH", () -> 3);
+        long low = estimator.estimate("priority:LOW", () -> fail("LOW is still cached"));
+        long medium = estimator.estimate("priority:MEDIUM", () -> 20);
+
+        // Assert
+        assertEquals(3, high);
+        assertEquals(1, low);
+        assertEquals(20, medium, "MEDIUM was evicted and counted again");
+    }
+
+    @Test
+    void estimate_ShouldCountOnRequest_WhenCachedCountIsOlderThanTtl() {
+        // Arrange
+        estimator.estimate("completed:true", () -> 41);
+        clock.advance(Duration.ofMinutes(11));
+
+        // Act
+        long count = estimator.estimate("completed:true", () -> 57);
+
+        // Assert
+        assertEquals(57, count, "An expired count is not served while it is recounted");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void estimateTables_ShouldSumPartitionStatistics_OnPostgres() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(Double.class), eq("tasks"), eq("tasks")))
+                .thenReturn(List.of(-1.0, 1200.0, 34.0));
+
+        // Act
+        long estimate = estimator.estimateTables("all", () -> fail("Statistics are available"), "tasks");
+
+        // Assert
+        assertEquals(1234, estimate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void estimateTables_ShouldUseCachedCount_WhenTableWasNeverAnalyzed() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(Double.class), eq("tasks"), eq("tasks")))
+                .thenReturn(List.of(-1.0));
+
+        // Act
+        long estimate = estimator.estimateTables("all", () -> 7, "tasks");
+
+        // Assert
+        assertEquals(7, estimate);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
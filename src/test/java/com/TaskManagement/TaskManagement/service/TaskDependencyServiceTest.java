@@ -0,0 +1,145 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.DependencyProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.exception.DependencyCycleException;
+import com.TaskManagement.TaskManagement.mapper.TaskMapper;
+import com.TaskManagement.TaskManagement.repository.TaskDependencyRepository;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Edges count in the graph before they commit, so the test drives its own transactions to see rollbacks
+@DataJpaTest
+@Import({TaskDependencyService.class, TaskMapper.class, TaskDependencyServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskDependencyServiceTest {
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        DependencyGraph dependencyGraph(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            return new DependencyGraph(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+        }
+
+        @Bean
+        DependencyProperties dependencyProperties() {
+            return new DependencyProperties();
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    @Autowired
+    private DependencyGraph dependencyGraph;
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM task_dependencies");
+        jdbcTemplate.update("DELETE FROM tasks");
+        dependencyGraph.rebuild();
+    }
+
+    private Task saveTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setPriority(Priority.MEDIUM);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    void addBlocker_ShouldRejectACycle_AndLeaveTheEdgesAsTheyWere() {
+        // Arrange: write waits for plan
+        Long plan = saveTask("Plan").getId();
+        Long write = saveTask("Write").getId();
+        taskDependencyService.addBlocker(write, plan);
+
+        // Act & Assert
+        assertThrows(DependencyCycleException.class, () -> taskDependencyService.addBlocker(plan, write));
+        assertEquals(1, dependencyRepository.count());
+        assertEquals(List.of(), taskDependencyService.findBlockers(plan, true));
+        assertEquals(List.of(plan), taskDependencyService.findBlockers(write, true));
+    }
+
+    @Test
+    void addBlocker_ShouldDropTheEdgeFromTheGraph_WhenTheTransactionRollsBack() {
+        // Arrange
+        Long plan = saveTask("Plan").getId();
+        Long write = saveTask("Write").getId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act: the edge counts in the graph while the transaction runs, then it rolls back
+        List<Long> blockersBeforeRollback = transaction.execute(status -> {
+            taskDependencyService.addBlocker(write, plan);
+            status.setRollbackOnly();
+            return taskDependencyService.findBlockers(write, false);
+        });
+
+        // Assert: the reverse edge no longer closes a cycle
+        assertEquals(List.of(plan), blockersBeforeRollback);
+        assertEquals(0, dependencyRepository.count());
+        assertEquals(List.of(), taskDependencyService.findBlockers(write, false));
+        assertDoesNotThrow(() -> taskDependencyService.addBlocker(plan, write));
+    }
+
+    @Test
+    void deletingATask_ShouldRemoveItsEdges_AndReleaseWhatItBlocked() {
+        // Arrange: plan -> write -> review, and review also waits for plan
+        Long plan = saveTask("Plan").getId();
+        Task write = saveTask("Write");
+        Long review = saveTask("Review").getId();
+        taskDependencyService.addBlocker(write.getId(), plan);
+        taskDependencyService.addBlocker(review, write.getId());
+        taskDependencyService.addBlocker(review, plan);
+
+        // Act: delete write the way TaskService does
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskRepository.deleteById(write.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.of(write, AuditAction.DELETED, Map.of()));
+        });
+
+        // Assert
+        assertEquals(1, dependencyRepository.count());
+        assertEquals(List.of(plan), taskDependencyService.findBlockers(review, true));
+        assertEquals(List.of(plan),
+                taskDependencyService.findReady(10).stream().map(TaskResponse::getId).toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.SearchCacheProperties;
+import com.TaskManagement.TaskManagement.config.UserDeletionProperties;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Batches commit on their own, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskReassignmentServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskReassignmentService reassignmentService;
+    private Long leaving;
+    private Long heir;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+
+        UserDeletionProperties properties = new UserDeletionProperties();
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        reassignmentService = new TaskReassignmentService(new NamedParameterJdbcTemplate(jdbcTemplate),
+                transactionManager, properties, new SearchResultCache(new SearchCacheProperties(), meterRegistry),
+                meterRegistry);
+
+        leaving = saveUser("leaving");
+        heir = saveUser("heir");
+    }
+
+    private Long saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("hashed-password");
+        return userRepository.save(user).getId();
+    }
+
+    private Long saveTask(Long userId) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setPriority(Priority.MEDIUM);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        task.setUser(userRepository.getReferenceById(userId));
+        return taskRepository.save(task).getId();
+    }
+
+    private int countAssignedTo(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_id = ?", Integer.class, userId);
+    }
+
+    @Test
+    void reassignAll_ShouldMoveEveryTaskInBatches_AndRunLastStepOnce() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            saveTask(leaving);
+        }
+        taskRepository.deleteById(saveTask(leaving));
+        AtomicInteger lastSteps = new AtomicInteger();
+        boolean[] inTransaction = {false};
+
+        // Act
+        int moved = reassignmentService.reassignAll(leaving, heir, () -> {
+            lastSteps.incrementAndGet();
+            inTransaction[0] = TransactionSynchronizationManager.isActualTransactionActive();
+        });
+
+        // Assert
+        assertEquals(6, moved);
+        assertEquals(0, countAssignedTo(leaving));
+        assertEquals(6, countAssignedTo(heir));
+        assertEquals(1, lastSteps.get());
+        assertTrue(inTransaction[0]);
+        assertEquals(6.0, meterRegistry.get("tasks.reassigned").counter().count());
+    }
+
+    @Test
+    void reassignAll_ShouldUnassign_AndAllowDeletingTheUser() {
+        // Arrange
+        saveTask(leaving);
+        saveTask(leaving);
+        Long untouched = saveTask(heir);
+
+        // Act
+        int moved = reassignmentService.reassignAll(leaving, null,
+                () -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", leaving));
+
+        // Assert
+        assertEquals(2, moved);
+        assertFalse(userRepository.existsById(leaving));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_id IS NULL", Integer.class));
+        assertEquals(heir, jdbcTemplate.queryForObject("SELECT user_id FROM tasks WHERE id = ?", Long.class, untouched));
+    }
+}
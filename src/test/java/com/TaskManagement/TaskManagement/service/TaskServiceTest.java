@@ -1,30 +1,52 @@
 package com.TaskManagement.TaskManagement.service;
 
+import com.TaskManagement.TaskManagement.config.NextTasksProperties;
+import com.TaskManagement.TaskManagement.config.SuggestProperties;
+import com.TaskManagement.TaskManagement.config.WorkloadProperties;
+import com.TaskManagement.TaskManagement.dto.request.CountStrategy;
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
+import com.TaskManagement.TaskManagement.dto.request.TaskField;
+import com.TaskManagement.TaskManagement.dto.request.TaskListOptions;
+import com.TaskManagement.TaskManagement.dto.request.TaskQueryRequest;
 import com.TaskManagement.TaskManagement.dto.request.TaskRequest;
+import com.TaskManagement.TaskManagement.dto.response.AuditEntryResponse;
+import com.TaskManagement.TaskManagement.dto.response.BacklogAssignmentResponse;
 import com.TaskManagement.TaskManagement.dto.response.TaskResponse;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.AuditEntityType;
 import com.TaskManagement.TaskManagement.entity.Priority;
 import com.TaskManagement.TaskManagement.entity.Role;
 import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.TaskView;
 import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.EntityChangedEvent;
 import com.TaskManagement.TaskManagement.event.TaskAssignedEvent;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
 import com.TaskManagement.TaskManagement.mapper.TaskMapper;
 import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.TaskViewRepository;
 import com.TaskManagement.TaskManagement.repository.UserRepository;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +57,29 @@ public class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private TaskViewRepository taskViewRepository;
+    @Mock
     private TaskMapper taskMapper;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AuditService auditService;
+    @Mock
+    private TaskCountEstimator countEstimator;
+    @Mock
+    private SearchResultCache searchResultCache;
+    @Mock
+    private TitlePrefixIndex titlePrefixIndex;
+    @Mock
+    private SuggestProperties suggestProperties;
+    @Mock
+    private WorkloadTracker workloadTracker;
+    @Mock
+    private WorkloadProperties workloadProperties;
+    @Mock
+    private NextTasksProperties nextTasksProperties;
+    @Mock
+    private UserKeyIndex userKeyIndex;
 
     @InjectMocks
     private TaskService taskService;
@@ -69,12 +111,20 @@ public class TaskServiceTest {
         testTaskRequest.setDueDate(testDueDate);
         testTaskRequest.setPriority(Priority.MEDIUM);
 
-        testTaskResponse = new TaskResponse();
-        testTaskResponse.setId(10L);
-        testTaskResponse.setTitle("New Task");
+        testTaskResponse = new TaskResponse(10L, "New Task", null, false, null, null, null, null, null);
         // AssignedUserResponseDTO setup would happen in TaskMapper mock
     }
 
+    // Task changes published so far, in order
+    private List<TaskChangedEvent> publishedChanges() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues().stream()
+                .filter(TaskChangedEvent.class::isInstance)
+                .map(TaskChangedEvent.class::cast)
+                .toList();
+    }
+
     // -- SAVE METHOD TESTS --
 
     @Test
@@ -117,7 +167,8 @@ public class TaskServiceTest {
         verify(userRepository, never()).findById(anyLong());
         verify(taskRepository, times(1)).save(testTask);
         assertNull(testTask.getUser());
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskAssignedEvent.class));
+        assertEquals(AuditAction.CREATED, publishedChanges().get(0).getAction());
     }
 
     @Test
@@ -188,6 +239,45 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).save(testTask);
     }
 
+    @Test
+    void markAsCompleted_ShouldRecordOnlyTheChangedField() {
+        // Arrange
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(testTask));
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        taskService.markAsCompleted(10L, true);
+
+        // Assert
+        EntityChangedEvent event = publishedChanges().get(0).getAudit();
+        assertEquals(AuditEntityType.TASK, event.getEntityType());
+        assertEquals(10L, event.getEntityId());
+        assertEquals(AuditAction.UPDATED, event.getAction());
+        assertEquals(1, event.getChanges().size());
+        assertEquals("completed", event.getChanges().get(0).getField());
+        assertEquals("false", event.getChanges().get(0).getOldValue());
+        assertEquals("true", event.getChanges().get(0).getNewValue());
+    }
+
+    @Test
+    void findHistory_ShouldThrowNotFound_OnlyWhenTaskNeverExisted() {
+        // Arrange: 10 is deleted but has history, 11 is live without history, 12 never existed
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.DESC);
+        Page<AuditEntryResponse> deleted = new PageImpl<>(List.of(new AuditEntryResponse(1L, AuditAction.DELETED,
+                "title", "Old", null, "leader", LocalDateTime.now())), PageRequest.of(0, 10), 1);
+        when(auditService.findHistory(AuditEntityType.TASK, 10L, request)).thenReturn(deleted);
+        when(auditService.findHistory(AuditEntityType.TASK, 11L, request)).thenReturn(Page.empty());
+        when(auditService.findHistory(AuditEntityType.TASK, 12L, request)).thenReturn(Page.empty());
+        when(taskViewRepository.existsById(11L)).thenReturn(true);
+        when(taskViewRepository.existsById(12L)).thenReturn(false);
+
+        // Act & Assert
+        assertEquals(1, taskService.findHistory(10L, request).getTotalElements());
+        assertEquals(0, taskService.findHistory(11L, request).getTotalElements());
+        assertThrows(NoSuchElementException.class, () -> taskService.findHistory(12L, request));
+        verify(taskViewRepository, never()).existsById(10L);
+    }
+
     // --- ASSIGN / UNASSIGN TESTS ---
 
     @Test
@@ -224,6 +314,164 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).save(testTask);
     }
 
+    @Test
+    void autoAssign_ShouldAssignToLeastLoadedUser() {
+        // Arrange
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(testTask));
+        when(workloadTracker.reserveLeastLoaded(testTask)).thenReturn(Optional.of(1L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(taskRepository.save(testTask)).thenReturn(testTask);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        taskService.autoAssign(10L);
+
+        // Assert
+        assertEquals(testUser, testTask.getUser());
+        assertEquals(1L, publishedChanges().get(0).getUserId());
+        verify(eventPublisher).publishEvent(any(TaskAssignedEvent.class));
+    }
+
+    @Test
+    void autoAssign_ShouldThrow_WhenNoUserIsEligible() {
+        // Arrange
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(testTask));
+        when(workloadTracker.reserveLeastLoaded(testTask)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> taskService.autoAssign(10L));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void autoAssignBacklog_ShouldAssignHighPriorityFirst_WithoutLoadingUserTasks() {
+        // Arrange
+        Task low = new Task();
+        low.setId(11L);
+        low.setTitle("Low");
+        low.setPriority(Priority.LOW);
+        User other = new User();
+        other.setId(2L);
+        other.setUsername("other");
+
+        when(workloadProperties.getMaxBacklogBatch()).thenReturn(500);
+        when(taskRepository.findUnassignedOpen(PageRequest.of(0, 10))).thenReturn(List.of(low, testTask));
+        when(workloadTracker.reserveLeastLoaded(testTask)).thenReturn(Optional.of(1L));
+        when(workloadTracker.reserveLeastLoaded(low)).thenReturn(Optional.of(2L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(other));
+        when(taskRepository.countByUserIsNullAndCompletedFalse()).thenReturn(3L);
+
+        // Act
+        BacklogAssignmentResponse result = taskService.autoAssignBacklog(10);
+
+        // Assert
+        assertEquals(2, result.getAssigned());
+        assertEquals(3L, result.getRemaining());
+        assertEquals(List.of(1L, 2L), new ArrayList<>(result.getAssignedPerUser().keySet()));
+        assertEquals(testUser, testTask.getUser());
+        assertEquals(other, low.getUser());
+        assertTrue(testUser.getTasks().isEmpty());
+        verify(eventPublisher, times(2)).publishEvent(any(TaskAssignedEvent.class));
+        assertEquals(List.of(10L, 11L), publishedChanges().stream().map(TaskChangedEvent::getTaskId).toList());
+    }
+
+    @Test
+    void autoAssignBacklog_ShouldRejectLimitAboveMaximum() {
+        // Arrange
+        when(workloadProperties.getMaxBacklogBatch()).thenReturn(500);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.autoAssignBacklog(501));
+    }
+
+    // --- NEXT TASKS TESTS ---
+
+    private Task openTask(long id, Priority priority, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        return task;
+    }
+
+    private void stubResponseList() {
+        when(taskMapper.toResponseList(anyList())).thenAnswer(invocation -> invocation.<List<Task>>getArgument(0)
+                .stream()
+                .map(task -> new TaskResponse(task.getId(), null, null, false, null, null, null, null, null))
+                .toList());
+    }
+
+    @Test
+    void findNext_ShouldRankByDueDateShiftedByPriority() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2026, 6, 1, 12, 0);
+        Task lowTomorrow = openTask(1L, Priority.LOW, now.plusDays(1));
+        Task highInFiveDays = openTask(2L, Priority.HIGH, now.plusDays(5));
+        Task mediumInTwoDays = openTask(3L, Priority.MEDIUM, now.plusDays(2));
+        Task lowNextMonth = new Task();
+        lowNextMonth.setId(4L);
+        lowNextMonth.setPriority(Priority.LOW);
+        lowNextMonth.setDueDate(now.plusDays(30));
+
+        when(nextTasksProperties.getMaxLimit()).thenReturn(50);
+        when(nextTasksProperties.getPriorityLead()).thenReturn(new NextTasksProperties().getPriorityLead());
+        when(userKeyIndex.isReady()).thenReturn(true);
+        when(userKeyIndex.findIdByUsername("testuser")).thenReturn(1L);
+        when(taskRepository.findOpenByUserAndPriority(1L, Priority.LOW, PageRequest.of(0, 3)))
+                .thenReturn(List.of(lowTomorrow, lowNextMonth));
+        when(taskRepository.findOpenByUserAndPriority(1L, Priority.MEDIUM, PageRequest.of(0, 3)))
+                .thenReturn(List.of(mediumInTwoDays));
+        when(taskRepository.findOpenByUserAndPriority(1L, Priority.HIGH, PageRequest.of(0, 3)))
+                .thenReturn(List.of(highInFiveDays));
+        stubResponseList();
+
+        // Act
+        List<TaskResponse> result = taskService.findNext("testuser", 3);
+
+        // Assert
+        assertEquals(List.of(3L, 1L, 2L), result.stream().map(TaskResponse::getId).toList());
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(taskRepository, never()).findOpenUndatedByUserAndPriority(anyLong(), any(), any());
+    }
+
+    @Test
+    void findNext_ShouldFillWithUndatedTasks_HighestPriorityFirst() {
+        // Arrange: one dated task, then undated ones; LOW is never read because the limit is reached
+        Task dated = openTask(1L, Priority.LOW, LocalDateTime.of(2026, 6, 2, 9, 0));
+        Task undatedHigh = openTask(2L, Priority.HIGH, null);
+        Task undatedMedium = openTask(3L, Priority.MEDIUM, null);
+
+        when(nextTasksProperties.getMaxLimit()).thenReturn(50);
+        when(userKeyIndex.isReady()).thenReturn(true);
+        when(userKeyIndex.findIdByUsername("testuser")).thenReturn(1L);
+        when(taskRepository.findOpenByUserAndPriority(eq(1L), any(Priority.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of());
+        when(taskRepository.findOpenByUserAndPriority(1L, Priority.LOW, PageRequest.of(0, 3)))
+                .thenReturn(List.of(dated));
+        when(taskRepository.findOpenUndatedByUserAndPriority(1L, Priority.HIGH, PageRequest.of(0, 2)))
+                .thenReturn(List.of(undatedHigh));
+        when(taskRepository.findOpenUndatedByUserAndPriority(1L, Priority.MEDIUM, PageRequest.of(0, 1)))
+                .thenReturn(List.of(undatedMedium));
+        stubResponseList();
+
+        // Act
+        List<TaskResponse> result = taskService.findNext("testuser", 3);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(TaskResponse::getId).toList());
+        verify(taskRepository, never()).findOpenUndatedByUserAndPriority(anyLong(), eq(Priority.LOW), any());
+    }
+
+    @Test
+    void findNext_ShouldRejectLimitAboveMaximum() {
+        // Arrange
+        when(nextTasksProperties.getMaxLimit()).thenReturn(50);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.findNext("testuser", 51));
+    }
+
     // --- PAGINATION / DEFENSIVE TESTS ---
 
     // TaskServiceTest.java (Corrected Test Method)
@@ -241,7 +489,7 @@ public class TaskServiceTest {
         // --- Act & Assert ---
 
         assertThrows(IllegalArgumentException.class,
-                () -> taskService.findAll(mockRequest),
+                () -> taskService.findAll(mockRequest, null),
                 "The service should intercept the oversized Pageable and throw an IllegalArgumentException.");
 
         verify(taskRepository, never()).findAll(any(Pageable.class));
@@ -257,15 +505,287 @@ public class TaskServiceTest {
         Page<Task> taskPage = new PageImpl<>(taskList, pageable, 1);
 
         when(taskRepository.searchByTitleOrDescriptionContainingIgnoreCase(eq("test"), eq(pageable))).thenReturn(taskPage);
-        when(taskMapper.toResponseDTO(any(Task.class))).thenReturn(testTaskResponse);
+        when(taskMapper.toResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), pageable, 1));
 
         // Act
-        Page<TaskResponse> result = taskService.search("test", request);
+        Page<TaskResponse> result = taskService.search("test", request, null);
 
         // Assert
         assertFalse(result.isEmpty());
         verify(taskRepository, times(1)).searchByTitleOrDescriptionContainingIgnoreCase(eq("test"), eq(pageable));
     }
+    @Test
+    void search_ShouldLoadCachedIdsInOrder_WhenSearchIsCached() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "dueDate", Sort.Direction.ASC);
+        Task other = new Task();
+        other.setId(11L);
+        SearchResultCache.CachedSearch cached = mock(SearchResultCache.CachedSearch.class);
+        when(cached.getIds()).thenReturn(List.of(11L, 10L));
+        when(cached.getTotal()).thenReturn(25L);
+        when(searchResultCache.get("test", request.toPageable())).thenReturn(cached);
+        when(taskRepository.findAllWithUserByIdIn(List.of(11L, 10L))).thenReturn(List.of(testTask, other));
+        when(taskMapper.toResponseList(List.of(other, testTask))).thenReturn(List.of(
+                new TaskResponse(other.getId(), null, null, false, null, null, null, null, null), testTaskResponse));
+
+        // Act
+        Page<TaskResponse> result = taskService.search("test", request, null);
+
+        // Assert
+        assertEquals(25, result.getTotalElements());
+        assertEquals(2, result.getContent().size());
+        verify(taskRepository, never()).searchByTitleOrDescriptionContainingIgnoreCase(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void suggest_ShouldUseIndex_WhenItIsBuilt() {
+        // Arrange
+        List<TaskSuggestionResponse> suggestions = List.of(new TaskSuggestionResponse(10L, "Initial Task"));
+        when(suggestProperties.getMaxLimit()).thenReturn(50);
+        when(titlePrefixIndex.isReady()).thenReturn(true);
+        when(titlePrefixIndex.suggest("init", 5)).thenReturn(suggestions);
+
+        // Act
+        List<TaskSuggestionResponse> result = taskService.suggest("Init", 5);
+
+        // Assert
+        assertSame(suggestions, result);
+        verify(taskRepository, never()).suggestByTitlePrefix(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void suggest_ShouldQueryDatabaseWithEscapedPrefix_UntilIndexIsBuilt() {
+        // Arrange
+        when(suggestProperties.getMaxLimit()).thenReturn(50);
+        when(titlePrefixIndex.isReady()).thenReturn(false);
+
+        // Act
+        taskService.suggest("100%_", 5);
+
+        // Assert
+        verify(taskRepository).suggestByTitlePrefix("100\\%\\_", PageRequest.of(0, 5));
+    }
+
+    @Test
+    void suggest_ShouldOnlyLowerCaseThePrefix_ForTheDatabase() {
+        // Arrange
+        when(suggestProperties.getMaxLimit()).thenReturn(50);
+        when(titlePrefixIndex.isReady()).thenReturn(false);
+
+        // Act
+        taskService.suggest("Fix  L", 5);
+
+        // Assert: whitespace is kept, as LOWER(t.title) keeps it
+        verify(taskRepository).suggestByTitlePrefix("fix  l", PageRequest.of(0, 5));
+    }
+
+    @Test
+    void suggest_ShouldThrowIllegalArgumentException_WhenLimitIsTooLarge() {
+        // Arrange
+        when(suggestProperties.getMaxLimit()).thenReturn(50);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.suggest("fix", 51));
+        verifyNoInteractions(titlePrefixIndex);
+    }
+
+    @Test
+    void update_ShouldPublishOldAndNewTitle() {
+        // Arrange
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenReturn(testTask);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        taskService.update(10L, testTaskRequest);
+
+        // Assert
+        TaskChangedEvent event = publishedChanges().get(0);
+        assertEquals("Initial Task", event.getOldTitle());
+        assertEquals(testTaskRequest.getTitle(), event.getTitle());
+        verifyNoInteractions(titlePrefixIndex, searchResultCache);
+    }
+
+    @Test
+    void markAsCompleted_ShouldPublishTheCompletedTask() {
+        // Arrange
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenReturn(testTask);
+
+        // Act
+        taskService.markAsCompleted(10L, true);
+
+        // Assert
+        TaskChangedEvent event = publishedChanges().get(0);
+        assertEquals(AuditAction.UPDATED, event.getAction());
+        assertTrue(event.isCompleted());
+    }
+
+    @Test
+    void findAll_ShouldUseProjection_WhenFieldsAreRequested() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.ASC);
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE);
+        Tuple row = mock(Tuple.class);
+        Page<Tuple> tuplePage = new PageImpl<>(Collections.singletonList(row), request.toPageable(), 1);
+
+        when(taskRepository.findProjected(isNull(), eq(fields), eq(request.toPageable()))).thenReturn(tuplePage);
+        when(taskMapper.toResponsePage(tuplePage, fields))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), request.toPageable(), 1));
+
+        // Act
+        Page<TaskResponse> result = taskService.findAll(request, new TaskListOptions("title", false, CountStrategy.EXACT));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+        verify(taskMapper, never()).toResponseDTO(any(Task.class));
+    }
+
+    @Test
+    void findByCompleted_ShouldReadTaskView_WhenArchivedTasksAreIncluded() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.ASC);
+        TaskView row = new TaskView();
+        Page<TaskView> viewPage = new PageImpl<>(Collections.singletonList(row), request.toPageable(), 1);
+        when(taskViewRepository.findAll(any(Specification.class), eq(request.toPageable()))).thenReturn(viewPage);
+        when(taskMapper.toResponseDTO(row)).thenReturn(testTaskResponse);
+
+        // Act
+        Page<TaskResponse> result = taskService.findByCompleted(true, request,
+                new TaskListOptions(null, true, CountStrategy.EXACT));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void findByPriority_ShouldFilterOnBothColumns_WhenCompletedIsGiven() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "dueDate", Sort.Direction.ASC);
+        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), request.toPageable(), 1);
+        when(taskRepository.findByCompletedAndPriority(false, Priority.HIGH, request.toPageable())).thenReturn(taskPage);
+        when(taskMapper.toResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), request.toPageable(), 1));
+
+        // Act
+        Page<TaskResponse> result = taskService.findByPriority(Priority.HIGH, false, request, null);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(taskRepository, never()).findByPriority(any(Priority.class), any(Pageable.class));
+    }
+
+    @Test
+    void findByCompleted_ShouldSkipCount_WhenCountStrategyIsNone() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.ASC);
+        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), request.toPageable(), 11);
+        when(taskRepository.findPage(eq(Task.class), any(Specification.class), eq(request.toPageable()), isNull()))
+                .thenReturn(taskPage);
+        when(taskMapper.toResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), request.toPageable(), 11));
+
+        // Act
+        Page<TaskResponse> result = taskService.findByCompleted(true, request,
+                new TaskListOptions(null, false, CountStrategy.NONE));
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        verify(taskRepository, never()).findByCompleted(anyBoolean(), any(Pageable.class));
+        verifyNoInteractions(countEstimator);
+    }
+
+    @Test
+    void findAll_ShouldEstimateFromTableStatistics_WhenCountStrategyIsEstimated() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.ASC);
+        ArgumentCaptor<LongSupplier> total = ArgumentCaptor.forClass(LongSupplier.class);
+        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), request.toPageable(), 5000);
+        when(taskRepository.findPage(eq(Task.class), isNull(), eq(request.toPageable()), total.capture()))
+                .thenReturn(taskPage);
+        when(taskMapper.toResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), request.toPageable(), 5000));
+        when(countEstimator.estimateTables(eq("all"), any(LongSupplier.class), eq("tasks"))).thenReturn(5000L);
+
+        // Act
+        taskService.findAll(request, new TaskListOptions(null, false, CountStrategy.ESTIMATED));
+        long estimate = total.getValue().getAsLong();
+
+        // Assert
+        assertEquals(5000, estimate);
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+        verify(taskRepository, never()).countMatching(any(), any());
+    }
+
+    @Test
+    void query_ShouldRunSingleSpecificationQuery_WhenFiltersAreCombined() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "dueDate", Sort.Direction.ASC);
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setCompleted(false);
+        query.setPriority(EnumSet.of(Priority.HIGH));
+        query.setUserId(7L);
+        query.setDueFrom(testDueDate);
+        query.setDueTo(testDueDate.plusDays(7));
+
+        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), request.toPageable(), 1);
+        when(taskRepository.findAll(any(Specification.class), eq(request.toPageable()))).thenReturn(taskPage);
+        when(taskMapper.toResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testTaskResponse), request.toPageable(), 1));
+
+        // Act
+        Page<TaskResponse> result = taskService.query(query, request, null);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(taskRepository, times(1)).findAll(any(Specification.class), eq(request.toPageable()));
+    }
+
+    @Test
+    void query_ShouldShareCountKey_WhenFiltersDifferOnlyInTextCaseAndPriorityOrder() {
+        // Arrange
+        PaginationRequest request = new PaginationRequest(0, 10, "id", Sort.Direction.ASC);
+        TaskQueryRequest first = new TaskQueryRequest();
+        first.setPriority(new LinkedHashSet<>(List.of(Priority.HIGH, Priority.LOW)));
+        first.setText("  Report ");
+        TaskQueryRequest second = new TaskQueryRequest();
+        second.setPriority(new LinkedHashSet<>(List.of(Priority.LOW, Priority.HIGH)));
+        second.setText("report");
+        ArgumentCaptor<LongSupplier> total = ArgumentCaptor.forClass(LongSupplier.class);
+        when(taskRepository.findPage(eq(Task.class), any(Specification.class), eq(request.toPageable()), total.capture()))
+                .thenReturn(Page.empty(request.toPageable()));
+        when(taskMapper.toResponsePage(any(Page.class))).thenReturn(Page.empty(request.toPageable()));
+        TaskListOptions estimated = new TaskListOptions(null, false, CountStrategy.ESTIMATED);
+
+        // Act
+        taskService.query(first, request, estimated);
+        total.getValue().getAsLong();
+        taskService.query(second, request, estimated);
+        total.getValue().getAsLong();
+
+        // Assert
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(countEstimator, times(2)).estimate(keys.capture(), any(LongSupplier.class));
+        assertEquals("query:priority=[LOW, HIGH]:text=report", keys.getAllValues().get(0));
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+    }
+
+    @Test
+    void query_ShouldThrowIllegalArgumentException_WhenDueRangeIsInverted() {
+        // Arrange
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setDueFrom(testDueDate.plusDays(1));
+        query.setDueTo(testDueDate);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.query(query, new PaginationRequest(), null));
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
     // --- DELETE TESTS ---
 
     @Test
@@ -279,6 +799,10 @@ public class TaskServiceTest {
 
         // Assert
         verify(taskRepository, times(1)).deleteById(taskId);
+        TaskChangedEvent event = publishedChanges().get(0);
+        assertTrue(event.isDeleted());
+        assertEquals("Initial Task", event.getOldTitle());
+        assertNull(event.getTitle());
     }
 
     @Test
@@ -0,0 +1,91 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.RecurringProperties;
+import com.TaskManagement.TaskManagement.dto.request.TaskTemplateRequest;
+import com.TaskManagement.TaskManagement.dto.response.TaskTemplateResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.TaskTemplate;
+import com.TaskManagement.TaskManagement.mapper.TaskTemplateMapper;
+import com.TaskManagement.TaskManagement.repository.TaskTemplateRepository;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskTemplateServiceTest {
+
+    // A Monday
+    private static final LocalDateTime START = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Mock
+    private TaskTemplateRepository templateRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Spy
+    private TaskTemplateMapper templateMapper;
+    @Spy
+    private RecurringProperties properties;
+
+    @InjectMocks
+    private TaskTemplateService templateService;
+
+    @Test
+    void create_ShouldStoreFirstOccurrenceAfterStart() {
+        // Arrange
+        TaskTemplateRequest request = new TaskTemplateRequest("Standup", null, Priority.LOW, null,
+                "0 0 9 * * MON-FRI", START);
+        when(templateRepository.save(any(TaskTemplate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        TaskTemplateResponse response = templateService.create(request);
+
+        // Assert
+        assertEquals(List.of(START.plusDays(1).withHour(9)), response.getUpcoming());
+        verify(templateRepository).save(argThat(template -> START.plusDays(1).withHour(9).equals(template.getNextDueAt())));
+    }
+
+    @Test
+    void create_ShouldRejectInvalidCron_AndUnknownUser() {
+        // Arrange
+        TaskTemplateRequest invalid = new TaskTemplateRequest("Standup", null, Priority.LOW, null, "every monday", START);
+        TaskTemplateRequest unknownUser = new TaskTemplateRequest("Standup", null, Priority.LOW, 42L,
+                "0 0 9 * * MON", START);
+        when(userRepository.existsById(42L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> templateService.create(invalid));
+        assertThrows(NoSuchElementException.class, () -> templateService.create(unknownUser));
+        verify(templateRepository, never()).save(any());
+    }
+
+    @Test
+    void findById_ShouldListUpcomingOccurrences() {
+        // Arrange
+        TaskTemplate template = new TaskTemplate();
+        template.setId(1L);
+        template.setCron("0 0 9 * * MON");
+        template.setNextDueAt(START.plusDays(7).withHour(9));
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template));
+
+        // Act
+        TaskTemplateResponse response = templateService.findById(1L, 3);
+
+        // Assert
+        assertEquals(List.of(START.plusDays(7).withHour(9), START.plusDays(14).withHour(9), START.plusDays(21).withHour(9)),
+                response.getUpcoming());
+        assertThrows(IllegalArgumentException.class, () -> templateService.findById(1L, 51));
+    }
+}
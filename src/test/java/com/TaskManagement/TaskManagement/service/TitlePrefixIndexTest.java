@@ -0,0 +1,125 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.SuggestProperties;
+import com.TaskManagement.TaskManagement.dto.response.TaskSuggestionResponse;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The rebuild reads in its own transaction, so the rows must be committed first
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TitlePrefixIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TitlePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        meterRegistry = new SimpleMeterRegistry();
+        index = new TitlePrefixIndex(jdbcTemplate, transactionManager, new SuggestProperties(), meterRegistry);
+    }
+
+    private Long save(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setPriority(Priority.MEDIUM);
+        task.setDueDate(LocalDateTime.of(2030, 1, 1, 10, 0));
+        return taskRepository.save(task).getId();
+    }
+
+    private List<String> titles(String prefix, int limit) {
+        return index.suggest(TitlePrefixIndex.normalizePrefix(prefix), limit).stream()
+                .map(TaskSuggestionResponse::getTitle)
+                .toList();
+    }
+
+    @Test
+    void rebuild_ShouldIndexLiveTasks_InTitleOrder() {
+        // Arrange
+        save("Fix login page");
+        save("fix  Logout");
+        save("Fixture cleanup");
+        save("Write docs");
+        Long deleted = save("Fix deleted");
+        taskRepository.deleteById(deleted);
+
+        // Act
+        int read = index.rebuild();
+
+        // Assert
+        assertEquals(4, read);
+        assertTrue(index.isReady());
+        assertEquals(List.of("Fix login page", "fix  Logout", "Fixture cleanup"), titles("FIX", 10));
+        assertEquals(List.of("Fix login page", "fix  Logout"), titles("  fix l", 10));
+        assertEquals(List.of("Fix login page"), titles("fix ", 1));
+        assertEquals(List.of(), titles("zzz", 10));
+        assertEquals(4.0, meterRegistry.get("suggest.index.size").gauge().value());
+    }
+
+    @Test
+    void suggestByTitlePrefix_ShouldFindATitleWithDoubleSpaces_UntilTheIndexIsBuilt() {
+        // Arrange
+        save("Fix  login page");
+        save("Fix logout");
+
+        // Act: the database fallback compares lower-cased titles, whitespace as stored
+        List<String> typedAsStored = taskRepository.suggestByTitlePrefix("fix  l", PageRequest.of(0, 10)).stream()
+                .map(TaskSuggestionResponse::getTitle)
+                .toList();
+
+        // Assert
+        assertEquals(List.of("Fix  login page"), typedAsStored);
+        assertEquals(2, taskRepository.suggestByTitlePrefix("fix", PageRequest.of(0, 10)).size());
+    }
+
+    @Test
+    void changes_ShouldApplyRightAway_OutsideTransaction() {
+        // Arrange
+        index.rebuild();
+
+        // Act
+        index.add(1L, "Plan release");
+        index.add(2L, "Plan sprint");
+        index.replace(1L, "Plan release", "Ship release");
+        index.remove(2L, "Plan sprint");
+
+        // Assert
+        assertEquals(List.of(), titles("plan", 10));
+        List<TaskSuggestionResponse> shipped = index.suggest("ship", 10);
+        assertEquals(1, shipped.size());
+        assertEquals(1L, shipped.get(0).getId());
+    }
+
+    @Test
+    void normalize_ShouldLowerCaseAndCollapseWhitespace() {
+        // Act & Assert
+        assertEquals("fix login", TitlePrefixIndex.normalize("  Fix \t LOGIN "));
+        assertEquals("fix ", TitlePrefixIndex.normalizePrefix(" Fix  "));
+    }
+}
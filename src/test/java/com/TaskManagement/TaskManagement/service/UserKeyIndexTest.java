@@ -0,0 +1,118 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.UserIndexProperties;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserKeyIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserIndexProperties properties;
+    private UserKeyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UserIndexProperties();
+        index = new UserKeyIndex(jdbcTemplate, transactionManager, properties, meterRegistry);
+    }
+
+    private Long save(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("hashed-password");
+        return userRepository.save(user).getId();
+    }
+
+    @Test
+    void rebuild_ShouldMapUsernamesAndEmailsToIds() {
+        // Arrange
+        Long alice = save("alice", "alice@example.com");
+        save("bob", "bob@example.com");
+
+        // Act
+        int read = index.rebuild();
+
+        // Assert
+        assertEquals(2, read);
+        assertTrue(index.isReady());
+        assertEquals(alice, index.findIdByUsername("alice"));
+        assertEquals(alice, index.findIdByEmail("alice@example.com"));
+        assertNull(index.findIdByUsername("carol"));
+        assertEquals(2.0, meterRegistry.get("user.index.size").gauge().value());
+        assertTrue(meterRegistry.get("user.index.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void changes_ShouldKeepIndexConsistent() {
+        // Arrange
+        Long alice = save("alice", "alice@example.com");
+        index.rebuild();
+
+        // Act
+        index.add(42L, "dave", "dave@example.com");
+        index.replace(alice, "alice", "alice@example.com", "alice2", "alice@example.com");
+        index.remove(42L, "dave", "dave@example.com");
+
+        // Assert
+        assertNull(index.findIdByUsername("alice"));
+        assertEquals(alice, index.findIdByUsername("alice2"));
+        assertEquals(alice, index.findIdByEmail("alice@example.com"));
+        assertNull(index.findIdByUsername("dave"));
+        assertNull(index.findIdByEmail("dave@example.com"));
+    }
+
+    @Test
+    void lookups_ShouldMostlyEndAtTheFilter() {
+        // Arrange
+        save("alice", "alice@example.com");
+        index.rebuild();
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            index.findIdByUsername("free-name-" + i);
+        }
+
+        // Assert
+        double filterMisses = meterRegistry.get("user.index.lookups").tag("result", "filter_miss").counter().count();
+        assertTrue(filterMisses > 950, "filter misses: " + filterMisses);
+    }
+
+    @Test
+    void isReady_ShouldBeFalse_WhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        int read = index.rebuild();
+
+        // Assert
+        assertEquals(-1, read);
+        assertFalse(index.isReady());
+    }
+}
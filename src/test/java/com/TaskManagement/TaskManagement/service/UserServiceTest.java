@@ -1,12 +1,18 @@
 package com.TaskManagement.TaskManagement.service;
 
 
+import com.TaskManagement.TaskManagement.config.UserIndexProperties;
 import com.TaskManagement.TaskManagement.dto.request.PaginationRequest;
 import com.TaskManagement.TaskManagement.dto.request.RoleUpdateRequest;
 import com.TaskManagement.TaskManagement.dto.request.UserRequest;
+import com.TaskManagement.TaskManagement.dto.response.AvailabilityResponse;
 import com.TaskManagement.TaskManagement.dto.response.UserResponse;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
 import com.TaskManagement.TaskManagement.entity.Role;
 import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.TasksReassignedEvent;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import com.TaskManagement.TaskManagement.exception.UserAlreadyExistsException;
 import com.TaskManagement.TaskManagement.exception.UserNotFoundException;
 import com.TaskManagement.TaskManagement.mapper.UserMapper;
 import com.TaskManagement.TaskManagement.repository.UserRepository;
@@ -14,9 +20,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,6 +32,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +49,14 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
+    private UserKeyIndex userKeyIndex;
+    @Mock
+    private UserIndexProperties userIndexProperties;
+    @Mock
+    private TaskReassignmentService taskReassignmentService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private PaginationRequest mockPaginationRequest;
 
     @InjectMocks
@@ -79,6 +96,13 @@ class UserServiceTest {
         roleUpdateRequest = new RoleUpdateRequest(Role.TEAM_LEADER);
     }
 
+    // Events of the given type published so far, in order
+    private <T> List<T> published(Class<T> type) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues().stream().filter(type::isInstance).map(type::cast).toList();
+    }
+
     // --- SECURITY CONTRACT (UserDetailsService) TESTS ---
 
     @Test
@@ -106,6 +130,19 @@ class UserServiceTest {
                 () -> userService.loadUserByUsername("nonexistent"));
     }
 
+    @Test
+    void loadUserByUsername_ShouldSkipDatabase_WhenIndexRejectsUnknownUsername() {
+        // Arrange
+        when(userIndexProperties.isRejectUnknownUsernames()).thenReturn(true);
+        when(userKeyIndex.isReady()).thenReturn(true);
+        when(userKeyIndex.findIdByUsername("nonexistent")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class,
+                () -> userService.loadUserByUsername("nonexistent"));
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
     // --- REGISTRATION & BASIC CRUD TESTS ---
 
     @Test
@@ -123,6 +160,59 @@ class UserServiceTest {
         assertEquals(testUserResponse.getUsername(), result.getUsername());
         verify(passwordEncoder, times(1)).encode("rawPassword123");
         verify(userRepository, times(1)).save(testUser);
+        UserChangedEvent event = published(UserChangedEvent.class).get(0);
+        assertEquals(AuditAction.CREATED, event.getAction());
+        assertNull(event.getOldUsername());
+        assertEquals("testuser", event.getUsername());
+        assertEquals("test@example.com", event.getEmail());
+    }
+
+    @Test
+    void registerUser_ShouldRejectTakenUsername_BeforeHashing() {
+        // Arrange
+        when(userKeyIndex.isReady()).thenReturn(true);
+        when(userKeyIndex.findIdByUsername("testuser")).thenReturn(7L);
+
+        // Act & Assert
+        assertThrows(UserAlreadyExistsException.class, () -> userService.registerUser(testUserRequest));
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void checkAvailability_ShouldAnswerFromIndex_WhenReady() {
+        // Arrange
+        when(userKeyIndex.isReady()).thenReturn(true);
+        when(userKeyIndex.findIdByUsername("testuser")).thenReturn(1L);
+        when(userKeyIndex.findIdByEmail("free@example.com")).thenReturn(null);
+
+        // Act
+        AvailabilityResponse result = userService.checkAvailability("testuser", "free@example.com");
+
+        // Assert
+        assertFalse(result.getUsername());
+        assertTrue(result.getEmail());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void checkAvailability_ShouldFallBackToDatabase_UntilIndexIsBuilt() {
+        // Arrange
+        when(userKeyIndex.isReady()).thenReturn(false);
+        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+
+        // Act
+        AvailabilityResponse result = userService.checkAvailability("testuser", null);
+
+        // Assert
+        assertFalse(result.getUsername());
+        assertNull(result.getEmail());
+    }
+
+    @Test
+    void checkAvailability_ShouldThrow_WhenNothingToCheck() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.checkAvailability(" ", null));
     }
 
     @Test
@@ -171,6 +261,11 @@ class UserServiceTest {
         assertEquals("new@email.com", testUser.getEmail());
         assertEquals("rawPassword123", testUser.getPassword());
         verify(userRepository, times(1)).save(testUser);
+        UserChangedEvent event = published(UserChangedEvent.class).get(0);
+        assertEquals("testuser", event.getOldUsername());
+        assertEquals("test@example.com", event.getOldEmail());
+        assertEquals("new_username", event.getUsername());
+        assertEquals("new@email.com", event.getEmail());
     }
 
     @Test
@@ -190,20 +285,70 @@ class UserServiceTest {
         // Assert
         assertEquals(Role.TEAM_LEADER, userBefore.getRole());
         verify(userRepository, times(1)).save(userBefore);
+        assertEquals(Role.TEAM_LEADER, published(UserChangedEvent.class).get(0).getRole());
     }
 
     // --- DELETE TESTS ---
 
+    // Runs the delete step the way the last batch would
+    private void reassignmentMoves(int tasks) {
+        when(taskReassignmentService.reassignAll(anyLong(), any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return tasks;
+        });
+    }
+
     @Test
     void deleteUser_ShouldCallRepositoryDelete_WhenUserExists() {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        reassignmentMoves(0);
 
         // Act
-        userService.deleteUser(1L);
+        userService.deleteUser(1L, null);
 
         // Assert
+        verify(taskReassignmentService).reassignAll(eq(1L), isNull(), any(Runnable.class));
         verify(userRepository, times(1)).deleteById(1L);
+        UserChangedEvent event = published(UserChangedEvent.class).get(0);
+        assertTrue(event.isDeleted());
+        assertEquals("testuser", event.getOldUsername());
+        assertNull(event.getTasksMovedTo());
+        verify(eventPublisher, never()).publishEvent(any(TasksReassignedEvent.class));
+    }
+
+    @Test
+    void deleteUser_ShouldReassignTasksAndPublishOneEvent() {
+        // Arrange
+        User assignee = new User();
+        assignee.setId(2L);
+        assignee.setUsername("heir");
+        assignee.setEmail("heir@example.com");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
+        reassignmentMoves(50_000);
+
+        // Act
+        int moved = userService.deleteUser(1L, 2L);
+
+        // Assert
+        assertEquals(50_000, moved);
+        verify(taskReassignmentService).reassignAll(eq(1L), eq(2L), any(Runnable.class));
+        List<TasksReassignedEvent> events = published(TasksReassignedEvent.class);
+        assertEquals(1, events.size());
+        assertEquals("heir", events.get(0).getToUsername());
+        assertEquals(50_000, events.get(0).getTaskCount());
+        assertEquals(2L, published(UserChangedEvent.class).get(0).getTasksMovedTo());
+    }
+
+    @Test
+    void deleteUser_ShouldRejectReassigningToSelf() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.deleteUser(1L, 1L));
+        verifyNoInteractions(taskReassignmentService);
     }
 
     @Test
@@ -212,7 +357,7 @@ class UserServiceTest {
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(UserNotFoundException.class, () -> userService.deleteUser(99L));
+        assertThrows(UserNotFoundException.class, () -> userService.deleteUser(99L, null));
         verify(userRepository, never()).deleteById(anyLong());
     }
 
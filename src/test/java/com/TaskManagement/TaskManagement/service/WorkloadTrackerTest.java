@@ -0,0 +1,164 @@
+package com.TaskManagement.TaskManagement.service;
+
+import com.TaskManagement.TaskManagement.config.WorkloadProperties;
+import com.TaskManagement.TaskManagement.entity.AuditAction;
+import com.TaskManagement.TaskManagement.entity.Priority;
+import com.TaskManagement.TaskManagement.entity.Role;
+import com.TaskManagement.TaskManagement.entity.Task;
+import com.TaskManagement.TaskManagement.entity.User;
+import com.TaskManagement.TaskManagement.event.TaskChangedEvent;
+import com.TaskManagement.TaskManagement.event.UserChangedEvent;
+import com.TaskManagement.TaskManagement.repository.TaskRepository;
+import com.TaskManagement.TaskManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The tracker reads committed rows, so the test itself must not hold a transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkloadTrackerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadTracker tracker;
+    private User alice;
+    private User bob;
+    private User lead;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new WorkloadTracker(jdbcTemplate, transactionManager, new WorkloadProperties(), meterRegistry,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        alice = saveUser("alice", Role.USER);
+        bob = saveUser("bob", Role.USER);
+        lead = saveUser("lead", Role.TEAM_LEADER);
+    }
+
+    private User saveUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("hashed-password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Task saveTask(User user, Priority priority, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setUser(user);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    void rebuild_ShouldWeighPriorityAndDueDate() {
+        // Arrange
+        saveTask(alice, Priority.HIGH, NOW.plusDays(30));
+        saveTask(bob, Priority.LOW, NOW.plusDays(30));
+        saveTask(bob, Priority.MEDIUM, NOW.plusDays(1));
+        Task done = saveTask(bob, Priority.HIGH, NOW.plusDays(30));
+        done.setCompleted(true);
+        taskRepository.save(done);
+
+        // Act
+        int read = tracker.rebuild();
+
+        // Assert
+        assertEquals(3, read);
+        assertEquals(4, tracker.loadOf(alice.getId()));
+        assertEquals(1 + 2 * 2, tracker.loadOf(bob.getId()));
+        assertEquals(2.0, meterRegistry.get("workload.eligible.users").gauge().value());
+    }
+
+    @Test
+    void reserveLeastLoaded_ShouldSpreadTasks_AndSkipIneligibleUsers() {
+        // Arrange
+        saveTask(alice, Priority.MEDIUM, NOW.plusDays(30));
+        tracker.rebuild();
+
+        // Act
+        Optional<Long> first = tracker.reserveLeastLoaded(saveTask(null, Priority.MEDIUM, NOW.plusDays(30)));
+        Optional<Long> second = tracker.reserveLeastLoaded(saveTask(null, Priority.HIGH, NOW.plusDays(30)));
+
+        // Assert
+        assertEquals(bob.getId(), first.orElseThrow());
+        assertEquals(alice.getId(), second.orElseThrow());
+        assertEquals(2 + 4, tracker.loadOf(alice.getId()));
+        assertEquals(2, tracker.loadOf(bob.getId()));
+        assertEquals(0, tracker.loadOf(lead.getId()));
+    }
+
+    @Test
+    void reserveLeastLoaded_ShouldRestoreLoad_WhenTransactionRollsBack() {
+        // Arrange
+        tracker.rebuild();
+        Task task = saveTask(null, Priority.HIGH, NOW.plusDays(30));
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tracker.reserveLeastLoaded(task);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(0, tracker.loadOf(alice.getId()));
+        assertEquals(0, tracker.loadOf(bob.getId()));
+    }
+
+    @Test
+    void changes_ShouldKeepLoadsCurrent() {
+        // Arrange
+        Task task = saveTask(alice, Priority.HIGH, NOW.plusDays(30));
+        saveTask(alice, Priority.LOW, NOW.plusDays(30));
+        tracker.rebuild();
+
+        // Act: the events TaskService and UserService publish
+        task.setCompleted(true);
+        tracker.onTaskChanged(TaskChangedEvent.of(task, AuditAction.UPDATED, Map.of()));
+        long afterCompletion = tracker.loadOf(alice.getId());
+        tracker.onUserChanged(UserChangedEvent.deleted(alice, bob.getId()));
+        bob.setRole(Role.TEAM_LEADER);
+        tracker.onUserChanged(UserChangedEvent.of(bob, AuditAction.UPDATED, Map.of()));
+
+        // Assert
+        assertEquals(1, afterCompletion);
+        assertEquals(0, tracker.loadOf(alice.getId()));
+        assertEquals(1, tracker.loadOf(bob.getId()));
+        assertTrue(tracker.reserveLeastLoaded(saveTask(null, Priority.LOW, null)).isEmpty());
+    }
+}